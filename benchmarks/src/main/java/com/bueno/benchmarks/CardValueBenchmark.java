@@ -0,0 +1,82 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.TrucoCard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardValueBenchmark {
+
+    private Card[] cards;
+    private TrucoCard[] trucoCards;
+
+    @Setup
+    public void setUp() {
+        final List<Card> domainCards = new ArrayList<>();
+        final List<TrucoCard> spiCards = new ArrayList<>();
+        for (Rank rank : Rank.values()) {
+            if (rank == Rank.HIDDEN) continue;
+            for (Suit suit : Suit.values()) {
+                if (suit == Suit.HIDDEN) continue;
+                domainCards.add(Card.of(rank, suit));
+                spiCards.add(TrucoCard.of(CardRank.ofSymbol(rank.toString()), CardSuit.ofSymbol(suit.toString())));
+            }
+        }
+        cards = domainCards.toArray(Card[]::new);
+        trucoCards = spiCards.toArray(TrucoCard[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1600)
+    public int compareValueToAllPairs() {
+        int sum = 0;
+        final Card vira = cards[7];
+        for (Card card : cards)
+            for (Card other : cards)
+                sum += card.compareValueTo(other, vira);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1600)
+    public int relativeValueAllViras() {
+        int sum = 0;
+        for (TrucoCard vira : trucoCards)
+            for (TrucoCard card : trucoCards)
+                sum += card.relativeValue(vira);
+        return sum;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deck;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeckBenchmark {
+
+    @Benchmark
+    public Deck shuffle() {
+        final Deck deck = new Deck();
+        deck.shuffle();
+        return deck;
+    }
+
+    @Benchmark
+    public void shuffleAndDeal(Blackhole blackhole) {
+        final Deck deck = new Deck();
+        deck.shuffle();
+        final Card vira = deck.takeOne();
+        blackhole.consume(vira);
+        blackhole.consume(deck.take(3));
+        blackhole.consume(deck.take(3));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameConverterBenchmark {
+
+    private Game game;
+    private GameDto dto;
+
+    @Setup
+    public void setUp() {
+        game = GameStates.lateGame();
+        dto = GameConverter.toDto(game);
+    }
+
+    @Benchmark
+    public GameDto toDto() {
+        return GameConverter.toDto(game);
+    }
+
+    @Benchmark
+    public Game fromDto() {
+        return GameConverter.fromDto(dto);
+    }
+
+    //The benchmarks above convert the same game again, so its finished hands come from the converter cache. These
+    //drop the cached hands first and convert every hand, as the first conversion of a game does.
+    @Benchmark
+    public GameDto toDtoUncached() {
+        GameConverter.evict(game.getUuid());
+        return GameConverter.toDto(game);
+    }
+
+    @Benchmark
+    public Game fromDtoUncached() {
+        GameConverter.evict(dto.gameUuid());
+        return GameConverter.fromDto(dto);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+
+import java.util.UUID;
+
+public final class GameStates {
+
+    private GameStates() {
+    }
+
+    public static Game lateGame() {
+        Game game = new Game(Player.of(UUID.randomUUID(), "Player1"), Player.of(UUID.randomUUID(), "Player2"));
+        while (!isLateGame(game)) game = step(game);
+        return step(game);
+    }
+
+    private static boolean isLateGame(Game game) {
+        final Hand hand = game.currentHand();
+        final int maxScore = Math.max(game.getPlayer1().getScore(), game.getPlayer2().getScore());
+        return maxScore >= 9 && hand.getOpenCards().size() == 1 && hand.getPossibleActions().contains(PossibleAction.PLAY);
+    }
+
+    private static Game step(Game game) {
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+
+        if (hand.getPossibleActions().contains(PossibleAction.PLAY)) {
+            final Card card = player.play(player.getCards().get(0));
+            if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, card);
+            else hand.playSecondCard(player, card);
+        } else {
+            hand.accept(player);
+        }
+
+        if (hand.getResult().isEmpty()) return game;
+
+        game.updateScores();
+        final Game reloaded = GameConverter.fromDto(GameConverter.toDto(game));
+        reloaded.prepareNewHand();
+        return reloaded;
+    }
+}
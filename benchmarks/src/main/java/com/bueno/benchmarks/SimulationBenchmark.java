@@ -0,0 +1,60 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.usecases.game.service.SimulationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class SimulationBenchmark {
+
+    // Deals are not seeded and game length varies a lot, so each invocation plays a batch of
+    // games and the score is reported per game.
+    static final int GAMES = 50;
+
+    @Param({"DummyBot"})
+    public String bot1;
+
+    @Param({"DummyBot"})
+    public String bot2;
+
+    private SimulationService simulation;
+
+    @Setup
+    public void setUp() {
+        simulation = new SimulationService(UUID.randomUUID(), bot1, bot2);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public void fullGame(Blackhole blackhole) {
+        for (int i = 0; i < GAMES; i++) blackhole.consume(simulation.runInParallel(1));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.model.WinProbability;
+import com.bueno.spi.service.WinProbabilityEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WinProbabilityBenchmark {
+
+    private GameIntel firstRound;
+    private GameIntel secondRound;
+
+    @Setup
+    public void setUp() {
+        final TrucoCard vira = TrucoCard.of(CardRank.SEVEN, CardSuit.DIAMONDS);
+        firstRound = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(vira), vira, 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS),
+                        TrucoCard.of(CardRank.JACK, CardSuit.HEARTS),
+                        TrucoCard.of(CardRank.FIVE, CardSuit.SPADES)), 0)
+                .opponentScore(0)
+                .build();
+        final TrucoCard opponentCard = TrucoCard.of(CardRank.ACE, CardSuit.HEARTS);
+        secondRound = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(GameIntel.RoundResult.LOST), List.of(vira, TrucoCard.of(CardRank.TWO, CardSuit.SPADES),
+                        TrucoCard.of(CardRank.THREE, CardSuit.HEARTS), opponentCard), vira, 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.KING, CardSuit.CLUBS), TrucoCard.of(CardRank.QUEEN, CardSuit.SPADES)), 0)
+                .opponentScore(0)
+                .opponentCard(opponentCard)
+                .build();
+    }
+
+    @Benchmark
+    public WinProbability firstRound() {
+        return WinProbabilityEvaluator.evaluate(firstRound);
+    }
+
+    @Benchmark
+    public WinProbability secondRoundAgainstCard() {
+        return WinProbabilityEvaluator.evaluate(secondRound);
+    }
+}
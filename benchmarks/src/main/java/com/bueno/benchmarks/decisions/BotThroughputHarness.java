@@ -0,0 +1,247 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replays a corpus of recorded GameIntel inputs against every registered bot and reports, for each
+ * BotServiceProvider method, the decisions per second, the p99 latency and the bytes allocated per decision.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.bueno.benchmarks.decisions.BotThroughputHarness \
+ *      --games=500 --corpus=corpus.txt --csv=throughput.csv --bots=DummyBot,MineiroByBueno
+ * </pre>
+ *
+ * If the corpus file exists it is replayed as is; otherwise a new one is recorded from bot-vs-bot games among all
+ * registered bots and saved there, so later runs compare bots against the same inputs. A decision that takes longer
+ * than {@code --deadline} milliseconds is counted as an error and the rest of that method's corpus is skipped.
+ */
+public class BotThroughputHarness {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final long POLL_MILLIS = 50;
+
+    public static void main(String[] args) throws IOException {
+        final Map<String, String> options = parseOptions(args);
+        final int games = Integer.parseInt(options.getOrDefault("games", "300"));
+        final int warmupRounds = Integer.parseInt(options.getOrDefault("warmup", "2"));
+        final long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        final Duration deadline = Duration.ofMillis(Long.parseLong(options.getOrDefault("deadline", "5000")));
+        final Set<String> selectedBots = options.containsKey("bots")
+                ? Set.of(options.get("bots").split(",")) : Set.of();
+
+        final List<BotServiceProvider> allBots = BotServiceManager.providers().toList();
+        final List<BotServiceProvider> bots = allBots.stream()
+                .filter(bot -> selectedBots.isEmpty() || selectedBots.contains(bot.getName()))
+                .toList();
+
+        final PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            final GameIntelCorpus corpus = loadOrRecord(options.get("corpus"), allBots, games, seed, console);
+            final List<DecisionStats> stats = new ArrayList<>();
+            for (BotServiceProvider bot : bots) {
+                for (DecisionType type : DecisionType.values())
+                    stats.add(measure(bot, type, corpus, warmupRounds, deadline, console));
+            }
+            stats.sort(Comparator.comparingDouble(DecisionStats::decisionsPerSecond));
+            print(stats, console);
+            if (options.containsKey("csv")) writeCsv(stats, Path.of(options.get("csv")));
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    private static GameIntelCorpus loadOrRecord(String corpusFile, List<BotServiceProvider> bots, int games,
+                                                long seed, PrintStream console) throws IOException {
+        final Path path = corpusFile == null ? null : Path.of(corpusFile);
+        if (path != null && Files.exists(path)) {
+            final GameIntelCorpus corpus = GameIntelCorpus.load(path);
+            console.println("Loaded " + corpus.size() + " decisions from " + path);
+            return corpus;
+        }
+        final GameIntelCorpus corpus = new CorpusRecorder(bots, seed).record(games);
+        console.println("Recorded " + corpus.size() + " decisions from " + games + " games");
+        if (path != null) corpus.save(path);
+        return corpus;
+    }
+
+    static DecisionStats measure(BotServiceProvider bot, DecisionType type, GameIntelCorpus corpus, int warmupRounds,
+                                 Duration deadline, PrintStream console) {
+        final Measurement measurement = new Measurement(bot, type, corpus, warmupRounds);
+        final Thread worker = new Thread(measurement, "throughput-" + bot.getName() + "-" + type);
+        worker.setDaemon(true);
+        worker.start();
+        try {
+            while (worker.isAlive()) {
+                worker.join(POLL_MILLIS);
+                if (measurement.isOverdue(deadline.toNanos())) {
+                    worker.interrupt();
+                    measurement.abandon();
+                    console.println(bot.getName() + " " + type.methodName() + " exceeded the " + deadline.toMillis()
+                            + " ms deadline; its remaining decisions were skipped");
+                    return measurement.stats(deadline.toNanos(), THREADS.getThreadAllocatedBytes(worker.getId()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while measuring " + bot.getName(), e);
+        }
+        return measurement.stats(0, THREADS.getThreadAllocatedBytes(worker.getId()));
+    }
+
+    private static boolean invokeQuietly(BotServiceProvider bot, DecisionType type, GameIntel intel) {
+        try {
+            type.invoke(bot, intel);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs warm-up and measurement for one bot method on its own thread, so that a decision that never returns
+     * can be detected by the caller. Each pass decodes a new copy of the corpus, so no bot or pass sees GameIntel
+     * whose lazy analysis was already computed by an earlier one.
+     */
+    private static final class Measurement implements Runnable {
+
+        private final BotServiceProvider bot;
+        private final DecisionType type;
+        private final GameIntelCorpus corpus;
+        private final int warmupRounds;
+        private final long[] latencies;
+
+        private volatile long decisionStartedAt;
+        private volatile int measured;
+        private volatile int errors;
+        private volatile long allocatedBefore = -1;
+        private volatile long allocated = -1;
+        private volatile boolean abandoned;
+
+        private Measurement(BotServiceProvider bot, DecisionType type, GameIntelCorpus corpus, int warmupRounds) {
+            this.bot = bot;
+            this.type = type;
+            this.corpus = corpus;
+            this.warmupRounds = warmupRounds;
+            this.latencies = new long[corpus.sizeOf(type)];
+        }
+
+        @Override
+        public void run() {
+            for (int round = 0; round < warmupRounds; round++)
+                for (GameIntel intel : corpus.intelFor(type)) {
+                    if (abandoned) return;
+                    invoke(intel);
+                }
+
+            final List<GameIntel> intel = corpus.intelFor(type);
+            allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < latencies.length && !abandoned; i++) {
+                final long start = System.nanoTime();
+                if (!invoke(intel.get(i))) errors++;
+                latencies[i] = System.nanoTime() - start;
+                measured = i + 1;
+            }
+            allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+
+        private boolean invoke(GameIntel intel) {
+            decisionStartedAt = System.nanoTime();
+            try {
+                return invokeQuietly(bot, type, intel);
+            } finally {
+                decisionStartedAt = 0;
+            }
+        }
+
+        private boolean isOverdue(long deadlineNanos) {
+            final long startedAt = decisionStartedAt;
+            return startedAt != 0 && System.nanoTime() - startedAt > deadlineNanos;
+        }
+
+        private void abandon() {
+            abandoned = true;
+        }
+
+        private DecisionStats stats(long overdueNanos, long threadAllocated) {
+            final int decisions = measured;
+            final boolean hung = overdueNanos > 0;
+            final long[] sample = Arrays.copyOf(latencies, hung ? decisions + 1 : decisions);
+            if (hung) sample[decisions] = overdueNanos;
+            final long before = allocatedBefore;
+            final long bytes = allocated >= 0 ? allocated : before >= 0 ? threadAllocated - before : 0;
+            return DecisionStats.of(bot.getName(), type, sample, errors + (hung ? 1 : 0), bytes);
+        }
+    }
+
+    private static void print(List<DecisionStats> stats, PrintStream out) {
+        out.printf("%-28s %-22s %9s %7s %14s %12s %14s%n",
+                "Bot", "Method", "Decisions", "Errors", "Decisions/s", "p99 (us)", "Bytes/decision");
+        for (DecisionStats stat : stats) {
+            out.printf("%-28s %-22s %9d %7d %14.0f %12.2f %14.0f%n", stat.bot(), stat.type().methodName(),
+                    stat.decisions(), stat.errors(), stat.decisionsPerSecond(), stat.p99Micros(),
+                    stat.bytesPerDecision());
+        }
+    }
+
+    private static void writeCsv(List<DecisionStats> stats, Path file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println("bot,method,decisions,errors,decisions_per_second,p99_micros,bytes_per_decision");
+            for (DecisionStats stat : stats) {
+                writer.printf("%s,%s,%d,%d,%.2f,%.3f,%.1f%n", stat.bot(), stat.type().methodName(),
+                        stat.decisions(), stat.errors(), stat.decisionsPerSecond(), stat.p99Micros(),
+                        stat.bytesPerDecision());
+            }
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Options must be in the form --name=value: " + arg);
+            final int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
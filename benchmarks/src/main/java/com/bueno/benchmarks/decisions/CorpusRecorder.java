@@ -0,0 +1,125 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Plays bot-vs-bot games directly on the domain entities, asking the bots for every decision in the same order
+ * used by BotUseCase, and hands each GameIntel given to a bot to the consumer.
+ */
+public class CorpusRecorder {
+
+    private static final int MAX_STEPS_PER_GAME = 1_000;
+
+    private final List<BotServiceProvider> bots;
+    private final Random random;
+
+    public CorpusRecorder(List<BotServiceProvider> bots, long seed) {
+        if (bots.isEmpty()) throw new IllegalArgumentException("At least one bot is required.");
+        this.bots = List.copyOf(bots);
+        this.random = new Random(seed);
+    }
+
+    public GameIntelCorpus record(int games) {
+        final GameIntelCorpus corpus = new GameIntelCorpus();
+        for (int i = 0; i < games; i++) {
+            final BotServiceProvider bot1 = bots.get(random.nextInt(bots.size()));
+            final BotServiceProvider bot2 = bots.get(random.nextInt(bots.size()));
+            try {
+                play(bot1, bot2, corpus::add);
+            } catch (RuntimeException e) {
+                // A bot made an illegal move: keep the decisions recorded so far and start a new game.
+            }
+        }
+        return corpus;
+    }
+
+    private void play(BotServiceProvider bot1, BotServiceProvider bot2, Consumer<RecordedDecision> recorder) {
+        final Player player1 = Player.ofBot(bot1.getName());
+        final Player player2 = Player.ofBot(bot2.getName());
+        Game game = new Game(player1, player2);
+
+        for (int step = 0; step < MAX_STEPS_PER_GAME && !game.isDone(); step++) {
+            final Hand hand = game.currentHand();
+            final Player player = hand.getCurrentPlayer();
+            final BotServiceProvider bot = player.getUuid().equals(game.getPlayer1().getUuid()) ? bot1 : bot2;
+            decide(hand, player, bot, SpiModelAdapter.toGameIntel(player, game.getIntel()), recorder);
+
+            if (hand.getResult().isEmpty()) continue;
+            game.updateScores();
+            if (game.isDone()) break;
+            game = GameConverter.fromDto(GameConverter.toDto(game));
+            game.prepareNewHand();
+        }
+    }
+
+    private void decide(Hand hand, Player player, BotServiceProvider bot, GameIntel intel,
+                        Consumer<RecordedDecision> recorder) {
+        final EnumSet<PossibleAction> actions = hand.getPossibleActions();
+
+        if (hand.isMaoDeOnze() && hand.getPoints() == HandPoints.ONE && actions.contains(PossibleAction.ACCEPT)) {
+            recorder.accept(new RecordedDecision(DecisionType.GET_MAO_DE_ONZE_RESPONSE, intel));
+            if (bot.getMaoDeOnzeResponse(intel)) hand.accept(player);
+            else hand.quit(player);
+            return;
+        }
+
+        if (actions.contains(PossibleAction.QUIT)) {
+            recorder.accept(new RecordedDecision(DecisionType.GET_RAISE_RESPONSE, intel));
+            final int response = bot.getRaiseResponse(intel);
+            if (response < 0) hand.quit(player);
+            else if (response > 0 && actions.contains(PossibleAction.RAISE)) hand.raise(player);
+            else hand.accept(player);
+            return;
+        }
+
+        if (actions.contains(PossibleAction.RAISE)) {
+            recorder.accept(new RecordedDecision(DecisionType.DECIDE_IF_RAISES, intel));
+            if (bot.decideIfRaises(intel)) {
+                hand.raise(player);
+                return;
+            }
+        }
+
+        recorder.accept(new RecordedDecision(DecisionType.CHOOSE_CARD, intel));
+        final CardToPlay chosen = bot.chooseCard(intel);
+        final Card card = SpiModelAdapter.toCard(chosen.content());
+        final Card played = chosen.isDiscard() ? player.discard(card) : player.play(card);
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, played);
+        else hand.playSecondCard(player, played);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks.decisions;
+
+import java.util.Arrays;
+
+public record DecisionStats(String bot, DecisionType type, int decisions, int errors, double decisionsPerSecond,
+                            double p99Micros, double bytesPerDecision) {
+
+    static DecisionStats of(String bot, DecisionType type, long[] latenciesNanos, int errors, long allocatedBytes) {
+        final int decisions = latenciesNanos.length;
+        if (decisions == 0) return new DecisionStats(bot, type, 0, errors, 0, 0, 0);
+
+        long totalNanos = 0;
+        for (long latency : latenciesNanos) totalNanos += latency;
+        final long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        final int p99Index = Math.min(decisions - 1, (int) Math.ceil(decisions * 0.99) - 1);
+
+        return new DecisionStats(bot, type, decisions, errors,
+                decisions / (totalNanos / 1e9),
+                sorted[p99Index] / 1e3,
+                (double) allocatedBytes / decisions);
+    }
+}
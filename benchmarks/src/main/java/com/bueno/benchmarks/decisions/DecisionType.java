@@ -0,0 +1,50 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+
+public enum DecisionType {
+    CHOOSE_CARD("chooseCard"),
+    DECIDE_IF_RAISES("decideIfRaises"),
+    GET_RAISE_RESPONSE("getRaiseResponse"),
+    GET_MAO_DE_ONZE_RESPONSE("getMaoDeOnzeResponse");
+
+    private final String methodName;
+
+    DecisionType(String methodName) {
+        this.methodName = methodName;
+    }
+
+    public Object invoke(BotServiceProvider bot, GameIntel intel) {
+        return switch (this) {
+            case CHOOSE_CARD -> bot.chooseCard(intel);
+            case DECIDE_IF_RAISES -> bot.decideIfRaises(intel);
+            case GET_RAISE_RESPONSE -> bot.getRaiseResponse(intel);
+            case GET_MAO_DE_ONZE_RESPONSE -> bot.getMaoDeOnzeResponse(intel);
+        };
+    }
+
+    public String methodName() {
+        return methodName;
+    }
+}
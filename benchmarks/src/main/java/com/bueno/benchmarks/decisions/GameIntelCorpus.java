@@ -0,0 +1,137 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks.decisions;
+
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.GameIntel.RoundResult;
+import com.bueno.spi.model.TrucoCard;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameIntelCorpus {
+
+    private static final String FIELD_SEPARATOR = "|";
+    private static final String ITEM_SEPARATOR = ",";
+
+    // Kept encoded so every call to intelFor builds new GameIntel instances with empty analysis caches.
+    private final Map<DecisionType, List<String>> intelByType = new EnumMap<>(DecisionType.class);
+
+    public GameIntelCorpus() {
+        for (DecisionType type : DecisionType.values()) intelByType.put(type, new ArrayList<>());
+    }
+
+    public void add(RecordedDecision decision) {
+        intelByType.get(decision.type()).add(encode(decision.intel()));
+    }
+
+    public List<GameIntel> intelFor(DecisionType type) {
+        return intelByType.get(type).stream().map(GameIntelCorpus::decode).toList();
+    }
+
+    public int sizeOf(DecisionType type) {
+        return intelByType.get(type).size();
+    }
+
+    public int size() {
+        return intelByType.values().stream().mapToInt(List::size).sum();
+    }
+
+    public void save(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (var entry : intelByType.entrySet()) {
+                for (String intel : entry.getValue()) {
+                    writer.write(entry.getKey().name() + FIELD_SEPARATOR + intel);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    public static GameIntelCorpus load(Path file) throws IOException {
+        final GameIntelCorpus corpus = new GameIntelCorpus();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                final int separator = line.indexOf(FIELD_SEPARATOR);
+                final DecisionType type = DecisionType.valueOf(line.substring(0, separator));
+                corpus.intelByType.get(type).add(line.substring(separator + 1));
+            }
+        }
+        return corpus;
+    }
+
+    static String encode(GameIntel intel) {
+        return String.join(FIELD_SEPARATOR,
+                String.join(ITEM_SEPARATOR, intel.getRoundResults().stream().map(Enum::name).toList()),
+                encodeCards(intel.getCards()),
+                encodeCards(intel.getOpenCards()),
+                encodeCard(intel.getVira()),
+                String.valueOf(intel.getHandPoints()),
+                String.valueOf(intel.getScore()),
+                String.valueOf(intel.getOpponentScore()),
+                intel.getOpponentCard().map(GameIntelCorpus::encodeCard).orElse(""));
+    }
+
+    static GameIntel decode(String line) {
+        final String[] fields = line.split("\\|", -1);
+        final List<RoundResult> roundResults = split(fields[0]).stream().map(RoundResult::valueOf).toList();
+        return GameIntel.StepBuilder.with()
+                .gameInfo(roundResults, decodeCards(fields[2]), decodeCard(fields[3]), Integer.parseInt(fields[4]))
+                .botInfo(decodeCards(fields[1]), Integer.parseInt(fields[5]))
+                .opponentScore(Integer.parseInt(fields[6]))
+                .opponentCard(fields[7].isEmpty() ? null : decodeCard(fields[7]))
+                .build();
+    }
+
+    private static String encodeCards(List<TrucoCard> cards) {
+        return String.join(ITEM_SEPARATOR, cards.stream().map(GameIntelCorpus::encodeCard).toList());
+    }
+
+    private static String encodeCard(TrucoCard card) {
+        return card.getRank().toString() + card.getSuit().toString();
+    }
+
+    private static List<TrucoCard> decodeCards(String field) {
+        return split(field).stream().map(GameIntelCorpus::decodeCard).toList();
+    }
+
+    private static TrucoCard decodeCard(String symbols) {
+        final CardRank rank = CardRank.ofSymbol(symbols.substring(0, 1));
+        final CardSuit suit = CardSuit.ofSymbol(symbols.substring(1, 2));
+        return rank == CardRank.HIDDEN ? TrucoCard.closed() : TrucoCard.of(rank, suit);
+    }
+
+    private static List<String> split(String field) {
+        return field.isEmpty() ? List.of() : Arrays.asList(field.split(ITEM_SEPARATOR));
+    }
+}
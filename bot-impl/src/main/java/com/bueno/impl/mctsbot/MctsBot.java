@@ -0,0 +1,132 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.impl.mctsbot;
+
+import com.bueno.spi.model.CardSet;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.EndgameTable;
+
+import java.util.List;
+
+/**
+ * Information-set Monte Carlo tree search bot. Each iteration samples an opponent holding from the unseen cards,
+ * walks a tree shared by all samples and finishes the hand with a cheap rollout policy. Card choices follow the
+ * most visited move, and raise decisions use the estimated win rate of that move. Raises are not searched. Once a
+ * playout reaches a late-hand position, its outcome is read from the {@link EndgameTable} for the sampled holding
+ * instead of being rolled out.
+ * <p>
+ * The budget is configured with the {@value #ITERATIONS_PROPERTY}, {@value #TIME_BUDGET_PROPERTY} and
+ * {@value #THREADS_PROPERTY} system properties. The defaults (5000 iterations, 50 ms, one thread) keep bot-vs-bot
+ * evaluations cheap; raise them for stronger play against people. With more than one thread, rollouts run in
+ * independent trees, one per thread, whose root statistics are merged.
+ */
+public class MctsBot implements BotServiceProvider {
+
+    public static final String ITERATIONS_PROPERTY = "ctruco.mcts.iterations";
+    public static final String TIME_BUDGET_PROPERTY = "ctruco.mcts.timeBudgetMillis";
+    public static final String THREADS_PROPERTY = "ctruco.mcts.threads";
+
+    private static final double RAISE_THRESHOLD = 0.75;
+    private static final double RERAISE_THRESHOLD = 0.9;
+    private static final double ACCEPT_THRESHOLD = 0.5;
+    private static final double MAO_DE_ONZE_THRESHOLD = 0.55;
+
+    private final MctsSearch search;
+
+    public MctsBot() {
+        this(Integer.getInteger(ITERATIONS_PROPERTY, 5_000),
+                Long.getLong(TIME_BUDGET_PROPERTY, 50),
+                Integer.getInteger(THREADS_PROPERTY, 1),
+                System.nanoTime());
+    }
+
+    MctsBot(int iterations, long timeBudgetMillis, int threads, long seed) {
+        search = new MctsSearch(iterations, timeBudgetMillis, threads, seed, EndgameTable.generated());
+    }
+
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return search(intel).winRate() >= MAO_DE_ONZE_THRESHOLD;
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return intel.getHandPoints() < 12 && search(intel).winRate() >= RAISE_THRESHOLD;
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        final List<TrucoCard> cards = intel.getCards();
+        final TrucoCard vira = intel.getVira();
+        final int value = search(intel).value();
+        return cards.stream()
+                .filter(card -> valueOf(card, vira) == value)
+                .findFirst()
+                .map(CardToPlay::of)
+                .orElseGet(() -> CardToPlay.of(cards.get(0)));
+    }
+
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        final double winRate = search(intel).winRate();
+        if (winRate >= RERAISE_THRESHOLD && intel.getHandPoints() <= 3) return 1;
+        if (winRate >= ACCEPT_THRESHOLD) return 0;
+        return -1;
+    }
+
+    private MctsSearch.Result search(GameIntel intel) {
+        final TrucoCard vira = intel.getVira();
+        final TrucoCard opponentCard = intel.getOpponentCard().orElse(null);
+
+        final List<TrucoCard> openCards = intel.getOpenCards();
+        final int[] botValues = intel.getCards().stream().mapToInt(card -> valueOf(card, vira)).toArray();
+        final int[] roundResults = intel.getRoundResults().stream().mapToInt(MctsBot::codeOf).toArray();
+        final boolean ownCardOnTable = opponentCard == null && openCards.size() - 1 > 2 * roundResults.length;
+        final int table = opponentCard != null ? valueOf(opponentCard, vira)
+                : ownCardOnTable ? valueOf(openCards.get(openCards.size() - 1), vira) : 0;
+        if (botValues.length == 0 && !ownCardOnTable) return new MctsSearch.Result(0, 0.5, 0);
+
+        CardSet unseenCards = intel.getUnseenCardSet();
+        if (opponentCard != null) unseenCards = unseenCards.without(opponentCard);
+        final int[] unseen = new int[unseenCards.size()];
+        int index = 0;
+        for (TrucoCard card : unseenCards) unseen[index++] = valueOf(card, vira);
+
+        final int opponentCards = botValues.length + (ownCardOnTable ? 1 : 0) - (opponentCard == null ? 0 : 1);
+        final PlayoutState root = PlayoutState.of(botValues, roundResults, table, opponentCard == null);
+        return search.search(root, unseen, Math.max(0, Math.min(unseen.length, opponentCards)));
+    }
+
+    private static int valueOf(TrucoCard card, TrucoCard vira) {
+        return card.relativeValue(vira) + 1;
+    }
+
+    private static int codeOf(GameIntel.RoundResult result) {
+        return switch (result) {
+            case WON -> PlayoutState.WON;
+            case DREW -> PlayoutState.DREW;
+            case LOST -> PlayoutState.LOST;
+        };
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.impl.mctsbot;
+
+import com.bueno.spi.service.EndgameTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+final class MctsSearch {
+
+    private static final double EXPLORATION = 0.7;
+
+    // Extra trees run on a fixed pool of their own, never on the common ForkJoinPool shared with parallel
+    // simulations, and the calling thread always grows the first tree itself.
+    private static final class Workers {
+        private static final ExecutorService pool = Executors.newFixedThreadPool(
+                Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+                    final Thread thread = new Thread(runnable, "ctruco-mcts");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private final int iterations;
+    private final long timeBudgetNanos;
+    private final int threads;
+    private final SplittableRandom seeds;
+    private final EndgameTable endgame;
+
+    record Result(int value, double winRate, int iterations) {
+    }
+
+    MctsSearch(int iterations, long timeBudgetMillis, int threads, long seed, EndgameTable endgame) {
+        this.iterations = Math.max(1, iterations);
+        this.timeBudgetNanos = timeBudgetMillis <= 0 ? Long.MAX_VALUE : timeBudgetMillis * 1_000_000;
+        this.threads = Math.max(1, threads);
+        this.seeds = new SplittableRandom(seed);
+        this.endgame = endgame;
+    }
+
+    Result search(PlayoutState root, int[] unseen, int opponentCards) {
+        final long deadline = timeBudgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + timeBudgetNanos;
+        final SplittableRandom[] randoms = new SplittableRandom[threads];
+        synchronized (seeds) {
+            for (int i = 0; i < threads; i++) randoms[i] = seeds.split();
+        }
+        final int perThread = Math.max(1, iterations / threads);
+
+        final SearchNode[] trees = new SearchNode[threads];
+        final List<Future<SearchNode>> helpers = new ArrayList<>(threads - 1);
+        for (int i = 1; i < threads; i++) {
+            final SplittableRandom random = randoms[i];
+            helpers.add(Workers.pool.submit(() -> grow(root, unseen.clone(), opponentCards, random, perThread, deadline)));
+        }
+        trees[0] = grow(root, unseen.clone(), opponentCards, randoms[0], perThread, deadline);
+        for (int i = 1; i < threads; i++) trees[i] = join(helpers.get(i - 1));
+
+        int bestValue = 0;
+        int bestVisits = -1;
+        double bestReward = 0;
+        int total = 0;
+        for (int value = 1; value <= PlayoutState.MAX_VALUE; value++) {
+            int visits = 0;
+            double reward = 0;
+            for (SearchNode tree : trees) {
+                final SearchNode child = tree.child(value);
+                if (child == null) continue;
+                visits += child.visits();
+                reward += child.reward();
+            }
+            total += visits;
+            if (visits > bestVisits) {
+                bestValue = value;
+                bestVisits = visits;
+                bestReward = reward;
+            }
+        }
+        if (bestVisits <= 0) return new Result(bestValue, 0.5, total);
+        if (root.isBotTurn()) return new Result(bestValue, bestReward / bestVisits, total);
+        return new Result(bestValue, 1 - opponentReward(trees) / total, total);
+    }
+
+    private static SearchNode join(Future<SearchNode> helper) {
+        try {
+            return helper.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            helper.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search trees.", e);
+        }
+    }
+
+    private static double opponentReward(SearchNode[] trees) {
+        double reward = 0;
+        for (SearchNode tree : trees) {
+            for (int value = 1; value <= PlayoutState.MAX_VALUE; value++) {
+                final SearchNode child = tree.child(value);
+                if (child != null) reward += child.reward();
+            }
+        }
+        return reward;
+    }
+
+    private SearchNode grow(PlayoutState root, int[] unseen, int opponentCards, SplittableRandom random,
+                            int iterations, long deadline) {
+        final SearchNode tree = new SearchNode(false);
+        final PlayoutState state = new PlayoutState();
+        final SearchNode[] path = new SearchNode[8];
+        final int[] actions = new int[3];
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            if ((iteration & 255) == 0 && System.nanoTime() > deadline && iteration > 0) break;
+            state.copyFrom(root);
+            state.deal(unseen, opponentCards, random);
+
+            SearchNode node = tree;
+            int depth = 0;
+            while (!state.isTerminal()) {
+                final boolean botTurn = state.isBotTurn();
+                final int count = state.legalActions(actions);
+                int untried = 0;
+                for (int i = 0; i < count; i++) {
+                    final SearchNode child = node.child(actions[i]);
+                    if (child == null) actions[untried++] = actions[i];
+                    else child.markAvailable();
+                }
+                if (untried > 0) {
+                    final int value = actions[random.nextInt(untried)];
+                    node = node.addChild(value, botTurn);
+                    node.markAvailable();
+                    path[depth++] = node;
+                    state.play(value);
+                    break;
+                }
+                SearchNode best = null;
+                int bestValue = 0;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                for (int i = 0; i < count; i++) {
+                    final SearchNode child = node.child(actions[i]);
+                    final double score = child.upperConfidenceBound(EXPLORATION);
+                    if (score > bestScore) {
+                        best = child;
+                        bestValue = actions[i];
+                        bestScore = score;
+                    }
+                }
+                node = best;
+                path[depth++] = node;
+                state.play(bestValue);
+            }
+
+            while (!state.isTerminal() && !state.solveWith(endgame)) state.play(state.rolloutAction(random, actions));
+
+            final double reward = state.reward();
+            for (int i = 0; i < depth; i++) path[i].update(reward);
+        }
+        return tree;
+    }
+}
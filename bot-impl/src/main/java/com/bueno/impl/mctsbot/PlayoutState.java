@@ -0,0 +1,195 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.impl.mctsbot;
+
+import com.bueno.spi.service.EndgameTable;
+
+import java.util.SplittableRandom;
+
+final class PlayoutState {
+
+    static final int MAX_VALUE = 14;
+    static final int WON = 1, DREW = 2, LOST = 3;
+
+    private final int[] bot = new int[3];
+    private final int[] opponent = new int[3];
+    private int botSize;
+    private int opponentSize;
+    private int results;
+    private int played;
+    private boolean botLeads;
+    private int table;
+    private double reward = -1;
+
+    static PlayoutState of(int[] botValues, int[] roundResults, int table, boolean botLeads) {
+        final PlayoutState state = new PlayoutState();
+        for (int value : botValues) state.bot[state.botSize++] = value;
+        for (int result : roundResults) state.results |= result << 2 * state.played++;
+        state.botLeads = botLeads;
+        state.table = table;
+        return state;
+    }
+
+    void copyFrom(PlayoutState other) {
+        System.arraycopy(other.bot, 0, bot, 0, 3);
+        System.arraycopy(other.opponent, 0, opponent, 0, 3);
+        botSize = other.botSize;
+        opponentSize = other.opponentSize;
+        results = other.results;
+        played = other.played;
+        botLeads = other.botLeads;
+        table = other.table;
+        reward = other.reward;
+    }
+
+    void deal(int[] unseen, int opponentCards, SplittableRandom random) {
+        opponentSize = 0;
+        for (int i = 0; i < opponentCards; i++) {
+            final int pick = i + random.nextInt(unseen.length - i);
+            final int value = unseen[pick];
+            unseen[pick] = unseen[i];
+            unseen[i] = value;
+            opponent[opponentSize++] = value;
+        }
+    }
+
+    boolean isBotTurn() {
+        return botLeads == (table == 0);
+    }
+
+    boolean isTerminal() {
+        return reward >= 0;
+    }
+
+    double reward() {
+        return reward;
+    }
+
+    /**
+     * Ends the playout with the exact outcome under perfect play if the position, with the sampled opponent cards,
+     * is in the endgame table.
+     *
+     * @return whether the position was solved
+     */
+    boolean solveWith(EndgameTable endgame) {
+        if (endgame == null || played == 0 || isTerminal()) return false;
+        final boolean botTurn = isBotTurn();
+        final int botHand = packed(bot, botSize);
+        final int opponentHand = packed(opponent, opponentSize);
+        final int outcome = botTurn
+                ? endgame.outcomeCode(botHand, opponentHand, table, results, played)
+                : endgame.outcomeCode(opponentHand, botHand, table, opponentResults(), played);
+        if (outcome == EndgameTable.NO_OUTCOME) return false;
+        final double moverReward = outcome == EndgameTable.WIN ? 1.0 : outcome == EndgameTable.DRAW ? 0.5 : 0.0;
+        reward = botTurn ? moverReward : 1.0 - moverReward;
+        return true;
+    }
+
+    private static int packed(int[] values, int size) {
+        int hand = 0;
+        for (int i = 0; i < size; i++) hand |= values[i] << 4 * i;
+        return hand;
+    }
+
+    //Round results seen by the opponent: won and lost rounds swap, drawn ones stay.
+    private int opponentResults() {
+        int opponentResults = 0;
+        for (int i = 0; i < played; i++) opponentResults |= 4 - (results >>> 2 * i & 3) << 2 * i;
+        return opponentResults;
+    }
+
+    int legalActions(int[] actions) {
+        final int[] hand = isBotTurn() ? bot : opponent;
+        final int size = isBotTurn() ? botSize : opponentSize;
+        int count = 0;
+        outer:
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < count; j++) if (actions[j] == hand[i]) continue outer;
+            actions[count++] = hand[i];
+        }
+        return count;
+    }
+
+    int rolloutAction(SplittableRandom random, int[] actions) {
+        final int count = legalActions(actions);
+        if (table == 0 || random.nextInt(10) == 0) return actions[random.nextInt(count)];
+        int cheapestWinner = 0;
+        int weakest = actions[0];
+        for (int i = 0; i < count; i++) {
+            final int value = actions[i];
+            if (value > table && (cheapestWinner == 0 || value < cheapestWinner)) cheapestWinner = value;
+            if (value < weakest) weakest = value;
+        }
+        return cheapestWinner != 0 ? cheapestWinner : weakest;
+    }
+
+    void play(int value) {
+        final boolean botTurn = isBotTurn();
+        remove(botTurn ? bot : opponent, botTurn ? botSize-- : opponentSize--, value);
+        if (table == 0) {
+            table = value;
+            return;
+        }
+        final int botCard = botTurn ? value : table;
+        final int opponentCard = botTurn ? table : value;
+        final int result = botCard > opponentCard ? WON : botCard < opponentCard ? LOST : DREW;
+        results |= result << 2 * played++;
+        table = 0;
+        if (result != DREW) botLeads = result == WON;
+        reward = rewardOf(results, played);
+        if (reward < 0 && botSize == 0 && opponentSize == 0) reward = 0.5;
+    }
+
+    private static void remove(int[] hand, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (hand[i] == value) {
+                hand[i] = hand[size - 1];
+                return;
+            }
+        }
+        throw new IllegalStateException("Card value not in hand: " + value);
+    }
+
+    private static double rewardOf(int results, int played) {
+        final int first = results & 3;
+        final int second = results >>> 2 & 3;
+        final int third = results >>> 4 & 3;
+        if (played == 2) {
+            if (first == DREW && second != DREW) return rewardOf(second);
+            if (first != DREW && second == DREW) return rewardOf(first);
+            if (first == second && first != DREW) return rewardOf(first);
+            return -1;
+        }
+        if (played == 3) {
+            if (third == DREW && first != DREW) return rewardOf(first);
+            return rewardOf(third);
+        }
+        return -1;
+    }
+
+    private static double rewardOf(int roundResult) {
+        return switch (roundResult) {
+            case WON -> 1.0;
+            case LOST -> 0.0;
+            default -> 0.5;
+        };
+    }
+}
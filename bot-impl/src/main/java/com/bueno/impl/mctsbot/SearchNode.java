@@ -0,0 +1,64 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.impl.mctsbot;
+
+final class SearchNode {
+
+    private final boolean botMove;
+    private final SearchNode[] children = new SearchNode[PlayoutState.MAX_VALUE + 1];
+    private int visits;
+    private int availability;
+    private double reward;
+
+    SearchNode(boolean botMove) {
+        this.botMove = botMove;
+    }
+
+    SearchNode child(int value) {
+        return children[value];
+    }
+
+    SearchNode addChild(int value, boolean botMove) {
+        children[value] = new SearchNode(botMove);
+        return children[value];
+    }
+
+    void markAvailable() {
+        availability++;
+    }
+
+    void update(double botReward) {
+        visits++;
+        reward += botMove ? botReward : 1 - botReward;
+    }
+
+    double upperConfidenceBound(double exploration) {
+        return reward / visits + exploration * Math.sqrt(Math.log(availability) / visits);
+    }
+
+    int visits() {
+        return visits;
+    }
+
+    double reward() {
+        return reward;
+    }
+}
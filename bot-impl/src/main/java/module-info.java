@@ -4,6 +4,7 @@ import com.bonelli.noli.paulistabot.PaulistaBot;
 import com.brenoduda.cafeconlechebot.CafeConLecheBot;
 import com.bruno.tiago.jeckiechanbot.JackieChanBot;
 import com.bueno.impl.dummybot.DummyBot;
+import com.bueno.impl.mctsbot.MctsBot;
 import com.carvalho.candido.tomegapbot.GapBot;
 import com.casal.impl.vapobot.VapoBot;
 import com.castro.calicchio.jogasafebot.JogaSafeBot;
@@ -64,6 +65,7 @@ import com.eduardo.vinicius.camaleaotruqueiro.CamaleaoTruqueiro;
 import com.bianca.joaopedro.lgtbot.Lgtbot;
 import com.fernando.breno.trucomarrecobot.TrucoMarreco;
 import com.matheus.dylan.superidolbot.SuperIdolBot;
+import com.luigivanzella.triathlonBot.TriathlonBot;
 
 module bot.impl {
     requires bot.spi;
@@ -71,6 +73,7 @@ module bot.impl {
     requires java.smartcardio;
 
     exports com.bueno.impl.dummybot;
+    exports com.bueno.impl.mctsbot;
     exports com.indi.impl.addthenewsoul;
     exports com.hermespiassi.casados.marrecobot;
     exports com.newton.dolensi.sabotabot;
@@ -201,5 +204,6 @@ module bot.impl {
             TrucoMarreco,
 
             SuperIdolBot,
-            TriathlonBot;
+            TriathlonBot,
+            MctsBot;
 }
\ No newline at end of file
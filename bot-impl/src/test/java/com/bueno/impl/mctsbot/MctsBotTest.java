@@ -0,0 +1,126 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.impl.mctsbot;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.EndgameTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static com.bueno.spi.model.GameIntel.RoundResult.DREW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MctsBotTest {
+
+    private final TrucoCard vira = TrucoCard.of(SEVEN, DIAMONDS);
+
+    private GameIntel firstRoundWith(TrucoCard... cards) {
+        return GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(vira), vira, 1)
+                .botInfo(List.of(cards), 0)
+                .opponentScore(0)
+                .build();
+    }
+
+    private GameIntel secondRoundAfterDrawAgainst(TrucoCard opponentCard, TrucoCard... cards) {
+        return GameIntel.StepBuilder.with()
+                .gameInfo(List.of(DREW), List.of(vira, TrucoCard.of(TWO, SPADES), TrucoCard.of(TWO, HEARTS), opponentCard), vira, 1)
+                .botInfo(List.of(cards), 0)
+                .opponentScore(0)
+                .opponentCard(opponentCard)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should play the card that wins the hand after a drawn first round")
+    void shouldPlayTheCardThatWinsTheHandAfterADrawnFirstRound() {
+        final MctsBot sut = new MctsBot(2_000, 0, 1, 42);
+        final GameIntel intel = secondRoundAfterDrawAgainst(TrucoCard.of(KING, HEARTS),
+                TrucoCard.of(FOUR, CLUBS), TrucoCard.of(ACE, SPADES));
+        assertThat(sut.chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(ACE, SPADES)));
+    }
+
+    @Test
+    @DisplayName("Should find the same card when rollouts run in parallel")
+    void shouldFindTheSameCardWhenRolloutsRunInParallel() {
+        final MctsBot sut = new MctsBot(8_000, 0, 4, 42);
+        final GameIntel intel = secondRoundAfterDrawAgainst(TrucoCard.of(KING, HEARTS),
+                TrucoCard.of(FOUR, CLUBS), TrucoCard.of(ACE, SPADES));
+        assertThat(sut.chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(ACE, SPADES)));
+    }
+
+    @Test
+    @DisplayName("Should raise with zap and copas in hand")
+    void shouldRaiseWithZapAndCopasInHand() {
+        final MctsBot sut = new MctsBot(5_000, 0, 1, 42);
+        final GameIntel intel = firstRoundWith(TrucoCard.of(QUEEN, CLUBS), TrucoCard.of(QUEEN, HEARTS), TrucoCard.of(THREE, SPADES));
+        assertThat(sut.decideIfRaises(intel)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should neither raise nor accept with the weakest cards")
+    void shouldNeitherRaiseNorAcceptWithTheWeakestCards() {
+        final MctsBot sut = new MctsBot(5_000, 0, 1, 42);
+        final GameIntel intel = firstRoundWith(TrucoCard.of(FOUR, CLUBS), TrucoCard.of(FIVE, HEARTS), TrucoCard.of(SIX, SPADES));
+        assertThat(sut.decideIfRaises(intel)).isFalse();
+        assertThat(sut.getRaiseResponse(intel)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should score late hand playouts exactly with the endgame table")
+    void shouldScoreLateHandPlayoutsExactlyWithTheEndgameTable() {
+        // Bot won the first round and leads holding 5 and 3 against 6 and 4: every line loses under perfect play,
+        // while the rollout policy sometimes lets the bot win.
+        final PlayoutState root = PlayoutState.of(new int[]{5, 3}, new int[]{PlayoutState.WON}, 0, true);
+        for (long seed = 0; seed < 50; seed++) {
+            final MctsSearch search = new MctsSearch(2, 0, 1, seed, EndgameTable.generated());
+            assertThat(search.search(root, new int[]{6, 4}, 2).winRate()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should solve playouts from the point of view of the player to move")
+    void shouldSolvePlayoutsFromThePointOfViewOfThePlayerToMove() {
+        final PlayoutState state = PlayoutState.of(new int[]{5, 3}, new int[]{PlayoutState.WON}, 0, true);
+        state.deal(new int[]{6, 4}, 2, new SplittableRandom(1));
+        state.play(5);
+        assertThat(state.solveWith(EndgameTable.generated())).isTrue();
+        assertThat(state.reward()).isZero();
+
+        final PlayoutState firstRound = PlayoutState.of(new int[]{5, 3, 1}, new int[0], 0, true);
+        assertThat(firstRound.solveWith(EndgameTable.generated())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should play the only card left")
+    void shouldPlayTheOnlyCardLeft() {
+        final MctsBot sut = new MctsBot(100, 0, 1, 42);
+        final GameIntel intel = firstRoundWith(TrucoCard.of(JACK, CLUBS));
+        assertThat(sut.chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(JACK, CLUBS)));
+    }
+}
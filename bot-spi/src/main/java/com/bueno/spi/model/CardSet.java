@@ -0,0 +1,280 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import java.util.*;
+
+/**
+ * <p>Represents an immutable set of open {@link TrucoCard} objects backed by a {@code long} bit mask, in which each
+ * bit corresponds to a card {@link TrucoCard#ordinal() ordinal}. Set operations and the vira-relative queries
+ * ({@link #strongest(TrucoCard)}, {@link #weakest(TrucoCard)}, {@link #cheapestWinnerAgainst(TrucoCard, TrucoCard)}
+ * and {@link #manilhaCount(TrucoCard)}) are bit operations and do not iterate over cards. Closed cards are not
+ * represented and are ignored when a set is created from a collection.</p>
+ * */
+public final class CardSet implements Iterable<TrucoCard> {
+
+    private static final int OPEN_CARDS = 40;
+    private static final long ALL_MASK = (1L << OPEN_CARDS) - 1;
+    private static final CardSet EMPTY = new CardSet(0L);
+    private static final CardSet ALL = new CardSet(ALL_MASK);
+
+    private final long mask;
+
+    private CardSet(long mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * @return a set with no cards
+     */
+    public static CardSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return a set with all 40 open cards of the deck
+     */
+    public static CardSet all() {
+        return ALL;
+    }
+
+    /**
+     * <p>Creates a set from a bit mask obtained from {@link #mask()}.</p>
+     *
+     * @param mask bit mask in which only the 40 lower bits may be set
+     * @return set containing the cards whose ordinals are set in the {@code mask}
+     * @throws IllegalArgumentException if any bit above the 40th is set
+     */
+    public static CardSet ofMask(long mask) {
+        if ((mask & ~ALL_MASK) != 0) throw new IllegalArgumentException("Invalid card set mask: " + mask);
+        return new CardSet(mask);
+    }
+
+    /**
+     * @param cards non-null cards to include in the set, closed cards are ignored
+     * @return set containing the given open {@code cards}
+     * @throws NullPointerException if {@code cards} or any of its elements is null
+     */
+    public static CardSet of(TrucoCard... cards) {
+        return of(Arrays.asList(cards));
+    }
+
+    /**
+     * @param cards non-null collection of non-null cards to include in the set, closed cards are ignored
+     * @return set containing the given open {@code cards}
+     * @throws NullPointerException if {@code cards} or any of its elements is null
+     */
+    public static CardSet of(Collection<TrucoCard> cards) {
+        long mask = 0L;
+        for (TrucoCard card : cards) mask |= bitOf(card);
+        return new CardSet(mask);
+    }
+
+    private static long bitOf(TrucoCard card) {
+        final int ordinal = card.ordinal();
+        return ordinal < OPEN_CARDS ? 1L << ordinal : 0L;
+    }
+
+    private static long manilhaMask(TrucoCard vira) {
+        final int manilhaRank = Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.")
+                .getRank().next().value();
+        return manilhaRank == 0 ? 0L : 0xFL << (manilhaRank - 1) * 4;
+    }
+
+    /**
+     * @return the bit mask representing the set, in which bit {@code i} is set if the card of ordinal {@code i} is
+     * in the set
+     */
+    public long mask() {
+        return mask;
+    }
+
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    public boolean isEmpty() {
+        return mask == 0L;
+    }
+
+    public boolean contains(TrucoCard card) {
+        return (mask & bitOf(card)) != 0;
+    }
+
+    public CardSet with(TrucoCard card) {
+        return new CardSet(mask | bitOf(card));
+    }
+
+    public CardSet without(TrucoCard card) {
+        return new CardSet(mask & ~bitOf(card));
+    }
+
+    public CardSet union(CardSet other) {
+        return new CardSet(mask | other.mask);
+    }
+
+    public CardSet intersection(CardSet other) {
+        return new CardSet(mask & other.mask);
+    }
+
+    public CardSet minus(CardSet other) {
+        return new CardSet(mask & ~other.mask);
+    }
+
+    /**
+     * @return a set with all open cards that are not in this set
+     */
+    public CardSet complement() {
+        return new CardSet(~mask & ALL_MASK);
+    }
+
+    /**
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return the manilhas in this set
+     * @throws NullPointerException if {@code vira} is null
+     */
+    public CardSet manilhas(TrucoCard vira) {
+        return new CardSet(mask & manilhaMask(vira));
+    }
+
+    /**
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return the number of manilhas in this set
+     * @throws NullPointerException if {@code vira} is null
+     */
+    public int manilhaCount(TrucoCard vira) {
+        return Long.bitCount(mask & manilhaMask(vira));
+    }
+
+    /**
+     * <p>Returns the card of highest relative value considering the {@code vira}. If several cards share the highest
+     * value, the one of greatest ordinal is returned.</p>
+     *
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return an {@code Optional} with the strongest card, or empty if the set is empty
+     * @throws NullPointerException if {@code vira} is null
+     */
+    public Optional<TrucoCard> strongest(TrucoCard vira) {
+        final long manilhas = mask & manilhaMask(vira);
+        return highest(manilhas != 0 ? manilhas : mask);
+    }
+
+    /**
+     * <p>Returns the card of lowest relative value considering the {@code vira}. If several cards share the lowest
+     * value, the one of smallest ordinal is returned.</p>
+     *
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return an {@code Optional} with the weakest card, or empty if the set is empty
+     * @throws NullPointerException if {@code vira} is null
+     */
+    public Optional<TrucoCard> weakest(TrucoCard vira) {
+        final long commons = mask & ~manilhaMask(vira);
+        return lowest(commons != 0 ? commons : mask);
+    }
+
+    /**
+     * <p>Returns all cards of this set whose relative value is strictly greater than the value of {@code card}.</p>
+     *
+     * @param card TrucoCard to be beaten, must be non-null
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return a set of the cards that beat {@code card}
+     * @throws NullPointerException if {@code card} or {@code vira} is null
+     */
+    public CardSet strongerThan(TrucoCard card, TrucoCard vira) {
+        Objects.requireNonNull(card, "TrucoCard to be compared must not be null.");
+        final long manilhas = manilhaMask(vira);
+        if (card.ordinal() < OPEN_CARDS && (manilhas & bitOf(card)) != 0)
+            return new CardSet(mask & manilhas & ~0L << card.ordinal() + 1);
+        final long higherRanks = ALL_MASK & ~0L << card.getRank().value() * 4;
+        return new CardSet(mask & (higherRanks & ~manilhas | manilhas));
+    }
+
+    /**
+     * <p>Returns the card of lowest relative value that still beats {@code card} considering the {@code vira}.</p>
+     *
+     * @param card TrucoCard to be beaten, must be non-null
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return an {@code Optional} with the cheapest winning card, or empty if no card of this set beats {@code card}
+     * @throws NullPointerException if {@code card} or {@code vira} is null
+     */
+    public Optional<TrucoCard> cheapestWinnerAgainst(TrucoCard card, TrucoCard vira) {
+        return strongerThan(card, vira).weakest(vira);
+    }
+
+    /**
+     * @return an unmodifiable {@code List} with the cards of this set in ascending ordinal order
+     */
+    public List<TrucoCard> toList() {
+        final List<TrucoCard> cards = new ArrayList<>(size());
+        forEach(cards::add);
+        return Collections.unmodifiableList(cards);
+    }
+
+    @Override
+    public Iterator<TrucoCard> iterator() {
+        return new Iterator<>() {
+            private long remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public TrucoCard next() {
+                if (remaining == 0) throw new NoSuchElementException();
+                final int ordinal = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return TrucoCard.ofOrdinal(ordinal);
+            }
+        };
+    }
+
+    private static Optional<TrucoCard> highest(long bits) {
+        if (bits == 0) return Optional.empty();
+        return Optional.of(TrucoCard.ofOrdinal(63 - Long.numberOfLeadingZeros(bits)));
+    }
+
+    private static Optional<TrucoCard> lowest(long bits) {
+        if (bits == 0) return Optional.empty();
+        return Optional.of(TrucoCard.ofOrdinal(Long.numberOfTrailingZeros(bits)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CardSet cardSet = (CardSet) o;
+        return mask == cardSet.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mask);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        forEach(builder::append);
+        return "{" + builder + "}";
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+/**
+ * <p>Holds the card ordinal scheme and the relative value and manilha tables shared by {@link TrucoCard} and the
+ * domain card model, so that the rules are written once. Ordinals number the open cards from 0 (four of diamonds)
+ * to 39 (three of clubs), in rank order and then suit order, and the closed card is {@value #CLOSED_ORDINAL}. Rank
+ * and suit values follow {@link CardRank#value()} and {@link CardSuit#value()}.</p>
+ * */
+public final class CardValueTable {
+
+    /**
+     * Number of distinct card ordinals: the 40 open cards plus the closed card.
+     */
+    public static final int ORDINALS = 41;
+    public static final int CLOSED_ORDINAL = 40;
+
+    private static final byte[] relativeValues = new byte[ORDINALS * ORDINALS];
+    private static final boolean[] manilhas = new boolean[ORDINALS * ORDINALS];
+
+    static {
+        for (int card = 0; card < ORDINALS; card++) {
+            for (int vira = 0; vira < ORDINALS; vira++) {
+                final int cardRank = rankValueOf(card);
+                final int viraRank = rankValueOf(vira);
+                final int nextToVira = viraRank == 0 ? 0 : viraRank % 10 + 1;
+                final boolean isManilha = cardRank == nextToVira;
+                final int value;
+                if (isManilha) value = card == CLOSED_ORDINAL ? -1 : 9 + suitValueOf(card);
+                else value = cardRank > viraRank ? cardRank - 1 : cardRank;
+                manilhas[card * ORDINALS + vira] = isManilha;
+                relativeValues[card * ORDINALS + vira] = (byte) value;
+            }
+        }
+    }
+
+    private CardValueTable() {
+    }
+
+    /**
+     * @param rankValue rank value between 0 (hidden) and 10
+     * @param suitValue suit value between 0 (hidden) and 4
+     * @return the ordinal of the card, or {@value #CLOSED_ORDINAL} if the rank is hidden
+     */
+    public static int ordinalOf(int rankValue, int suitValue) {
+        return rankValue == 0 ? CLOSED_ORDINAL : (rankValue - 1) * 4 + suitValue - 1;
+    }
+
+    public static int rankValueOf(int ordinal) {
+        return ordinal == CLOSED_ORDINAL ? 0 : ordinal / 4 + 1;
+    }
+
+    public static int suitValueOf(int ordinal) {
+        return ordinal == CLOSED_ORDINAL ? 0 : ordinal % 4 + 1;
+    }
+
+    /**
+     * @return the value of the card relative to the vira, or -1 if the closed card would be a manilha
+     */
+    public static int relativeValue(int cardOrdinal, int viraOrdinal) {
+        return relativeValues[cardOrdinal * ORDINALS + viraOrdinal];
+    }
+
+    public static boolean isManilha(int cardOrdinal, int viraOrdinal) {
+        return manilhas[cardOrdinal * ORDINALS + viraOrdinal];
+    }
+}
@@ -41,6 +41,10 @@ public class GameIntel {
     private final int score;
     private final int opponentScore;
     private final int handPoints;
+    private CardSet cardSet;
+    private CardSet openCardSet;
+    private CardSet unseenCardSet;
+    private HandAnalysis handAnalysis;
 
     private GameIntel(List<TrucoCard> cards, List<TrucoCard> openCards, TrucoCard vira, TrucoCard opponentCard,
                      List<RoundResult> roundResults, int score, int opponentScore, int handPoints) {
@@ -62,6 +66,15 @@ public class GameIntel {
         return cards;
     }
 
+    /**
+     * <p>Returns the cards owned by the bot in the current hand as a {@link CardSet}.</p>
+     * @return a non-null {@link CardSet} with the bot cards, computed once per {@code GameIntel}
+     */
+    public CardSet getCardSet() {
+        if (cardSet == null) cardSet = CardSet.of(cards);
+        return cardSet;
+    }
+
     /**
      * <p>Returns cards in the order they were played in the current hand, including the vira as the first {@code List}
      * element.</p>
@@ -72,6 +85,36 @@ public class GameIntel {
         return openCards;
     }
 
+    /**
+     * <p>Returns the open cards of the current hand, including the vira, as a {@link CardSet}. Discarded cards are
+     * closed and therefore not included.</p>
+     * @return a non-null {@link CardSet} with the open cards, computed once per {@code GameIntel}
+     */
+    public CardSet getOpenCardSet() {
+        if (openCardSet == null) openCardSet = CardSet.of(openCards);
+        return openCardSet;
+    }
+
+    /**
+     * <p>Returns the cards the bot has not seen in the current hand, i.e., all cards of the deck except the bot cards
+     * and the open cards. The opponent cards are necessarily among them.</p>
+     * @return a non-null {@link CardSet} with the unseen cards, computed once per {@code GameIntel}
+     */
+    public CardSet getUnseenCardSet() {
+        if (unseenCardSet == null) unseenCardSet = CardSet.all().minus(getCardSet()).minus(getOpenCardSet());
+        return unseenCardSet;
+    }
+
+    /**
+     * <p>Returns the shared {@link HandAnalysis} of this intel. It is computed on the first call and reused by
+     * later calls, so bots reading it during the same decision do not repeat the analysis.</p>
+     * @return a non-null {@link HandAnalysis} of the bot cards
+     */
+    public HandAnalysis getHandAnalysis() {
+        if (handAnalysis == null) handAnalysis = HandAnalysis.of(this);
+        return handAnalysis;
+    }
+
     /**
      * <p>Returns the vira card of the current hand </p>
      * @return a non-null {@link TrucoCard} describing the vira card of the current hand
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>Facts about the bot cards that most bots need when deciding, computed once from a {@link GameIntel} and
+ * shared by every reader of the same intel: the relative ranking of the bot cards, the manilhas held, the cards
+ * that beat or draw with the opponent card, and the cards not yet seen by the bot. Objects of this class are
+ * immutable and are obtained through {@link GameIntel#getHandAnalysis()}.</p>
+ * */
+public final class HandAnalysis {
+
+    private final TrucoCard vira;
+    private final List<TrucoCard> ranking;
+    private final CardSet cards;
+    private final CardSet manilhas;
+    private final CardSet unseen;
+    private final CardSet winners;
+    private final CardSet drawers;
+
+    private HandAnalysis(GameIntel intel) {
+        vira = intel.getVira();
+        cards = intel.getCardSet();
+        unseen = intel.getUnseenCardSet();
+        manilhas = cards.manilhas(vira);
+        ranking = intel.getCards().stream()
+                .sorted(Comparator.comparingInt((TrucoCard card) -> card.relativeValue(vira)).reversed())
+                .toList();
+
+        final TrucoCard opponentCard = intel.getOpponentCard().orElse(null);
+        if (opponentCard == null) {
+            winners = CardSet.empty();
+            drawers = CardSet.empty();
+        } else {
+            winners = cards.strongerThan(opponentCard, vira);
+            drawers = sameValueAs(opponentCard);
+        }
+    }
+
+    private CardSet sameValueAs(TrucoCard opponentCard) {
+        final int opponentValue = opponentCard.relativeValue(vira);
+        CardSet result = CardSet.empty();
+        for (TrucoCard card : cards)
+            if (card.relativeValue(vira) == opponentValue) result = result.with(card);
+        return result;
+    }
+
+    private boolean hasManilhaOf(CardSuit suit) {
+        for (TrucoCard card : manilhas)
+            if (card.getSuit() == suit) return true;
+        return false;
+    }
+
+    static HandAnalysis of(GameIntel intel) {
+        return new HandAnalysis(intel);
+    }
+
+    /**
+     * @return an unmodifiable {@code List} with the bot cards sorted from the strongest to the weakest
+     */
+    public List<TrucoCard> ranking() {
+        return ranking;
+    }
+
+    /**
+     * @return an {@code Optional} with the strongest bot card, or empty if the bot has no cards
+     */
+    public Optional<TrucoCard> strongest() {
+        return ranking.isEmpty() ? Optional.empty() : Optional.of(ranking.get(0));
+    }
+
+    /**
+     * @return an {@code Optional} with the weakest bot card, or empty if the bot has no cards
+     */
+    public Optional<TrucoCard> weakest() {
+        return ranking.isEmpty() ? Optional.empty() : Optional.of(ranking.get(ranking.size() - 1));
+    }
+
+    /**
+     * @param card TrucoCard to be evaluated, must be non-null
+     * @return the relative value of {@code card} based on the vira of the analysed intel
+     */
+    public int relativeValueOf(TrucoCard card) {
+        return card.relativeValue(vira);
+    }
+
+    /**
+     * @return the manilhas held by the bot
+     */
+    public CardSet manilhas() {
+        return manilhas;
+    }
+
+    public int manilhaCount() {
+        return manilhas.size();
+    }
+
+    public boolean hasZap() {
+        return hasManilhaOf(CardSuit.CLUBS);
+    }
+
+    public boolean hasCopas() {
+        return hasManilhaOf(CardSuit.HEARTS);
+    }
+
+    public boolean hasEspadilha() {
+        return hasManilhaOf(CardSuit.SPADES);
+    }
+
+    public boolean hasOuros() {
+        return hasManilhaOf(CardSuit.DIAMONDS);
+    }
+
+    /**
+     * @return the bot cards that beat the opponent card, or an empty set if the opponent has not played
+     */
+    public CardSet winnersAgainstOpponent() {
+        return winners;
+    }
+
+    /**
+     * @return the bot cards with the same relative value as the opponent card, or an empty set if the opponent
+     * has not played
+     */
+    public CardSet drawersAgainstOpponent() {
+        return drawers;
+    }
+
+    /**
+     * @return an {@code Optional} with the weakest bot card that beats the opponent card, or empty if there is no
+     * such card or the opponent has not played
+     */
+    public Optional<TrucoCard> cheapestWinner() {
+        return winners.weakest(vira);
+    }
+
+    /**
+     * @return the cards not seen by the bot in the current hand, as in {@link GameIntel#getUnseenCardSet()}
+     */
+    public CardSet unseen() {
+        return unseen;
+    }
+
+    /**
+     * @param card TrucoCard to be compared, must be non-null
+     * @return the number of unseen cards that beat {@code card}
+     */
+    public int unseenStrongerThan(TrucoCard card) {
+        return unseen.strongerThan(card, vira).size();
+    }
+}
@@ -31,13 +31,19 @@ import java.util.Objects;
  * */
 public final class TrucoCard {
 
+    /**
+     * Number of distinct card ordinals: the 40 open cards plus the closed card.
+     */
+    public static final int ORDINALS = CardValueTable.ORDINALS;
     private static final TrucoCard[] cache = new TrucoCard[41];
     private final CardSuit suit;
     private final CardRank rank;
+    private final int ordinal;
 
     private TrucoCard(CardRank rank, CardSuit suit) {
         this.rank = rank;
         this.suit = suit;
+        this.ordinal = CardValueTable.ordinalOf(rank.value(), suit.value());
     }
 
     /**
@@ -73,6 +79,20 @@ public final class TrucoCard {
         return fromCache(CardRank.HIDDEN, CardSuit.HIDDEN);
     }
 
+    /**
+     * <p>Gets the card represented by an ordinal previously obtained from {@link #ordinal()}.</p>
+     *
+     * @param ordinal value between 0 and 40, inclusive
+     * @return the cached TrucoCard with the given {@code ordinal}
+     * @throws IllegalArgumentException if {@code ordinal} is out of range
+     */
+    public static TrucoCard ofOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= ORDINALS) throw new IllegalArgumentException("Invalid card ordinal: " + ordinal);
+        if (ordinal == CardValueTable.CLOSED_ORDINAL) return closed();
+        return fromCache(CardRank.values()[CardValueTable.rankValueOf(ordinal)],
+                CardSuit.values()[CardValueTable.suitValueOf(ordinal)]);
+    }
+
     private static TrucoCard fromCache(CardRank rank, CardSuit suit) {
         int rankValue = rank.value();
         int suitValue = suit.value();
@@ -133,16 +153,9 @@ public final class TrucoCard {
      */
     public int relativeValue(TrucoCard vira) {
         Objects.requireNonNull(vira, "Vira card must not be null.");
-        if (isManilha(vira))
-            return switch (suit) {
-                case DIAMONDS -> 10;
-                case SPADES -> 11;
-                case HEARTS -> 12;
-                case CLUBS -> 13;
-                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
-            };
-        if(rank.value() > vira.rank.value()) return rank.value() - 1;
-        return rank.value();
+        final int value = CardValueTable.relativeValue(ordinal, vira.ordinal);
+        if (value < 0) throw new IllegalStateException("Closed card can not be manilha!");
+        return value;
     }
 
     /**
@@ -159,8 +172,7 @@ public final class TrucoCard {
      */
     public boolean isManilha(TrucoCard vira) {
         Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
-        return getRank() == vira.getRank().next();
-
+        return CardValueTable.isManilha(ordinal, vira.ordinal);
     }
 
     /**
@@ -227,6 +239,16 @@ public final class TrucoCard {
         return isManilha(vira) && suit == CardSuit.DIAMONDS;
     }
 
+    /**
+     * <p>Gets a dense index of the card, suitable for lookup tables and bit sets. Open cards are numbered from 0
+     * (four of diamonds) to 39 (three of clubs), in rank order and then suit order. The closed card is 40.</p>
+     *
+     * @return value between 0 and 40, inclusive
+     */
+    public int ordinal() {
+        return ordinal;
+    }
+
     public CardRank getRank() {
         return rank;
     }
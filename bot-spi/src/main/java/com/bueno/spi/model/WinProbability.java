@@ -0,0 +1,97 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import java.util.Arrays;
+
+/**
+ * <p>Represents the probabilities of winning, drawing and losing a hand, as well as of winning each of its rounds,
+ * from the bot point of view. Objects of this class are immutable and are created by
+ * {@link com.bueno.spi.service.WinProbabilityEvaluator}.</p>
+ * */
+public final class WinProbability {
+
+    private final double win;
+    private final double draw;
+    private final double loss;
+    private final double[] roundWins;
+
+    public WinProbability(double win, double draw, double loss, double[] roundWins) {
+        if (roundWins.length != 3) throw new IllegalArgumentException("A hand has exactly three rounds.");
+        this.win = win;
+        this.draw = draw;
+        this.loss = loss;
+        this.roundWins = roundWins.clone();
+    }
+
+    /**
+     * @return the probability of winning the hand
+     */
+    public double win() {
+        return win;
+    }
+
+    /**
+     * @return the probability of the hand ending in a draw
+     */
+    public double draw() {
+        return draw;
+    }
+
+    /**
+     * @return the probability of losing the hand
+     */
+    public double loss() {
+        return loss;
+    }
+
+    /**
+     * <p>Returns the probability of winning a round. Rounds already played have probability 1 if won and 0 otherwise.
+     * Rounds that are not played because the hand is decided earlier do not count as won.</p>
+     *
+     * @param round round index, from 0 (first round) to 2 (third round)
+     * @return the probability of winning the {@code round}
+     * @throws IndexOutOfBoundsException if {@code round} is not between 0 and 2
+     */
+    public double roundWin(int round) {
+        return roundWins[round];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WinProbability that = (WinProbability) o;
+        return Double.compare(that.win, win) == 0 && Double.compare(that.draw, draw) == 0
+                && Double.compare(that.loss, loss) == 0 && Arrays.equals(roundWins, that.roundWins);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(win) + 17 * Double.hashCode(draw) + Double.hashCode(loss) + Arrays.hashCode(roundWins);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WinProbability{win=%.4f, draw=%.4f, loss=%.4f, rounds=%s}",
+                win, draw, loss, Arrays.toString(roundWins));
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.GameIntel.RoundResult;
+import com.bueno.spi.model.TrucoCard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * <p>Read-only table of perfect answers for late-hand positions, in which the bot is the next to play and both
+ * players hold at most two cards. A position is described from the bot point of view by the cards held by each
+ * player, the card on the table, if any, and the results of the rounds already played. Each lookup is a single
+ * read of one byte.</p>
+ *
+ * <p>Only the relative order of the cards matters to the outcome of the card play, so positions are stored in
+ * canonical form: suits that do not change the card order are ignored and the values of all cards involved are
+ * ranked densely from 1 up to 4. This shrinks the whole endgame to {@value #ENTRIES} entries, which are generated by
+ * {@link EndgameTableGenerator} and can be memory-mapped from a file with {@link #open(Path)}. Truco raises are not
+ * considered.</p>
+ *
+ * <p>A bot never sees the opponent cards, so the table is meant for searches that sample them, such as
+ * determinized playouts: {@link #outcome(int[], int[], int, List)} scores a sampled position from the point of view
+ * of either player, given card values instead of cards. {@link #outcomeCode(int, int, int, int, int)} does the same
+ * on packed hands and results without allocating, for searches that score a position on every playout.</p>
+ * */
+public final class EndgameTable {
+
+    static final int MAGIC = 0x43544547;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 12;
+
+    static final int MAX_VALUE = 4;
+    static final int HANDS = 15;
+    static final int RESULTS = 12;
+    static final int TABLES = MAX_VALUE + 1;
+    static final int ENTRIES = HANDS * HANDS * RESULTS * TABLES;
+
+    static final int VALID = 0x80;
+
+    /**
+     * Codes of round results packed by {@link #outcomeCode(int, int, int, int, int)}.
+     */
+    public static final int WON = HandSolver.WON, DREW = HandSolver.DREW, LOST = HandSolver.LOST;
+
+    /**
+     * Codes of hand outcomes returned by {@link #outcomeCode(int, int, int, int, int)}.
+     */
+    public static final int NO_OUTCOME = -1, LOSS = HandSolver.LOSS, DRAW = HandSolver.DRAW, WIN = HandSolver.WIN;
+
+    private static volatile EndgameTable generated;
+
+    private final ByteBuffer entries;
+
+    private EndgameTable(ByteBuffer entries) {
+        this.entries = entries;
+    }
+
+    public enum HandOutcome {WIN, DRAW, LOSS}
+
+    /**
+     * Perfect answer for a position: the card the bot must play and the hand outcome when both players play perfectly.
+     */
+    public record Answer(HandOutcome outcome, TrucoCard card) {
+    }
+
+    /**
+     * <p>Memory-maps a table previously written by {@link EndgameTableGenerator#write(Path)}.</p>
+     *
+     * @param file path of the table file, must be non-null
+     * @return the endgame table stored in {@code file}
+     * @throws NullPointerException if {@code file} is null
+     * @throws UncheckedIOException if the file can not be read
+     * @throws IllegalArgumentException if the file is not a valid endgame table
+     */
+    public static EndgameTable open(Path file) {
+        Objects.requireNonNull(file, "Path of the endgame table must not be null.");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return of(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not read endgame table " + file, e);
+        }
+    }
+
+    /**
+     * @return an endgame table generated in memory on first use and shared afterwards
+     */
+    public static EndgameTable generated() {
+        EndgameTable table = generated;
+        if (table == null) {
+            synchronized (EndgameTable.class) {
+                table = generated;
+                if (table == null) generated = table = of(EndgameTableGenerator.generate());
+            }
+        }
+        return table;
+    }
+
+    static EndgameTable of(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IllegalArgumentException("Not an endgame table.");
+        if (buffer.getInt(4) != VERSION)
+            throw new IllegalArgumentException("Unsupported endgame table version: " + buffer.getInt(4));
+        if (buffer.getInt(8) != ENTRIES || buffer.remaining() < HEADER_SIZE + ENTRIES)
+            throw new IllegalArgumentException("Endgame table is truncated.");
+        return new EndgameTable(buffer.slice(HEADER_SIZE, ENTRIES));
+    }
+
+    /**
+     * @param intel the current game intel, must be non-null
+     * @param opponentCards cards held by the opponent, must be non-null
+     * @return the perfect answer for the position, or an empty optional if it is not a late-hand position
+     * @throws NullPointerException if any parameter is null
+     */
+    public Optional<Answer> lookup(GameIntel intel, List<TrucoCard> opponentCards) {
+        Objects.requireNonNull(intel, "GameIntel must not be null.");
+        return lookup(intel.getCards(), opponentCards, intel.getVira(), intel.getOpponentCard().orElse(null),
+                intel.getRoundResults());
+    }
+
+    /**
+     * @param botCards cards held by the bot, must be non-null
+     * @param opponentCards cards held by the opponent, must be non-null
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @param cardOnTable card played by the opponent in the current round, or null if the bot starts the round
+     * @param roundResults results of the rounds already played, must be non-null
+     * @return the perfect answer for the position, or an empty optional if it is not a late-hand position or if the
+     * hand is already decided
+     * @throws NullPointerException if any parameter but {@code cardOnTable} is null
+     */
+    public Optional<Answer> lookup(List<TrucoCard> botCards, List<TrucoCard> opponentCards, TrucoCard vira,
+                                   TrucoCard cardOnTable, List<RoundResult> roundResults) {
+        Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
+        final int played = roundResults.size();
+        if (played < 1 || played > 2) return Optional.empty();
+        final int opponentCount = botCards.size() - (cardOnTable == null ? 0 : 1);
+        if (botCards.size() != 3 - played || opponentCards.size() != opponentCount) return Optional.empty();
+
+        final int[] botValues = botCards.stream().mapToInt(card -> valueOf(card, vira)).toArray();
+        final int[] opponentValues = opponentCards.stream().mapToInt(card -> valueOf(card, vira)).toArray();
+        final int tableValue = cardOnTable == null ? 0 : valueOf(cardOnTable, vira);
+        final int[] rankOf = denseRanks(botValues, opponentValues, tableValue);
+
+        final int entry = entryOf(botValues, opponentValues, tableValue, roundResults, rankOf);
+        if ((entry & VALID) == 0) return Optional.empty();
+
+        final int move = entry >>> 2 & 0x7;
+        final TrucoCard card = botCards.stream()
+                .filter(botCard -> rankOf[valueOf(botCard, vira)] == move)
+                .findFirst().orElseThrow();
+        return Optional.of(new Answer(outcomeOf(entry & 3), card));
+    }
+
+    /**
+     * <p>Scores a late-hand position whose cards are all known, for instance one in which the opponent cards were
+     * sampled from the unseen cards. Cards are given by value, the {@link TrucoCard#relativeValue(TrucoCard)
+     * relative value} plus one, so only their order matters.</p>
+     *
+     * @param moverValues values of the cards held by the player to move, must be non-null
+     * @param otherValues values of the cards held by the other player, must be non-null
+     * @param tableValue value of the card the other player put on the table in the current round, or 0 if the
+     *                   player to move starts the round
+     * @param roundResults results of the rounds already played, from the point of view of the player to move, must be
+     *                     non-null
+     * @return the hand outcome for the player to move when both play perfectly, or an empty optional if it is not a
+     * late-hand position or if the hand is already decided
+     * @throws NullPointerException if {@code moverValues}, {@code otherValues} or {@code roundResults} is null
+     * @throws IllegalArgumentException if a value is not between 1 and 14
+     */
+    public Optional<HandOutcome> outcome(int[] moverValues, int[] otherValues, int tableValue,
+                                         List<RoundResult> roundResults) {
+        final int played = roundResults.size();
+        if (played < 1 || played > 2 || moverValues.length > 3 || otherValues.length > 3) return Optional.empty();
+        int results = 0;
+        for (int i = 0; i < played; i++) results |= HandSolver.codeOf(roundResults.get(i)) << 2 * i;
+        final int outcome = outcomeCode(packed(moverValues), packed(otherValues), tableValue, results, played);
+        return outcome == NO_OUTCOME ? Optional.empty() : Optional.of(outcomeOf(outcome));
+    }
+
+    /**
+     * <p>Allocation-free form of {@link #outcome(int[], int[], int, List)}. Hands pack the values of the cards held by
+     * a player in 4-bit groups, in any order, leaving 0 for missing cards. Round results are packed in 2-bit groups of
+     * {@link #WON}, {@link #DREW} and {@link #LOST}, first round in the lowest bits.</p>
+     *
+     * @param moverHand packed values of the cards held by the player to move
+     * @param otherHand packed values of the cards held by the other player
+     * @param tableValue value of the card the other player put on the table in the current round, or 0 if the
+     *                   player to move starts the round
+     * @param results packed results of the rounds already played, from the point of view of the player to move
+     * @param played number of rounds already played
+     * @return {@link #WIN}, {@link #DRAW} or {@link #LOSS} for the player to move when both play perfectly, or
+     * {@link #NO_OUTCOME} if it is not a late-hand position or if the hand is already decided
+     * @throws IllegalArgumentException if a value is not between 1 and 14 or a round result code is unknown
+     */
+    public int outcomeCode(int moverHand, int otherHand, int tableValue, int results, int played) {
+        if (played < 1 || played > 2) return NO_OUTCOME;
+        final int moverCount = countOf(moverHand);
+        if (moverCount != 3 - played || countOf(otherHand) != moverCount - (tableValue == 0 ? 0 : 1)) return NO_OUTCOME;
+        for (int i = 0; i < played; i++) checkResult(results >>> 2 * i & 3);
+
+        final int present = presenceOf(moverHand) | presenceOf(otherHand)
+                | (tableValue == 0 ? 0 : 1 << checkValue(tableValue));
+        final int mover = canonical(moverHand, present);
+        final int other = canonical(otherHand, present);
+        final int table = tableValue == 0 ? 0 : rankOf(tableValue, present);
+        final int entry = entries.get(indexOf(mover, other, results & (1 << 2 * played) - 1, played, table)) & 0xFF;
+        return (entry & VALID) == 0 ? NO_OUTCOME : entry & 3;
+    }
+
+    private static int packed(int[] values) {
+        int hand = 0;
+        for (int i = 0; i < values.length; i++) hand |= checkValue(values[i]) << 4 * i;
+        return hand;
+    }
+
+    private static int countOf(int hand) {
+        int count = 0;
+        for (int index = 0; index < 3; index++) if (HandSolver.valueAt(hand, index) != 0) count++;
+        return hand >>> 12 == 0 ? count : -1;
+    }
+
+    private static int presenceOf(int hand) {
+        int present = 0;
+        for (int index = 0; index < 3; index++) {
+            final int value = HandSolver.valueAt(hand, index);
+            if (value != 0) present |= 1 << checkValue(value);
+        }
+        return present;
+    }
+
+    private static int canonical(int hand, int present) {
+        int canonical = 0;
+        for (int index = 0; index < 3; index++) {
+            final int value = HandSolver.valueAt(hand, index);
+            if (value != 0) canonical = HandSolver.add(canonical, rankOf(value, present));
+        }
+        return canonical;
+    }
+
+    //Dense rank of a value among the values present, from 1 up.
+    private static int rankOf(int value, int present) {
+        return Integer.bitCount(present & (2 << value) - 1);
+    }
+
+    private static void checkResult(int result) {
+        if (result < WON || result > LOST) throw new IllegalArgumentException("Unknown round result code: " + result);
+    }
+
+    private int entryOf(int[] moverValues, int[] otherValues, int tableValue, List<RoundResult> roundResults,
+                        int[] rankOf) {
+        int mover = 0;
+        for (int value : moverValues) mover = HandSolver.add(mover, rankOf[value]);
+        int other = 0;
+        for (int value : otherValues) other = HandSolver.add(other, rankOf[value]);
+        int results = 0;
+        for (int i = 0; i < roundResults.size(); i++) results |= HandSolver.codeOf(roundResults.get(i)) << 2 * i;
+        final int table = tableValue == 0 ? 0 : rankOf[tableValue];
+        return entries.get(indexOf(mover, other, results, roundResults.size(), table)) & 0xFF;
+    }
+
+    static int indexOf(int bot, int opponent, int results, int played, int table) {
+        final int resultIndex = played == 1 ? (results & 3) - 1 : 3 + ((results & 3) - 1) * 3 + (results >>> 2 & 3) - 1;
+        return ((handIndex(bot) * HANDS + handIndex(opponent)) * RESULTS + resultIndex) * TABLES + table;
+    }
+
+    private static int handIndex(int hand) {
+        final int higher = HandSolver.valueAt(hand, 0);
+        final int lower = HandSolver.valueAt(hand, 1);
+        return higher * (higher + 1) / 2 + lower;
+    }
+
+    private static int valueOf(TrucoCard card, TrucoCard vira) {
+        return card.relativeValue(vira) + 1;
+    }
+
+    private static int[] denseRanks(int[] moverValues, int[] otherValues, int tableValue) {
+        final boolean[] present = new boolean[15];
+        for (int value : moverValues) present[checkValue(value)] = true;
+        for (int value : otherValues) present[checkValue(value)] = true;
+        if (tableValue != 0) present[checkValue(tableValue)] = true;
+
+        final int[] rankOf = new int[present.length];
+        int rank = 0;
+        for (int value = 1; value < present.length; value++) if (present[value]) rankOf[value] = ++rank;
+        return rankOf;
+    }
+
+    private static int checkValue(int value) {
+        if (value < 1 || value > 14) throw new IllegalArgumentException("Card value must be between 1 and 14: " + value);
+        return value;
+    }
+
+    private static HandOutcome outcomeOf(int outcome) {
+        return switch (outcome) {
+            case HandSolver.WIN -> HandOutcome.WIN;
+            case HandSolver.DRAW -> HandOutcome.DRAW;
+            default -> HandOutcome.LOSS;
+        };
+    }
+}
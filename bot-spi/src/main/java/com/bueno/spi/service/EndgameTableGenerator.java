@@ -0,0 +1,124 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>Exhaustively solves every canonical late-hand position and writes the answers in the binary format read by
+ * {@link EndgameTable}: a header with the magic number, the format version and the number of entries, followed by one
+ * byte per position. A valid entry has its highest bit set, the hand outcome in bits 0-1 and the canonical value of
+ * the card to play in bits 2-4.</p>
+ *
+ * <p>Run with the path of the output file as the only argument. Without arguments, the table is written to
+ * {@code endgame.bin} in the working directory.</p>
+ * */
+public final class EndgameTableGenerator {
+
+    private EndgameTableGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        final Path file = Path.of(args.length > 0 ? args[0] : "endgame.bin");
+        write(file);
+        System.out.println("Endgame table written to " + file.toAbsolutePath());
+    }
+
+    /**
+     * @param file path of the table file to create or overwrite, must be non-null
+     * @throws IOException if the file can not be written
+     * @throws NullPointerException if {@code file} is null
+     */
+    public static void write(Path file) throws IOException {
+        Objects.requireNonNull(file, "Path of the endgame table must not be null.");
+        final ByteBuffer table = generate();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (table.hasRemaining()) channel.write(table);
+        }
+    }
+
+    /**
+     * @return a buffer containing the header and every entry of the endgame table
+     */
+    public static ByteBuffer generate() {
+        final ByteBuffer buffer = ByteBuffer.allocate(EndgameTable.HEADER_SIZE + EndgameTable.ENTRIES);
+        buffer.putInt(EndgameTable.MAGIC).putInt(EndgameTable.VERSION).putInt(EndgameTable.ENTRIES);
+        final ByteBuffer entries = buffer.slice(EndgameTable.HEADER_SIZE, EndgameTable.ENTRIES);
+
+        for (int played = 1; played <= 2; played++) {
+            final int botCount = 3 - played;
+            for (int results : resultsOf(played)) {
+                for (int table = 0; table <= EndgameTable.MAX_VALUE; table++) {
+                    final int opponentCount = botCount - (table == 0 ? 0 : 1);
+                    for (int bot : handsOf(botCount)) {
+                        for (int opponent : handsOf(opponentCount)) {
+                            if (!isCanonical(bot, opponent, table)) continue;
+                            final int solution = HandSolver.solve(bot, opponent, results, played, table == 0, table);
+                            final int move = solution >>> 8 & 0xF;
+                            final int entry = EndgameTable.VALID | solution & 3 | move << 2;
+                            entries.put(EndgameTable.indexOf(bot, opponent, results, played, table), (byte) entry);
+                        }
+                    }
+                }
+            }
+        }
+        return buffer.rewind();
+    }
+
+    private static int[] resultsOf(int played) {
+        final int[] codes = {HandSolver.WON, HandSolver.DREW, HandSolver.LOST};
+        if (played == 1) return codes;
+        final int[] results = new int[codes.length * codes.length];
+        int count = 0;
+        for (int first : codes)
+            for (int second : codes) {
+                final int result = first | second << 2;
+                if (HandSolver.outcomeOf(result, 2) == HandSolver.UNDECIDED) results[count++] = result;
+            }
+        return Arrays.copyOf(results, count);
+    }
+
+    private static int[] handsOf(int count) {
+        if (count == 0) return new int[]{0};
+        final int[] hands = new int[EndgameTable.MAX_VALUE * (EndgameTable.MAX_VALUE + 1) / 2];
+        int size = 0;
+        for (int higher = 1; higher <= EndgameTable.MAX_VALUE; higher++) {
+            if (count == 1) hands[size++] = higher;
+            else for (int lower = 1; lower <= higher; lower++) hands[size++] = HandSolver.add(higher, lower);
+        }
+        return Arrays.copyOf(hands, size);
+    }
+
+    private static boolean isCanonical(int bot, int opponent, int table) {
+        int present = table == 0 ? 0 : 1 << table;
+        for (int index = 0; index < 2; index++)
+            present |= 1 << HandSolver.valueAt(bot, index) | 1 << HandSolver.valueAt(opponent, index);
+        present &= ~1;
+        return (present & present + 2) == 0;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.GameIntel.RoundResult;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Perfect information solver for the card play of a hand, shared by {@link WinProbabilityEvaluator} and
+ * {@link EndgameTableGenerator}. Cards are represented by positive values in which only the order matters, and hands
+ * are up to three values packed in 4-bit groups sorted in descending order. Round results are packed in 2-bit groups
+ * ({@link #WON}, {@link #DREW}, {@link #LOST}), first round in the lowest bits.</p>
+ *
+ * <p>A solution packs the hand outcome for the bot ({@link #LOSS}, {@link #DRAW} or {@link #WIN}) in bits 0-1, the
+ * round results of the principal variation in bits 2-7 and the value of the best card for the side to move in
+ * bits 8-11. Solutions are memoized in a thread-safe table shared by all callers.</p>
+ * */
+final class HandSolver {
+
+    static final int WON = 1, DREW = 2, LOST = 3;
+    static final int LOSS = 0, DRAW = 1, WIN = 2, UNDECIDED = -1;
+
+    private static final Map<Long, Integer> solutions = new ConcurrentHashMap<>();
+
+    private HandSolver() {
+    }
+
+    static int solve(int bot, int opponent, int results, int played, boolean botLeads, int table) {
+        final long key = bot | (long) opponent << 12 | (long) results << 24 | (long) played << 30
+                | (botLeads ? 1L : 0L) << 32 | (long) table << 33;
+        final Integer known = solutions.get(key);
+        if (known != null) return known;
+
+        final boolean botToPlay = botLeads == (table == 0);
+        final int hand = botToPlay ? bot : opponent;
+        int best = UNDECIDED;
+        int last = 0;
+        for (int index = 0; index < 3; index++) {
+            final int value = valueAt(hand, index);
+            if (value == 0) break;
+            if (value == last) continue;
+            last = value;
+            final int remaining = remove(hand, index);
+            final int solution;
+            if (table == 0) solution = botToPlay
+                    ? solve(remaining, opponent, results, played, true, value)
+                    : solve(bot, remaining, results, played, false, value);
+            else solution = botToPlay
+                    ? playRound(remaining, opponent, results, played, botLeads, value, table)
+                    : playRound(bot, remaining, results, played, botLeads, table, value);
+            if (best == UNDECIDED || (botToPlay ? (solution & 3) > (best & 3) : (solution & 3) < (best & 3)))
+                best = solution & 0xFF | value << 8;
+            if ((best & 3) == (botToPlay ? WIN : LOSS)) break;
+        }
+        if (best == UNDECIDED) best = DRAW | results << 2;
+
+        solutions.put(key, best);
+        return best;
+    }
+
+    private static int playRound(int bot, int opponent, int results, int played, boolean botLeads, int botCard, int opponentCard) {
+        final int result = botCard > opponentCard ? WON : botCard < opponentCard ? LOST : DREW;
+        final int newResults = results | result << 2 * played;
+        final int outcome = outcomeOf(newResults, played + 1);
+        if (outcome != UNDECIDED) return outcome | newResults << 2;
+        final boolean nextBotLeads = result == DREW ? botLeads : result == WON;
+        return solve(bot, opponent, newResults, played + 1, nextBotLeads, 0);
+    }
+
+    static int outcomeOf(int results, int played) {
+        final int first = results & 3;
+        final int second = results >>> 2 & 3;
+        final int third = results >>> 4 & 3;
+        if (played == 2) {
+            if (first == DREW && second != DREW) return outcomeOf(second);
+            if (first != DREW && second == DREW) return outcomeOf(first);
+            if (first == second && first != DREW) return outcomeOf(first);
+            return UNDECIDED;
+        }
+        if (played == 3) {
+            if (third == DREW && first != DREW) return outcomeOf(first);
+            return outcomeOf(third);
+        }
+        return UNDECIDED;
+    }
+
+    private static int outcomeOf(int roundResult) {
+        return switch (roundResult) {
+            case WON -> WIN;
+            case LOST -> LOSS;
+            default -> DRAW;
+        };
+    }
+
+    static int codeOf(RoundResult result) {
+        return switch (result) {
+            case WON -> WON;
+            case DREW -> DREW;
+            case LOST -> LOST;
+        };
+    }
+
+    static int valueAt(int hand, int index) {
+        return hand >>> 4 * index & 0xF;
+    }
+
+    static int add(int hand, int value) {
+        int result = 0;
+        int position = 0;
+        boolean inserted = false;
+        for (int index = 0; index < 3; index++) {
+            final int current = valueAt(hand, index);
+            if (!inserted && value >= current) {
+                result |= value << 4 * position++;
+                inserted = true;
+            }
+            if (current != 0) result |= current << 4 * position++;
+        }
+        if (!inserted) result |= value << 4 * position;
+        return result;
+    }
+
+    private static int remove(int hand, int index) {
+        final int lower = hand & (1 << 4 * index) - 1;
+        final int upper = hand >>> 4 * (index + 1);
+        return lower | upper << 4 * index;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardSet;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.GameIntel.RoundResult;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.model.WinProbability;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Computes the exact probability of winning the current hand and each of its rounds by enumerating every
+ * possible opponent holding among the cards unseen by the bot. Each holding is equally likely and is solved with
+ * perfect information: the bot plays to maximize and the opponent to minimize the hand result, following the same
+ * round and tie rules as the game engine. Truco raises and discards are not considered.</p>
+ *
+ * <p>The outcome of a hand only depends on how each opponent card compares to each bot card. Opponent cards are
+ * therefore grouped in at most seven classes (below, equal to or between the bot card values) and holdings are
+ * enumerated as weighted multisets of classes, so a first round evaluation solves fewer than a hundred holdings.
+ * Positions expressed in classes do not depend on the actual cards, so their solutions are memoized in a bounded,
+ * thread-safe table shared by all evaluations (see {@link HandSolver}).</p>
+ * */
+public final class WinProbabilityEvaluator {
+
+    private static final int MAX_VALUE = 14;
+    private static final int MAX_CLASS = 7;
+
+    private WinProbabilityEvaluator() {
+    }
+
+    /**
+     * @param intel the current game intel, must be non-null
+     * @return the win probability of the hand described by {@code intel}
+     * @throws NullPointerException if {@code intel} is null
+     */
+    public static WinProbability evaluate(GameIntel intel) {
+        Objects.requireNonNull(intel, "GameIntel must not be null.");
+        return evaluate(intel.getCards(), intel.getOpenCards(), intel.getVira(),
+                intel.getOpponentCard().orElse(null), intel.getRoundResults());
+    }
+
+    /**
+     * @param cards cards held by the bot, must be non-null
+     * @param openCards cards already open in the hand, including the vira, must be non-null
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @param opponentCard card played by the opponent in the current round, or null if the bot starts the round
+     * @param roundResults results of the rounds already played, must be non-null
+     * @return the win probability of the hand
+     * @throws NullPointerException if any parameter but {@code opponentCard} is null
+     */
+    public static WinProbability evaluate(List<TrucoCard> cards, List<TrucoCard> openCards, TrucoCard vira,
+                                          TrucoCard opponentCard, List<RoundResult> roundResults) {
+        Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
+        CardSet unseen = CardSet.all().minus(CardSet.of(cards)).minus(CardSet.of(openCards)).without(vira);
+        if (opponentCard != null) unseen = unseen.without(opponentCard);
+
+        final int[] classOf = classesRelativeTo(cards, vira);
+        final int[] available = new int[MAX_CLASS + 1];
+        for (TrucoCard card : unseen) available[classOf[valueOf(card, vira)]]++;
+
+        int hand = 0;
+        for (TrucoCard card : cards) hand = HandSolver.add(hand, classOf[valueOf(card, vira)]);
+        final int botHand = hand;
+
+        int played = 0;
+        for (int i = 0; i < roundResults.size(); i++) played |= HandSolver.codeOf(roundResults.get(i)) << 2 * i;
+        final int results = played;
+
+        final int opponentCardCount = cards.size() - (opponentCard == null ? 0 : 1);
+        final int table = opponentCard == null ? 0 : classOf[valueOf(opponentCard, vira)];
+        final boolean botLeads = opponentCard == null;
+
+        final double[] totals = new double[3];
+        final double[] roundWins = new double[3];
+        final double[] totalWeight = new double[1];
+        enumerate(available, 1, Math.max(0, opponentCardCount), 0, 1.0, (opponentHand, weight) -> {
+            final int solution = HandSolver.solve(botHand, opponentHand, results, roundResults.size(), botLeads, table);
+            totals[solution & 3] += weight;
+            for (int round = 0; round < 3; round++)
+                if ((solution >>> 2 + 2 * round & 3) == HandSolver.WON) roundWins[round] += weight;
+            totalWeight[0] += weight;
+        });
+
+        final double total = totalWeight[0];
+        if (total == 0) throw new IllegalArgumentException("Not enough unseen cards to deal the opponent hand.");
+        for (int round = 0; round < 3; round++) roundWins[round] /= total;
+        return new WinProbability(totals[HandSolver.WIN] / total, totals[HandSolver.DRAW] / total,
+                totals[HandSolver.LOSS] / total, roundWins);
+    }
+
+    private static int valueOf(TrucoCard card, TrucoCard vira) {
+        return card.relativeValue(vira) + 1;
+    }
+
+    private static int[] classesRelativeTo(List<TrucoCard> cards, TrucoCard vira) {
+        final boolean[] isBotValue = new boolean[MAX_VALUE + 1];
+        for (TrucoCard card : cards) isBotValue[valueOf(card, vira)] = true;
+
+        final int[] classOf = new int[MAX_VALUE + 1];
+        int belowOrBetween = 1;
+        for (int value = 1; value <= MAX_VALUE; value++) {
+            if (isBotValue[value]) {
+                classOf[value] = belowOrBetween + 1;
+                belowOrBetween += 2;
+            } else classOf[value] = belowOrBetween;
+        }
+        return classOf;
+    }
+
+    private interface HoldingConsumer {
+        void accept(int hand, double weight);
+    }
+
+    private static void enumerate(int[] available, int value, int remaining, int hand, double weight, HoldingConsumer consumer) {
+        if (remaining == 0) {
+            consumer.accept(hand, weight);
+            return;
+        }
+        if (value > MAX_CLASS) return;
+        for (int taken = 0; taken <= Math.min(remaining, available[value]); taken++) {
+            int newHand = hand;
+            for (int i = 0; i < taken; i++) newHand = HandSolver.add(newHand, value);
+            enumerate(available, value + 1, remaining - taken, newHand, weight * binomial(available[value], taken), consumer);
+        }
+    }
+
+    private static double binomial(int n, int k) {
+        double result = 1;
+        for (int i = 0; i < k; i++) result = result * (n - i) / (i + 1);
+        return result;
+    }
+}
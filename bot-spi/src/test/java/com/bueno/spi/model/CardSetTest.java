@@ -0,0 +1,111 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardSetTest {
+
+    private final TrucoCard vira = TrucoCard.of(SEVEN, DIAMONDS);
+
+    @Test
+    @DisplayName("Should contain only the open cards it was created from")
+    void shouldContainOnlyTheOpenCardsItWasCreatedFrom() {
+        final CardSet cards = CardSet.of(TrucoCard.of(ACE, SPADES), TrucoCard.of(FOUR, CLUBS), TrucoCard.closed());
+        assertAll(
+                () -> assertEquals(2, cards.size()),
+                () -> assertTrue(cards.contains(TrucoCard.of(ACE, SPADES))),
+                () -> assertFalse(cards.contains(TrucoCard.of(ACE, CLUBS))),
+                () -> assertEquals(List.of(TrucoCard.of(FOUR, CLUBS), TrucoCard.of(ACE, SPADES)), cards.toList())
+        );
+    }
+
+    @Test
+    @DisplayName("Should support set operations")
+    void shouldSupportSetOperations() {
+        final CardSet first = CardSet.of(TrucoCard.of(ACE, SPADES), TrucoCard.of(FOUR, CLUBS));
+        final CardSet second = CardSet.of(TrucoCard.of(FOUR, CLUBS), TrucoCard.of(KING, HEARTS));
+        assertAll(
+                () -> assertEquals(3, first.union(second).size()),
+                () -> assertEquals(CardSet.of(TrucoCard.of(FOUR, CLUBS)), first.intersection(second)),
+                () -> assertEquals(CardSet.of(TrucoCard.of(ACE, SPADES)), first.minus(second)),
+                () -> assertEquals(38, first.complement().size()),
+                () -> assertEquals(first, CardSet.ofMask(first.mask())),
+                () -> assertEquals(CardSet.empty(), first.without(TrucoCard.of(ACE, SPADES)).without(TrucoCard.of(FOUR, CLUBS)))
+        );
+    }
+
+    @Test
+    @DisplayName("Should not accept mask with bits beyond the deck")
+    void shouldNotAcceptMaskWithBitsBeyondTheDeck() {
+        assertThrows(IllegalArgumentException.class, () -> CardSet.ofMask(1L << 40));
+    }
+
+    @Test
+    @DisplayName("Should find strongest and weakest cards relative to the vira")
+    void shouldFindStrongestAndWeakestCardsRelativeToTheVira() {
+        final CardSet cards = CardSet.of(TrucoCard.of(QUEEN, DIAMONDS), TrucoCard.of(THREE, CLUBS), TrucoCard.of(FOUR, HEARTS));
+        assertAll(
+                () -> assertEquals(Optional.of(TrucoCard.of(QUEEN, DIAMONDS)), cards.strongest(vira)),
+                () -> assertEquals(Optional.of(TrucoCard.of(FOUR, HEARTS)), cards.weakest(vira)),
+                () -> assertEquals(Optional.empty(), CardSet.empty().strongest(vira))
+        );
+    }
+
+    @Test
+    @DisplayName("Should count manilhas relative to the vira")
+    void shouldCountManilhasRelativeToTheVira() {
+        final CardSet cards = CardSet.of(TrucoCard.of(QUEEN, DIAMONDS), TrucoCard.of(QUEEN, CLUBS), TrucoCard.of(JACK, CLUBS));
+        assertEquals(2, cards.manilhaCount(vira));
+    }
+
+    @Test
+    @DisplayName("Should find cheapest card that beats the opponent card")
+    void shouldFindCheapestCardThatBeatsTheOpponentCard() {
+        final CardSet cards = CardSet.of(TrucoCard.of(QUEEN, SPADES), TrucoCard.of(THREE, CLUBS), TrucoCard.of(KING, HEARTS));
+        assertAll(
+                () -> assertEquals(Optional.of(TrucoCard.of(KING, HEARTS)), cards.cheapestWinnerAgainst(TrucoCard.of(JACK, CLUBS), vira)),
+                () -> assertEquals(Optional.of(TrucoCard.of(QUEEN, SPADES)), cards.cheapestWinnerAgainst(TrucoCard.of(THREE, HEARTS), vira)),
+                () -> assertEquals(Optional.empty(), cards.cheapestWinnerAgainst(TrucoCard.of(QUEEN, HEARTS), vira)),
+                () -> assertEquals(Optional.of(TrucoCard.of(KING, HEARTS)), cards.cheapestWinnerAgainst(TrucoCard.closed(), vira))
+        );
+    }
+
+    @Test
+    @DisplayName("Should agree with relative values for every card pair")
+    void shouldAgreeWithRelativeValuesForEveryCardPair() {
+        final CardSet deck = CardSet.all();
+        for (TrucoCard card : deck) {
+            for (TrucoCard other : deck) {
+                final boolean beats = other.compareValueTo(card, vira) > 0;
+                assertEquals(beats, deck.strongerThan(card, vira).contains(other), other + " against " + card);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.bueno.spi.model.CardValueTable.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardValueTableTest {
+
+    @Test
+    @DisplayName("Should round trip rank and suit values through ordinals")
+    void shouldRoundTripRankAndSuitValuesThroughOrdinals() {
+        for (int ordinal = 0; ordinal < CLOSED_ORDINAL; ordinal++)
+            assertEquals(ordinal, ordinalOf(rankValueOf(ordinal), suitValueOf(ordinal)));
+        assertAll(
+                () -> assertEquals(CLOSED_ORDINAL, ordinalOf(0, 0)),
+                () -> assertEquals(0, rankValueOf(CLOSED_ORDINAL)),
+                () -> assertEquals(0, suitValueOf(CLOSED_ORDINAL))
+        );
+    }
+
+    @Test
+    @DisplayName("Should rank manilhas above every other card by suit")
+    void shouldRankManilhasAboveEveryOtherCardBySuit() {
+        final int vira = TrucoCard.of(CardRank.SEVEN, CardSuit.DIAMONDS).ordinal();
+        assertAll(
+                () -> assertTrue(isManilha(TrucoCard.of(CardRank.QUEEN, CardSuit.SPADES).ordinal(), vira)),
+                () -> assertEquals(10, relativeValue(TrucoCard.of(CardRank.QUEEN, CardSuit.DIAMONDS).ordinal(), vira)),
+                () -> assertEquals(13, relativeValue(TrucoCard.of(CardRank.QUEEN, CardSuit.CLUBS).ordinal(), vira)),
+                () -> assertEquals(9, relativeValue(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS).ordinal(), vira)),
+                () -> assertEquals(-1, relativeValue(CLOSED_ORDINAL, CLOSED_ORDINAL))
+        );
+    }
+}
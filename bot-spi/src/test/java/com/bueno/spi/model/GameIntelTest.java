@@ -98,4 +98,17 @@ class GameIntelTest {
         assertEquals(stepBuilder.build().hashCode(), stepBuilder.build().hashCode());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should expose bot, open and unseen cards as card sets")
+    void shouldExposeBotOpenAndUnseenCardsAsCardSets() {
+        final GameIntel intel = stepBuilder.build();
+        assertAll(
+                () -> assertEquals(CardSet.of(botCards), intel.getCardSet()),
+                () -> assertEquals(CardSet.of(openCards), intel.getOpenCardSet()),
+                () -> assertEquals(38, intel.getUnseenCardSet().size()),
+                () -> assertFalse(intel.getUnseenCardSet().contains(TrucoCard.of(ACE, HEARTS))),
+                () -> assertSame(intel.getUnseenCardSet(), intel.getUnseenCardSet())
+        );
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandAnalysisTest {
+
+    private final TrucoCard vira = TrucoCard.of(SEVEN, DIAMONDS);
+    private final List<TrucoCard> botCards = List.of(TrucoCard.of(KING, SPADES), TrucoCard.of(QUEEN, CLUBS), TrucoCard.of(FOUR, HEARTS));
+
+    private GameIntel intelAgainst(TrucoCard opponentCard) {
+        final List<TrucoCard> openCards = opponentCard == null ? List.of(vira) : List.of(vira, opponentCard);
+        return GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), openCards, vira, 1)
+                .botInfo(botCards, 0)
+                .opponentScore(0)
+                .opponentCard(opponentCard)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should rank bot cards from strongest to weakest")
+    void shouldRankBotCardsFromStrongestToWeakest() {
+        final HandAnalysis analysis = intelAgainst(null).getHandAnalysis();
+        assertAll(
+                () -> assertEquals(List.of(TrucoCard.of(QUEEN, CLUBS), TrucoCard.of(KING, SPADES), TrucoCard.of(FOUR, HEARTS)), analysis.ranking()),
+                () -> assertEquals(Optional.of(TrucoCard.of(QUEEN, CLUBS)), analysis.strongest()),
+                () -> assertEquals(Optional.of(TrucoCard.of(FOUR, HEARTS)), analysis.weakest())
+        );
+    }
+
+    @Test
+    @DisplayName("Should identify manilhas held by the bot")
+    void shouldIdentifyManilhasHeldByTheBot() {
+        final HandAnalysis analysis = intelAgainst(null).getHandAnalysis();
+        assertAll(
+                () -> assertEquals(1, analysis.manilhaCount()),
+                () -> assertTrue(analysis.hasZap()),
+                () -> assertFalse(analysis.hasCopas())
+        );
+    }
+
+    @Test
+    @DisplayName("Should find cards that beat or draw with the opponent card")
+    void shouldFindCardsThatBeatOrDrawWithTheOpponentCard() {
+        final HandAnalysis analysis = intelAgainst(TrucoCard.of(KING, HEARTS)).getHandAnalysis();
+        assertAll(
+                () -> assertEquals(CardSet.of(TrucoCard.of(QUEEN, CLUBS)), analysis.winnersAgainstOpponent()),
+                () -> assertEquals(CardSet.of(TrucoCard.of(KING, SPADES)), analysis.drawersAgainstOpponent()),
+                () -> assertEquals(Optional.of(TrucoCard.of(QUEEN, CLUBS)), analysis.cheapestWinner())
+        );
+    }
+
+    @Test
+    @DisplayName("Should have no winners if opponent has not played")
+    void shouldHaveNoWinnersIfOpponentHasNotPlayed() {
+        final HandAnalysis analysis = intelAgainst(null).getHandAnalysis();
+        assertAll(
+                () -> assertTrue(analysis.winnersAgainstOpponent().isEmpty()),
+                () -> assertEquals(Optional.empty(), analysis.cheapestWinner())
+        );
+    }
+
+    @Test
+    @DisplayName("Should count unseen cards stronger than a card")
+    void shouldCountUnseenCardsStrongerThanACard() {
+        final HandAnalysis analysis = intelAgainst(null).getHandAnalysis();
+        assertAll(
+                () -> assertEquals(36, analysis.unseen().size()),
+                () -> assertEquals(0, analysis.unseenStrongerThan(TrucoCard.of(QUEEN, CLUBS))),
+                () -> assertEquals(2, analysis.unseenStrongerThan(TrucoCard.of(QUEEN, DIAMONDS)))
+        );
+    }
+
+    @Test
+    @DisplayName("Should compute analysis once per intel")
+    void shouldComputeAnalysisOncePerIntel() {
+        final GameIntel intel = intelAgainst(null);
+        assertSame(intel.getHandAnalysis(), intel.getHandAnalysis());
+    }
+}
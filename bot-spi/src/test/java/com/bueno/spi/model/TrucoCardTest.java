@@ -254,4 +254,34 @@ class TrucoCardTest {
         assertEquals("[XX]", TrucoCard.closed().toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should round trip every card through its ordinal")
+    void shouldRoundTripEveryCardThroughItsOrdinal() {
+        for (int ordinal = 0; ordinal < TrucoCard.ORDINALS; ordinal++)
+            assertEquals(ordinal, TrucoCard.ofOrdinal(ordinal).ordinal());
+        assertAll(
+                () -> assertEquals(0, TrucoCard.of(FOUR, DIAMONDS).ordinal()),
+                () -> assertEquals(39, TrucoCard.of(THREE, CLUBS).ordinal()),
+                () -> assertEquals(40, TrucoCard.closed().ordinal()),
+                () -> assertThrows(IllegalArgumentException.class, () -> TrucoCard.ofOrdinal(41))
+        );
+    }
+
+    @Test
+    @DisplayName("Should relative values match rank and manilha rules for every card and vira")
+    void shouldRelativeValuesMatchRankAndManilhaRulesForEveryCardAndVira() {
+        for (int cardOrdinal = 0; cardOrdinal < 40; cardOrdinal++) {
+            for (int viraOrdinal = 0; viraOrdinal < 40; viraOrdinal++) {
+                final TrucoCard card = TrucoCard.ofOrdinal(cardOrdinal);
+                final TrucoCard vira = TrucoCard.ofOrdinal(viraOrdinal);
+                final boolean manilha = card.getRank() == vira.getRank().next();
+                final int expected = manilha ? 9 + card.getSuit().value()
+                        : card.getRank().value() > vira.getRank().value() ? card.getRank().value() - 1 : card.getRank().value();
+                assertEquals(manilha, card.isManilha(vira));
+                assertEquals(expected, card.relativeValue(vira));
+            }
+        }
+        assertThrows(IllegalStateException.class, () -> TrucoCard.closed().relativeValue(TrucoCard.closed()));
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.EndgameTable.Answer;
+import com.bueno.spi.service.EndgameTable.HandOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static com.bueno.spi.model.GameIntel.RoundResult.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndgameTableTest {
+
+    private final TrucoCard vira = TrucoCard.of(SEVEN, DIAMONDS);
+    private final EndgameTable table = EndgameTable.generated();
+
+    @Test
+    @DisplayName("Should win with a card that wins both remaining rounds")
+    void shouldWinWithACardThatWinsBothRemainingRounds() {
+        final Optional<Answer> answer = table.lookup(List.of(TrucoCard.of(KING, HEARTS), TrucoCard.of(JACK, SPADES)),
+                List.of(TrucoCard.of(FOUR, CLUBS), TrucoCard.of(SIX, HEARTS)), vira, null, List.of(LOST));
+        assertEquals(HandOutcome.WIN, answer.orElseThrow().outcome());
+    }
+
+    @Test
+    @DisplayName("Should lose last round against the zap on the table")
+    void shouldLoseLastRoundAgainstTheZapOnTheTable() {
+        final TrucoCard zap = TrucoCard.of(QUEEN, CLUBS);
+        final Optional<Answer> answer = table.lookup(List.of(TrucoCard.of(THREE, HEARTS)), List.of(), vira, zap, List.of(LOST, WON));
+        assertEquals(Optional.of(new Answer(HandOutcome.LOSS, TrucoCard.of(THREE, HEARTS))), answer);
+    }
+
+    @Test
+    @DisplayName("Should ignore suits of cards that are not manilhas")
+    void shouldIgnoreSuitsOfCardsThatAreNotManilhas() {
+        final Optional<Answer> clubs = table.lookup(List.of(TrucoCard.of(ACE, CLUBS), TrucoCard.of(FOUR, CLUBS)),
+                List.of(TrucoCard.of(TWO, CLUBS)), vira, TrucoCard.of(KING, CLUBS), List.of(DREW));
+        final Optional<Answer> hearts = table.lookup(List.of(TrucoCard.of(ACE, HEARTS), TrucoCard.of(FOUR, HEARTS)),
+                List.of(TrucoCard.of(TWO, HEARTS)), vira, TrucoCard.of(KING, HEARTS), List.of(DREW));
+        assertAll(
+                () -> assertEquals(new Answer(HandOutcome.WIN, TrucoCard.of(ACE, CLUBS)), clubs.orElseThrow()),
+                () -> assertEquals(new Answer(HandOutcome.WIN, TrucoCard.of(ACE, HEARTS)), hearts.orElseThrow())
+        );
+    }
+
+    @Test
+    @DisplayName("Should not answer positions out of the endgame")
+    void shouldNotAnswerPositionsOutOfTheEndgame() {
+        final List<TrucoCard> cards = List.of(TrucoCard.of(KING, HEARTS), TrucoCard.of(JACK, SPADES), TrucoCard.of(ACE, SPADES));
+        final List<TrucoCard> opponentCards = List.of(TrucoCard.of(FOUR, CLUBS), TrucoCard.of(SIX, HEARTS), TrucoCard.of(TWO, SPADES));
+        assertAll(
+                () -> assertTrue(table.lookup(cards, opponentCards, vira, null, List.of()).isEmpty()),
+                () -> assertTrue(table.lookup(cards.subList(0, 2), opponentCards, vira, null, List.of(WON)).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Should agree with the solver on every canonical position")
+    void shouldAgreeWithTheSolverOnEveryCanonicalPosition() {
+        final byte[] generated = new byte[EndgameTable.ENTRIES];
+        EndgameTableGenerator.generate().get(EndgameTable.HEADER_SIZE, generated);
+        final int bot = HandSolver.add(HandSolver.add(0, 3), 1);
+        final int opponent = HandSolver.add(0, 4);
+        final int solution = HandSolver.solve(bot, opponent, HandSolver.DREW, 1, false, 2);
+        final int entry = generated[EndgameTable.indexOf(bot, opponent, HandSolver.DREW, 1, 2)] & 0xFF;
+        assertAll(
+                () -> assertEquals(EndgameTable.VALID, entry & EndgameTable.VALID),
+                () -> assertEquals(solution & 3, entry & 3),
+                () -> assertEquals(solution >>> 8 & 0xF, entry >>> 2 & 7)
+        );
+    }
+
+    @Test
+    @DisplayName("Should score sampled positions by card value for the player to move")
+    void shouldScoreSampledPositionsByCardValueForThePlayerToMove() {
+        assertAll(
+                () -> assertEquals(Optional.of(HandOutcome.LOSS), table.outcome(new int[]{5, 3}, new int[]{6, 4}, 0, List.of(WON))),
+                () -> assertEquals(Optional.of(HandOutcome.WIN), table.outcome(new int[]{6, 4}, new int[]{3}, 5, List.of(LOST))),
+                () -> assertEquals(Optional.empty(), table.outcome(new int[]{5, 3, 1}, new int[]{6, 4, 2}, 0, List.of())),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> table.outcome(new int[]{15, 3}, new int[]{6, 4}, 0, List.of(WON)))
+        );
+    }
+
+    @Test
+    @DisplayName("Should score packed positions like positions given by value")
+    void shouldScorePackedPositionsLikePositionsGivenByValue() {
+        assertAll(
+                () -> assertEquals(EndgameTable.LOSS, table.outcomeCode(0x35, 0x46, 0, EndgameTable.WON, 1)),
+                () -> assertEquals(EndgameTable.WIN, table.outcomeCode(0x64, 0x3, 5, EndgameTable.LOST, 1)),
+                () -> assertEquals(EndgameTable.WIN, table.outcomeCode(0x46, 0x3, 5, EndgameTable.LOST, 1)),
+                () -> assertEquals(EndgameTable.NO_OUTCOME, table.outcomeCode(0x135, 0x246, 0, 0, 0)),
+                () -> assertEquals(EndgameTable.NO_OUTCOME, table.outcomeCode(0x35, 0x6, 0, EndgameTable.WON, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> table.outcomeCode(0x35, 0x46, 0, 0, 1)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> table.outcomeCode(0xF3, 0x46, 0, EndgameTable.WON, 1))
+        );
+    }
+
+    @Test
+    @DisplayName("Should read the same answers from a memory-mapped file")
+    void shouldReadTheSameAnswersFromAMemoryMappedFile(@TempDir Path directory) throws IOException {
+        final Path file = directory.resolve("endgame.bin");
+        EndgameTableGenerator.write(file);
+        final EndgameTable mapped = EndgameTable.open(file);
+        final List<TrucoCard> cards = List.of(TrucoCard.of(KING, HEARTS), TrucoCard.of(JACK, SPADES));
+        final List<TrucoCard> opponentCards = List.of(TrucoCard.of(FOUR, CLUBS), TrucoCard.of(SIX, HEARTS));
+        assertAll(
+                () -> assertEquals(EndgameTable.HEADER_SIZE + EndgameTable.ENTRIES, Files.size(file)),
+                () -> assertEquals(table.lookup(cards, opponentCards, vira, null, List.of(LOST)),
+                        mapped.lookup(cards, opponentCards, vira, null, List.of(LOST)))
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not endgame tables")
+    void shouldRejectFilesThatAreNotEndgameTables(@TempDir Path directory) throws IOException {
+        final Path file = Files.write(directory.resolve("other.bin"), new byte[64]);
+        assertThrows(IllegalArgumentException.class, () -> EndgameTable.open(file));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardSet;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.model.WinProbability;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static com.bueno.spi.model.GameIntel.RoundResult.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WinProbabilityEvaluatorTest {
+
+    private final TrucoCard vira = TrucoCard.of(SEVEN, DIAMONDS);
+
+    @Test
+    @DisplayName("Should always win with three manilhas against any opponent holding")
+    void shouldAlwaysWinWithThreeManilhasAgainstAnyOpponentHolding() {
+        final List<TrucoCard> cards = List.of(TrucoCard.of(QUEEN, CLUBS), TrucoCard.of(QUEEN, HEARTS), TrucoCard.of(QUEEN, SPADES));
+        final WinProbability probability = WinProbabilityEvaluator.evaluate(cards, List.of(vira), vira, null, List.of());
+        assertAll(
+                () -> assertEquals(1.0, probability.win(), 1e-9),
+                () -> assertEquals(1.0, probability.roundWin(0), 1e-9),
+                () -> assertEquals(0.0, probability.roundWin(2), 1e-9)
+        );
+    }
+
+    @Test
+    @DisplayName("Should lose last round if opponent played the zap")
+    void shouldLoseLastRoundIfOpponentPlayedTheZap() {
+        final TrucoCard zap = TrucoCard.of(QUEEN, CLUBS);
+        final WinProbability probability = WinProbabilityEvaluator.evaluate(
+                List.of(TrucoCard.of(THREE, HEARTS)), List.of(vira, zap), vira, zap, List.of(LOST, WON));
+        assertEquals(1.0, probability.loss(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should win last round if opponent discarded")
+    void shouldWinLastRoundIfOpponentDiscarded() {
+        final WinProbability probability = WinProbabilityEvaluator.evaluate(
+                List.of(TrucoCard.of(FOUR, HEARTS)), List.of(vira), vira, TrucoCard.closed(), List.of(LOST, WON));
+        assertEquals(1.0, probability.win(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should match direct count of opponent cards in the last round")
+    void shouldMatchDirectCountOfOpponentCardsInTheLastRound() {
+        final TrucoCard botCard = TrucoCard.of(KING, SPADES);
+        final List<TrucoCard> openCards = List.of(vira, TrucoCard.of(ACE, HEARTS), TrucoCard.of(TWO, CLUBS));
+        final GameIntel intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(WON, LOST), openCards, vira, 1)
+                .botInfo(List.of(botCard), 0)
+                .opponentScore(0)
+                .build();
+
+        final CardSet unseen = intel.getUnseenCardSet();
+        int lower = 0, equal = 0;
+        for (TrucoCard card : unseen) {
+            final int comparison = botCard.compareValueTo(card, vira);
+            if (comparison > 0) lower++;
+            if (comparison == 0) equal++;
+        }
+
+        final double expected = (double) (lower + equal) / unseen.size();
+        final WinProbability probability = WinProbabilityEvaluator.evaluate(intel);
+        assertAll(
+                () -> assertEquals(expected, probability.win(), 1e-9),
+                () -> assertEquals(1.0, probability.roundWin(0), 1e-9),
+                () -> assertEquals(0.0, probability.roundWin(1), 1e-9)
+        );
+    }
+
+    @Test
+    @DisplayName("Should hand probabilities sum to one in the first round")
+    void shouldHandProbabilitiesSumToOneInTheFirstRound() {
+        final List<TrucoCard> cards = List.of(TrucoCard.of(THREE, CLUBS), TrucoCard.of(JACK, HEARTS), TrucoCard.of(FIVE, SPADES));
+        final WinProbability probability = WinProbabilityEvaluator.evaluate(cards, List.of(vira), vira, null, List.of());
+        assertAll(
+                () -> assertEquals(1.0, probability.win() + probability.draw() + probability.loss(), 1e-9),
+                () -> assertTrue(probability.win() > 0 && probability.loss() > 0)
+        );
+    }
+}
@@ -2,9 +2,12 @@ package com.bueno.application.main;
 
 import com.bueno.application.main.commands.InitialMenuPrinter;
 import com.bueno.application.main.commands.ExecuteMenu;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class ConsoleStarter {
     public static void main(String[] args) {
+        Metrics.addRegistry(new SimpleMeterRegistry());
         ConsoleStarter console = new ConsoleStarter();
         console.printInitialMenu();
         console.menu();
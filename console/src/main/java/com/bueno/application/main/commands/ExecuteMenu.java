@@ -27,6 +27,7 @@ public class ExecuteMenu implements Command<Void> {
         System.out.println("Simulate Bot vs Bot .............[2]");
         System.out.println("Evaluate a Bot...................[3]");
         System.out.println("Rank all Bots....................[4]");
+        System.out.println("Show metrics.....................[5]");
         System.out.println("Exit.............................[0]");
         System.out.print("Choose a menu option: ");
     }
@@ -50,6 +51,10 @@ public class ExecuteMenu implements Command<Void> {
                 final var rank = new RankBots();
                 rank.allBots();
             }
+            case "5" -> {
+                final var metrics = new MetricsPrinter();
+                metrics.execute();
+            }
             default -> System.out.println("invalid Answer! \n");
 
         }
@@ -0,0 +1,40 @@
+package com.bueno.application.main.commands;
+
+import com.bueno.application.utils.Command;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class MetricsPrinter implements Command<Void> {
+
+    @Override
+    public Void execute() {
+        System.out.println("Metrics");
+        Metrics.globalRegistry.getMeters().stream()
+                .sorted(Comparator.comparing(this::describe))
+                .forEach(meter -> System.out.println(describe(meter) + " " + summarize(meter)));
+        System.out.println();
+        return null;
+    }
+
+    private String describe(Meter meter) {
+        final String tags = meter.getId().getTags().stream()
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", "));
+        return meter.getId().getName() + (tags.isEmpty() ? "" : "{" + tags + "}");
+    }
+
+    private String summarize(Meter meter) {
+        if (meter instanceof Timer timer)
+            return String.format("count=%d mean=%.3fms max=%.3fms", timer.count(),
+                    timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS));
+        final StringBuilder builder = new StringBuilder();
+        meter.measure().forEach(measurement -> builder.append(measurement.getStatistic().name().toLowerCase())
+                .append('=').append(measurement.getValue()).append(' '));
+        return builder.toString().trim();
+    }
+}
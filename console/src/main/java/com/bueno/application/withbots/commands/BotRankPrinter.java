@@ -6,9 +6,11 @@ import java.util.Map;
 
 public class BotRankPrinter implements Command<Void> {
     Map<String,Long> botRankMap;
+    Map<String,Long> botTimeoutsMap;
 
-    public BotRankPrinter(Map<String, Long> botRank) {
+    public BotRankPrinter(Map<String, Long> botRank, Map<String, Long> botTimeouts) {
         this.botRankMap = botRank;
+        this.botTimeoutsMap = botTimeouts;
     }
 
     @Override
@@ -17,7 +19,8 @@ public class BotRankPrinter implements Command<Void> {
         int rank = 0;
         for (var set : botRankMap.entrySet()) {
             rank++;
-            System.out.println("["+rank+"] "+set.getKey());
+            final long timeouts = botTimeoutsMap.getOrDefault(set.getKey(), 0L);
+            System.out.println("["+rank+"] "+set.getKey() + (timeouts > 0 ? " (" + timeouts + " timeouts)" : ""));
         }
         return null;
     }
@@ -10,6 +10,7 @@ public class EvaluateBotsPrinter implements Command<Void> {
     Long botWins;
     double winRate;
     double percentile;
+    long timeouts;
 
     public EvaluateBotsPrinter(EvaluateResultsDto resultsDto, String botName) {
         this.numberOfGames = resultsDto.numberOfGames();
@@ -18,6 +19,7 @@ public class EvaluateBotsPrinter implements Command<Void> {
         this.botWins = resultsDto.evaluatedBotWins();
         this.winRate = resultsDto.winRate();
         this.percentile = resultsDto.percentile();
+        this.timeouts = resultsDto.timeouts();
     }
 
     @Override
@@ -27,6 +29,7 @@ public class EvaluateBotsPrinter implements Command<Void> {
         System.out.println("Wins of " + botName + ": " + botWins + "/" + numberOfGames);
         System.out.printf("Win rate of all games: %.2f%%\n", winRate);
         System.out.printf("Win rate against each bot: %.2f%%\n", percentile);
+        System.out.println("Decisions over the time budget: " + timeouts);
         System.out.println("================================================================");
         return null;
     }
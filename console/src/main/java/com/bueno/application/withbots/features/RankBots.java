@@ -17,11 +17,11 @@ public class RankBots {
         showWaitingMessage();
         Map<String, Long> rankMap = useCase.rankAll();
         rankMap = sortByValueDescending(rankMap);
-        printRank(rankMap);
+        printRank(rankMap, useCase.timeouts());
     }
 
-    private void printRank(Map<String, Long> rankMap) {
-        BotRankPrinter printer = new BotRankPrinter(rankMap);
+    private void printRank(Map<String, Long> rankMap, Map<String, Long> timeouts) {
+        BotRankPrinter printer = new BotRankPrinter(rankMap, timeouts);
         printer.execute();
     }
 
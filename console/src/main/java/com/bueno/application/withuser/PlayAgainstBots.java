@@ -21,6 +21,7 @@
 package com.bueno.application.withuser;
 
 import com.bueno.application.withuser.commands.*;
+import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
 import com.bueno.domain.usecases.game.dtos.CreateDetachedDto;
 import com.bueno.domain.usecases.game.repos.GameRepositoryInMemoryImpl;
@@ -97,8 +98,8 @@ public class PlayAgainstBots {
     }
 
     private void handleCardPlaying(){
-        final Set<String> allowedActions = Set.of("PLAY");
-        final Set<String> notAllowedActions = Set.of();
+        final Set<PossibleAction> allowedActions = Set.of(PossibleAction.PLAY);
+        final Set<PossibleAction> notAllowedActions = Set.of();
 
         updateIntel();
         if(canNotPerform(allowedActions, notAllowedActions)) return;
@@ -121,7 +122,7 @@ public class PlayAgainstBots {
         else lastIntel = missingIntel.get(missingIntel.size() - 1);
     }
 
-    private boolean canNotPerform(Set<String> allowedActions, Set<String> notAllowedActions) {
+    private boolean canNotPerform(Set<PossibleAction> allowedActions, Set<PossibleAction> notAllowedActions) {
         final UUID possibleUuid = lastIntel.currentPlayerUuid();
         if(possibleUuid == null) return true;
         final boolean isCurrentPlayer = possibleUuid.equals(userUUID);
@@ -131,8 +132,8 @@ public class PlayAgainstBots {
     }
 
     private void handleRaiseRequest(){
-        final Set<String> allowedActions = Set.of("RAISE");
-        final Set<String> notAllowedActions = Set.of("QUIT");
+        final Set<PossibleAction> allowedActions = Set.of(PossibleAction.RAISE);
+        final Set<PossibleAction> notAllowedActions = Set.of(PossibleAction.QUIT);
 
         updateIntel();
         if(canNotPerform(allowedActions, notAllowedActions)) return;
@@ -146,8 +147,8 @@ public class PlayAgainstBots {
     }
 
     private void handleRaiseResponse(){
-        final Set<String> allowedActions = Set.of("ACCEPT", "QUIT");
-        final Set<String> notAllowedActions = Set.of();
+        final Set<PossibleAction> allowedActions = Set.of(PossibleAction.ACCEPT, PossibleAction.QUIT);
+        final Set<PossibleAction> notAllowedActions = Set.of();
 
         updateIntel();
         if(canNotPerform(allowedActions, notAllowedActions)) return;
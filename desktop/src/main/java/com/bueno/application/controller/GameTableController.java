@@ -22,6 +22,7 @@ package com.bueno.application.controller;
 
 import com.bueno.application.model.CardImage;
 import com.bueno.application.utils.TimelineBuilder;
+import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
 import com.bueno.domain.usecases.game.dtos.CreateDetachedDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
@@ -49,6 +50,8 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
+import static com.bueno.domain.entities.intel.PossibleAction.*;
+
 public class GameTableController {
 
     @FXML private Label lbPlayerNameValue;
@@ -170,15 +173,15 @@ public class GameTableController {
     }
 
     private void configureButtons(IntelDto intel){
-        final Predicate<String> shouldDisable = a -> !intel.possibleActions().contains(a) || !isUserNextPlayer(intel);
+        final Predicate<PossibleAction> shouldDisable = a -> !intel.possibleActions().contains(a) || !isUserNextPlayer(intel);
         final var baseScore = intel.handPointsProposal() == null ?
                 intel.handPoints() : intel.handPointsProposal();
         if(baseScore != 0 && baseScore != 12)
             btnRaise.setText("Pedir " + scoreToString(baseScore == 1? 3 : baseScore + 3) + "!");
 
-        btnAccept.setDisable(shouldDisable.test("ACCEPT"));
-        btnQuit.setDisable(shouldDisable.test("QUIT"));
-        btnRaise.setDisable(shouldDisable.test("RAISE"));
+        btnAccept.setDisable(shouldDisable.test(ACCEPT));
+        btnQuit.setDisable(shouldDisable.test(QUIT));
+        btnRaise.setDisable(shouldDisable.test(RAISE));
     }
 
     private String scoreToString(int points) {
@@ -236,14 +239,14 @@ public class GameTableController {
     }
 
     private void handleCardPlaying(MouseEvent event, ImageView cardImageView, int cardIndex){
-        if (canPerform("PLAY") && !CardImage.isMissing(cardImageView.getImage())) {
+        if (canPerform(PLAY) && !CardImage.isMissing(cardImageView.getImage())) {
             final var card = userCards.get(cardIndex);
             if (event.getButton() == MouseButton.PRIMARY) playCard(card, cardImageView);
             else flipCardImage(card, cardImageView);
         }
     }
 
-    private boolean canPerform(String action) {
+    private boolean canPerform(PossibleAction action) {
         final var possibleUuid = lastIntel.currentPlayerUuid();
         if (possibleUuid == null) return false;
         final var isCurrentPlayer = possibleUuid.equals(userUUID);
@@ -447,18 +450,18 @@ public class GameTableController {
     }
 
     public void accept(ActionEvent a) {
-        handleScoreChange("ACCEPT", () -> pointsProposalUseCase.accept(userUUID));
+        handleScoreChange(ACCEPT, () -> pointsProposalUseCase.accept(userUUID));
     }
 
     public void quit(ActionEvent a) {
-        handleScoreChange("QUIT", () -> pointsProposalUseCase.quit(userUUID));
+        handleScoreChange(QUIT, () -> pointsProposalUseCase.quit(userUUID));
     }
 
     public void raise(ActionEvent a) {
-        handleScoreChange("RAISE", () -> pointsProposalUseCase.raise(userUUID));
+        handleScoreChange(RAISE, () -> pointsProposalUseCase.raise(userUUID));
     }
 
-    private void handleScoreChange(String action, Runnable request){
+    private void handleScoreChange(PossibleAction action, Runnable request){
         if(canPerform(action)) {
             request.run();
             updateIntel();
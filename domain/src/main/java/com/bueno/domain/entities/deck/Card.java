@@ -20,17 +20,22 @@
 
 package com.bueno.domain.entities.deck;
 
+import com.bueno.spi.model.CardValueTable;
+
 import java.util.Objects;
 
 public final class Card {
 
+    public static final int ORDINALS = CardValueTable.ORDINALS;
     private static final Card[] cache = new Card[41];
     private final Suit suit;
     private final Rank rank;
+    private final int ordinal;
 
     private Card(Rank rank, Suit suit) {
         this.rank = rank;
         this.suit  = suit;
+        this.ordinal = CardValueTable.ordinalOf(rank.value(), suit.value());
     }
 
     public static Card of(Rank rank, Suit suit){
@@ -46,6 +51,13 @@ public final class Card {
         return fromCache(Rank.HIDDEN, Suit.HIDDEN);
     }
 
+    public static Card ofOrdinal(int ordinal){
+        if(ordinal < 0 || ordinal >= ORDINALS) throw new IllegalArgumentException("Invalid card ordinal: " + ordinal);
+        if(ordinal == CardValueTable.CLOSED_ORDINAL) return closed();
+        return fromCache(Rank.values()[CardValueTable.rankValueOf(ordinal)],
+                Suit.values()[CardValueTable.suitValueOf(ordinal)]);
+    }
+
     private static Card fromCache(Rank rank, Suit suit){
         int rankValue = rank.value();
         int suitValue = suit.value();
@@ -60,21 +72,19 @@ public final class Card {
     }
 
     private int computeCardValue(Card vira) {
-        if (isManilha(vira))
-            return switch (suit) {
-                case DIAMONDS -> 10;
-                case SPADES -> 11;
-                case HEARTS -> 12;
-                case CLUBS -> 13;
-                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
-            };
-        if(rank.value() > vira.rank.value()) return rank.value() - 1;
-        return rank.value();
+        final int value = CardValueTable.relativeValue(ordinal, vira.ordinal);
+        if (value < 0) throw new IllegalStateException("Closed card can not be manilha!");
+        return value;
     }
 
     public boolean isManilha(Card vira){
-        return getRank() == vira.getRank().next();
+        return CardValueTable.isManilha(ordinal, vira.ordinal);
     }
+
+    public int ordinal() {
+        return ordinal;
+    }
+
     public boolean isClosed() {
         return rank.equals(Rank.HIDDEN) && suit.equals(Suit.HIDDEN);
     }
@@ -74,6 +74,20 @@ public class Game {
         this.hands = new ArrayList<>(hands);
     }
 
+    //Creates an independent copy of this game to try actions on the current hand. Hands already played are shared.
+    public Game fork(){
+        final List<Hand> forkedHands = new ArrayList<>(hands);
+        final Hand forkedHand = currentHand().fork();
+        forkedHands.set(forkedHands.size() - 1, forkedHand);
+
+        final Player forkedPlayer1 = forkedHand.getOpponentOf(forkedHand.getOpponentOf(player1));
+        final Player forkedPlayer2 = forkedHand.getOpponentOf(forkedPlayer1);
+        final Player forkedFirstToPlay = player1.equals(firstToPlay) ? forkedPlayer1 : forkedPlayer2;
+
+        return new Game(uuid, timestamp, forkedPlayer1, forkedPlayer2, forkedFirstToPlay,
+                forkedHand.getOpponentOf(forkedFirstToPlay), forkedHands);
+    }
+
     public void prepareNewHand() {
         defineHandPlayingOrder();
 
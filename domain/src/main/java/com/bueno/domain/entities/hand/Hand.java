@@ -20,6 +20,9 @@
 
 package com.bueno.domain.entities.hand;
 
+import com.bueno.domain.diagnostics.HandActionEvent;
+import com.bueno.domain.diagnostics.HandEndEvent;
+import com.bueno.domain.diagnostics.HandStartEvent;
 import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.game.GameRuleViolationException;
 import com.bueno.domain.entities.hand.states.*;
@@ -73,16 +76,60 @@ public class Hand {
         this.points = points;
         this.pointsProposal = pointsProposal;
         this.result = result;
-        this.state = stateFromString(stateName);
+        setState(stateFromString(stateName));
+    }
+
+    private Hand(Hand other, Player firstToPlay, Player lastToPlay, List<Intel> history) {
+        this.vira = other.vira;
+        this.dealtCards = other.dealtCards;
+        this.openCards = new ArrayList<>(other.openCards);
+        this.history = new ArrayList<>(history);
+        this.firstToPlay = firstToPlay;
+        this.lastToPlay = lastToPlay;
+        this.roundsPlayed = new ArrayList<>(other.roundsPlayed.size());
+        for (Round round : other.roundsPlayed)
+            roundsPlayed.add(new Round(copyOf(round.getFirstToPlay()), round.getFirstCard(), copyOf(round.getLastToPlay()),
+                    round.getLastCard(), vira, round.getWinner().map(this::copyOf).orElse(null)));
+        this.currentPlayer = copyOf(other.currentPlayer);
+        this.lastBetRaiser = copyOf(other.lastBetRaiser);
+        this.eventPlayer = copyOf(other.eventPlayer);
+        this.cardToPlayAgainst = other.cardToPlayAgainst;
+        this.points = other.points;
+        this.pointsProposal = other.pointsProposal;
+        this.result = other.result == null ? null : other.result.getWinner()
+                .map(winner -> HandResult.of(copyOf(winner), other.result.getPoints()))
+                .orElse(other.result);
+        this.state = other.state;
+        this.possibleActions = EnumSet.copyOf(other.possibleActions);
+    }
+
+    //Creates an independent copy of the current hand state to try actions on it without changing this hand. The copy
+    //is played by copies of the players and keeps only the last intel, so forking does not rebuild the intel history.
+    public Hand fork(){
+        return new Hand(this, firstToPlay.copy(), lastToPlay.copy(), List.of(getLastIntel()));
+    }
+
+    //Creates a copy of this hand played by the given objects of its players, for instance after they were loaded
+    //again. Cards and intel are immutable and shared with the copy, so rebinding does not rebuild the intel history.
+    public Hand rebind(Player player1, Player player2){
+        if(!Set.of(player1, player2).equals(Set.of(firstToPlay, lastToPlay)))
+            throw new IllegalArgumentException("Players are not the ones of this hand.");
+        final Player first = firstToPlay.equals(player1) ? player1 : player2;
+        return new Hand(this, first, first == player1 ? player2 : player1, history);
+    }
+
+    private Player copyOf(Player player) {
+        if(player == null) return null;
+        return player.equals(firstToPlay) ? firstToPlay : lastToPlay;
     }
 
     private HandState stateFromString(String stateName) {
         return switch (stateName){
-            case "DONE" -> new Done(this);
-            case "NOCARD" -> new NoCard(this);
-            case "ONECARD" -> new OneCard(this);
-            case "WAITINGMAODEONZE" -> new WaitingMaoDeOnze(this);
-            case "WAITINGRAISERESPONSE" -> new WaitingRaiseResponse(this);
+            case "DONE" -> Done.INSTANCE;
+            case "NOCARD" -> NoCard.INSTANCE;
+            case "ONECARD" -> OneCard.INSTANCE;
+            case "WAITINGMAODEONZE" -> WaitingMaoDeOnze.INSTANCE;
+            case "WAITINGRAISERESPONSE" -> WaitingRaiseResponse.INSTANCE;
             default -> throw new IllegalArgumentException("No state for name: " + stateName);
         };
     }
@@ -108,16 +155,17 @@ public class Hand {
         else setOrdinaryMode();
 
         updateHistory(Event.HAND_START);
+        recordStart();
     }
 
     private void setMaoDeOnzeMode() {
         currentPlayer = this.firstToPlay.getScore() == 11 ? this.firstToPlay : this.lastToPlay;
-        state = new WaitingMaoDeOnze(this);
+        setState(WaitingMaoDeOnze.INSTANCE);
     }
 
     private void setOrdinaryMode() {
         currentPlayer = this.firstToPlay;
-        state = new NoCard(this);
+        setState(NoCard.INSTANCE);
     }
 
     public void playFirstCard(Player player, Card card){
@@ -125,7 +173,10 @@ public class Hand {
         final var requesterCard = Objects.requireNonNull(card, "Card must not be null!");
         validateRequest(requester, PossibleAction.PLAY);
         eventPlayer = currentPlayer;
-        state.playFirstCard(requester, requesterCard);
+        final var event = new HandActionEvent();
+        event.begin();
+        state.playFirstCard(this, requester, requesterCard);
+        recordAction(event, PossibleAction.PLAY, requester);
     }
 
     public void playSecondCard(Player player, Card cards){
@@ -133,28 +184,40 @@ public class Hand {
         final var requesterCard = Objects.requireNonNull(cards, "Card must not be null!");
         validateRequest(requester, PossibleAction.PLAY);
         eventPlayer = currentPlayer;
-        state.playSecondCard(requester,requesterCard);
+        final var event = new HandActionEvent();
+        event.begin();
+        state.playSecondCard(this, requester, requesterCard);
+        recordAction(event, PossibleAction.PLAY, requester);
     }
 
     public void raise(Player requester){
         final var player = Objects.requireNonNull(requester, "Player must not be null!");
         validateRequest(requester, PossibleAction.RAISE);
         eventPlayer = currentPlayer;
-        state.raise(player);
+        final var event = new HandActionEvent();
+        event.begin();
+        state.raise(this, player);
+        recordAction(event, PossibleAction.RAISE, player);
     }
 
     public void accept(Player responder){
         final var player = Objects.requireNonNull(responder, "Player must not be null!");
         validateRequest(player, PossibleAction.ACCEPT);
         eventPlayer = currentPlayer;
-        state.accept(player);
+        final var event = new HandActionEvent();
+        event.begin();
+        state.accept(this, player);
+        recordAction(event, PossibleAction.ACCEPT, player);
     }
 
     public void quit(Player responder){
         final var player = Objects.requireNonNull(responder, "Player must not be null!");
         validateRequest(player, PossibleAction.QUIT);
         eventPlayer = currentPlayer;
-        state.quit(player);
+        final var event = new HandActionEvent();
+        event.begin();
+        state.quit(this, player);
+        recordAction(event, PossibleAction.QUIT, player);
     }
 
     private void validateRequest(Player requester, PossibleAction action){
@@ -164,6 +227,35 @@ public class Hand {
             throw new IllegalStateException("Can not " + action + ", but " + possibleActions + ".");
     }
 
+    private void recordStart() {
+        final var event = new HandStartEvent();
+        if (!event.shouldCommit()) return;
+        event.vira = vira.toString();
+        event.firstToPlay = firstToPlay.getUsername();
+        event.lastToPlay = lastToPlay.getUsername();
+        event.maoDeOnze = isMaoDeOnze();
+        event.commit();
+    }
+
+    private void recordAction(HandActionEvent event, PossibleAction action, Player player) {
+        if (event.shouldCommit()) {
+            event.action = action.name();
+            event.player = player.getUsername();
+            event.handPoints = points.get();
+            event.commit();
+        }
+        if (isDone()) recordEnd();
+    }
+
+    private void recordEnd() {
+        final var event = new HandEndEvent();
+        if (!event.shouldCommit()) return;
+        event.winner = getResult().flatMap(HandResult::getWinner).map(Player::getUsername).orElse(null);
+        event.points = getResult().map(HandResult::getPoints).map(HandPoints::get).orElse(0);
+        event.roundsPlayed = roundsPlayed.size();
+        event.commit();
+    }
+
     public void updateHistory(Event event) {
         history.add(Intel.ofHand(this, event));
     }
@@ -319,6 +411,7 @@ public class Hand {
 
     public void setState(HandState state) {
         this.state = state;
+        state.enter(this);
     }
 
     public Card getVira() {
@@ -0,0 +1,221 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.hand;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.intel.Event;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Primitive encoding of the full state of a {@link Hand} in two {@code long} values, meant for hashing, copying
+ * and storing large numbers of hand states. Players are not part of the encoding: they are referenced as the
+ * {@code player1} and {@code player2} given to {@link #of(Hand, Player, Player)} and are restored, with their cards
+ * and scores, as copies of the players given to {@link #toHand(Player, Player)}.</p>
+ *
+ * <p>The {@code cards} value holds the vira and the six dealt cards as 6-bit ordinals, the cards held by each player
+ * as masks over the dealt cards, the card to play against, the number of rounds played and the last hand event. The
+ * {@code state} value holds the rounds played, scores, hand points, points proposal, result, state machine state,
+ * players roles and possible actions. Open cards are derived from the rounds and the card to play against. The intel
+ * history is not encoded: an unpacked hand has a single intel describing its last event.</p>
+ * */
+public record PackedHand(long cards, long state) {
+
+    private static final int DEALT_CARDS = 7;
+    private static final int NO_CARD = 0, CLOSED_CARD = 7;
+    private static final int NO_PLAYER = 0, PLAYER_1 = 1, PLAYER_2 = 2;
+    private static final int NO_PROPOSAL = 7;
+    private static final int NO_RESULT = 0, DRAW = 1;
+    private static final String[] STATES = {"NOCARD", "ONECARD", "WAITINGRAISERESPONSE", "WAITINGMAODEONZE", "DONE"};
+
+    private static final int HELD_1 = 42, HELD_2 = 48, CARD_TO_PLAY_AGAINST = 54, ROUNDS = 57, EVENT = 59;
+    private static final int ROUND_BITS = 9, SCORE_1 = 27, SCORE_2 = 31, POINTS = 35, PROPOSAL = 38, RESULT = 41,
+            RESULT_POINTS = 43, STATE = 46, FIRST_TO_PLAY = 49, CURRENT_PLAYER = 50, LAST_BET_RAISER = 52,
+            EVENT_PLAYER = 54, POSSIBLE_ACTIONS = 56;
+
+    public static PackedHand of(Hand hand, Player player1, Player player2){
+        Objects.requireNonNull(hand, "Hand must not be null!");
+        Objects.requireNonNull(player1, "Player 1 must not be null!");
+        Objects.requireNonNull(player2, "Player 2 must not be null!");
+
+        final List<Card> dealtCards = hand.getDealtCards();
+        if(dealtCards.size() != DEALT_CARDS)
+            throw new IllegalArgumentException("Can not pack hand with " + dealtCards.size() + " dealt cards.");
+
+        long cards = 0;
+        for (int slot = 0; slot < DEALT_CARDS; slot++) cards |= (long) dealtCards.get(slot).ordinal() << 6 * slot;
+        cards |= (long) heldMaskOf(player1, dealtCards) << HELD_1;
+        cards |= (long) heldMaskOf(player2, dealtCards) << HELD_2;
+        cards |= (long) hand.getCardToPlayAgainst().map(card -> codeOf(card, dealtCards)).orElse(NO_CARD) << CARD_TO_PLAY_AGAINST;
+        cards |= (long) hand.numberOfRoundsPlayed() << ROUNDS;
+        cards |= (long) lastEventOf(hand).ordinal() << EVENT;
+
+        long state = 0;
+        final List<Round> rounds = hand.getRoundsPlayed();
+        for (int index = 0; index < rounds.size(); index++) {
+            final Round round = rounds.get(index);
+            final long packedRound = codeOf(round.getFirstCard(), dealtCards)
+                    | codeOf(round.getLastCard(), dealtCards) << 3
+                    | (round.getFirstToPlay().equals(player1) ? 0 : 1) << 6
+                    | refOf(round.getWinner().orElse(null), player1) << 7;
+            state |= packedRound << ROUND_BITS * index;
+        }
+        state |= (long) player1.getScore() << SCORE_1;
+        state |= (long) player2.getScore() << SCORE_2;
+        state |= (long) hand.getPoints().ordinal() << POINTS;
+        state |= (long) (hand.getPointsProposal() == null ? NO_PROPOSAL : hand.getPointsProposal().ordinal()) << PROPOSAL;
+        state |= (long) resultOf(hand, player1) << RESULT;
+        state |= (long) hand.getResult().map(HandResult::getPoints).orElse(HandPoints.ZERO).ordinal() << RESULT_POINTS;
+        state |= (long) List.of(STATES).indexOf(hand.getState().className()) << STATE;
+        state |= (long) (hand.getFirstToPlay().equals(player1) ? 0 : 1) << FIRST_TO_PLAY;
+        state |= (long) refOf(hand.getCurrentPlayer(), player1) << CURRENT_PLAYER;
+        state |= (long) refOf(hand.getLastBetRaiser(), player1) << LAST_BET_RAISER;
+        state |= (long) refOf(hand.getEventPlayer(), player1) << EVENT_PLAYER;
+        for (PossibleAction action : hand.getPossibleActions()) state |= 1L << POSSIBLE_ACTIONS + action.ordinal();
+
+        return new PackedHand(cards, state);
+    }
+
+    public Hand toHand(Player player1, Player player2){
+        Objects.requireNonNull(player1, "Player 1 must not be null!");
+        Objects.requireNonNull(player2, "Player 2 must not be null!");
+
+        final List<Card> dealtCards = new ArrayList<>(DEALT_CARDS);
+        for (int slot = 0; slot < DEALT_CARDS; slot++) dealtCards.add(Card.ofOrdinal((int) (cards >>> 6 * slot & 0x3F)));
+        final Card vira = dealtCards.get(0);
+
+        final Player first = copyOf(player1, heldCards(HELD_1, dealtCards), (int) (state >>> SCORE_1 & 0xF));
+        final Player second = copyOf(player2, heldCards(HELD_2, dealtCards), (int) (state >>> SCORE_2 & 0xF));
+
+        final List<Card> openCards = new ArrayList<>();
+        openCards.add(vira);
+        final List<Round> rounds = new ArrayList<>();
+        final int roundsPlayed = (int) (cards >>> ROUNDS & 0x3);
+        for (int index = 0; index < roundsPlayed; index++) {
+            final int packedRound = (int) (state >>> ROUND_BITS * index & 0x1FF);
+            final Card firstCard = cardOf(packedRound & 0x7, dealtCards);
+            final Card lastCard = cardOf(packedRound >>> 3 & 0x7, dealtCards);
+            final boolean isFirstPlayer1 = (packedRound >>> 6 & 1) == 0;
+            rounds.add(new Round(isFirstPlayer1 ? first : second, firstCard, isFirstPlayer1 ? second : first, lastCard,
+                    vira, playerOf(packedRound >>> 7 & 0x3, first, second)));
+            openCards.add(firstCard);
+            openCards.add(lastCard);
+        }
+        final Card cardToPlayAgainst = cardOf((int) (cards >>> CARD_TO_PLAY_AGAINST & 0x7), dealtCards);
+        if(cardToPlayAgainst != null) openCards.add(cardToPlayAgainst);
+
+        final int proposal = (int) (state >>> PROPOSAL & 0x7);
+        final HandPoints resultPoints = HandPoints.values()[(int) (state >>> RESULT_POINTS & 0x7)];
+        final int resultCode = (int) (state >>> RESULT & 0x3);
+        final HandResult result = switch (resultCode) {
+            case NO_RESULT -> null;
+            case DRAW -> HandResult.ofDraw();
+            default -> HandResult.of(resultCode - 1 == PLAYER_1 ? first : second, resultPoints);
+        };
+
+        final boolean isFirstToPlayPlayer1 = (state >>> FIRST_TO_PLAY & 1) == 0;
+        final EnumSet<PossibleAction> possibleActions = possibleActions();
+        final Hand hand = new Hand(vira, dealtCards, openCards, rounds, List.of(), possibleActions,
+                isFirstToPlayPlayer1 ? first : second,
+                isFirstToPlayPlayer1 ? second : first,
+                playerOf((int) (state >>> CURRENT_PLAYER & 0x3), first, second),
+                playerOf((int) (state >>> LAST_BET_RAISER & 0x3), first, second),
+                playerOf((int) (state >>> EVENT_PLAYER & 0x3), first, second),
+                cardToPlayAgainst,
+                HandPoints.values()[(int) (state >>> POINTS & 0x7)],
+                proposal == NO_PROPOSAL ? null : HandPoints.values()[proposal],
+                result,
+                STATES[(int) (state >>> STATE & 0x7)]);
+        hand.setPossibleActions(possibleActions);
+        hand.updateHistory(Event.values()[(int) (cards >>> EVENT & 0x7)]);
+        return hand;
+    }
+
+    private EnumSet<PossibleAction> possibleActions() {
+        final EnumSet<PossibleAction> actions = EnumSet.noneOf(PossibleAction.class);
+        for (PossibleAction action : PossibleAction.values())
+            if ((state >>> POSSIBLE_ACTIONS + action.ordinal() & 1) == 1) actions.add(action);
+        return actions;
+    }
+
+    private List<Card> heldCards(int offset, List<Card> dealtCards) {
+        final List<Card> held = new ArrayList<>(3);
+        for (int slot = 1; slot < DEALT_CARDS; slot++)
+            if ((cards >>> offset + slot - 1 & 1) == 1) held.add(dealtCards.get(slot));
+        return held;
+    }
+
+    private static int heldMaskOf(Player player, List<Card> dealtCards) {
+        if(player.getCards() == null) return 0;
+        int mask = 0;
+        for (Card card : player.getCards()) {
+            final int slot = dealtCards.lastIndexOf(card);
+            if(slot < 1) throw new IllegalArgumentException("Card " + card + " has not been dealt in this hand.");
+            mask |= 1 << slot - 1;
+        }
+        return mask;
+    }
+
+    private static int codeOf(Card card, List<Card> dealtCards) {
+        if(card.isClosed()) return CLOSED_CARD;
+        final int slot = dealtCards.lastIndexOf(card);
+        if(slot < 1) throw new IllegalArgumentException("Card " + card + " has not been dealt in this hand.");
+        return slot;
+    }
+
+    private static Card cardOf(int code, List<Card> dealtCards) {
+        if(code == NO_CARD) return null;
+        if(code == CLOSED_CARD) return Card.closed();
+        return dealtCards.get(code);
+    }
+
+    private static int refOf(Player player, Player player1) {
+        if(player == null) return NO_PLAYER;
+        return player.equals(player1) ? PLAYER_1 : PLAYER_2;
+    }
+
+    private static Player playerOf(int ref, Player player1, Player player2) {
+        return switch (ref) {
+            case PLAYER_1 -> player1;
+            case PLAYER_2 -> player2;
+            default -> null;
+        };
+    }
+
+    private static int resultOf(Hand hand, Player player1) {
+        return hand.getResult()
+                .map(result -> result.getWinner().map(winner -> refOf(winner, player1) + 1).orElse(DRAW))
+                .orElse(NO_RESULT);
+    }
+
+    private static Event lastEventOf(Hand hand) {
+        return hand.getLastIntel().event().map(Event::valueOf).orElse(Event.HAND_START);
+    }
+
+    private static Player copyOf(Player player, List<Card> cards, int score) {
+        return new Player(cards, player.getUsername(), player.getUuid(), score, player.isBot());
+    }
+}
@@ -21,14 +21,17 @@
 package com.bueno.domain.entities.hand.states;
 
 import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.player.Player;
 
+//States are stateless singletons: the hand in which the transition happens is given in every call.
 public interface HandState {
-    void playFirstCard(Player player, Card card);
-    void playSecondCard(Player player, Card card);
-    void accept(Player responder);
-    void quit(Player responder);
-    void raise(Player requester);
+    void enter(Hand context);
+    void playFirstCard(Hand context, Player player, Card card);
+    void playSecondCard(Hand context, Player player, Card card);
+    void accept(Hand context, Player responder);
+    void quit(Hand context, Player responder);
+    void raise(Hand context, Player requester);
     default String className(){
         return getClass().getSimpleName().toUpperCase();
     }
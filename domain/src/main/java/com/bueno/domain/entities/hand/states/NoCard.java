@@ -31,54 +31,57 @@ import java.util.EnumSet;
 
 public class NoCard implements HandState {
 
-    private final Hand context;
+    public static final NoCard INSTANCE = new NoCard();
 
-    public NoCard(Hand context) {
-        this.context = context;
-        setPossibleHandActions();
+    private NoCard() {
     }
 
-    private void setPossibleHandActions() {
+    @Override
+    public void enter(Hand context) {
+        setPossibleHandActions(context);
+    }
+
+    private void setPossibleHandActions(Hand context) {
         final EnumSet<PossibleAction> possibleActions = EnumSet.of(PossibleAction.PLAY);
         if(context.canRaiseBet()) possibleActions.add(PossibleAction.RAISE);
         context.setPossibleActions(possibleActions);
     }
 
     @Override
-    public void playFirstCard(Player player, Card card) {
-        if(isThrowingClosedCardInFirstRound(card))
+    public void playFirstCard(Hand context, Player player, Card card) {
+        if(isThrowingClosedCardInFirstRound(context, card))
             throw new GameRuleViolationException("Can not throw a closed card in first round");
         context.addOpenCard(card);
         context.setCardToPlayAgainst(card);
         context.setCurrentPlayer(context.getLastToPlay());
-        context.setState(new OneCard(context));
+        context.setState(OneCard.INSTANCE);
         context.updateHistory(Event.PLAY);
     }
 
-    private boolean isThrowingClosedCardInFirstRound(Card card) {
+    private boolean isThrowingClosedCardInFirstRound(Hand context, Card card) {
         return context.numberOfRoundsPlayed() == 0 && card.isClosed();
     }
 
     @Override
-    public void playSecondCard(Player player, Card card) {
+    public void playSecondCard(Hand context, Player player, Card card) {
         throw new IllegalStateException("Can not play a second card before playing a first one.");
     }
 
-    public void accept(Player responder) {
+    public void accept(Hand context, Player responder) {
         throw new IllegalStateException("No raising bet request to be accepted.");
     }
 
     @Override
-    public void quit(Player responder) {
+    public void quit(Hand context, Player responder) {
         throw new IllegalStateException("No raising bet request to quit.");
     }
 
     @Override
-    public void raise(Player requester) {
+    public void raise(Hand context, Player requester) {
         context.addPointsProposal();
         context.setLastBetRaiser(requester);
         context.setCurrentPlayer(context.getLastToPlay());
-        context.setState(new WaitingRaiseResponse(context));
+        context.setState(WaitingRaiseResponse.INSTANCE);
         context.updateHistory(Event.RAISE);
     }
 }
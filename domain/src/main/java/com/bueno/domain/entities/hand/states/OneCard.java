@@ -31,79 +31,82 @@ import java.util.EnumSet;
 
 public class OneCard implements HandState {
 
-    private final Hand context;
+    public static final OneCard INSTANCE = new OneCard();
 
-    public OneCard(Hand context) {
-        this.context = context;
-        setPossibleHandActions();
+    private OneCard() {
     }
 
-    private void setPossibleHandActions() {
+    @Override
+    public void enter(Hand context) {
+        setPossibleHandActions(context);
+    }
+
+    private void setPossibleHandActions(Hand context) {
         final EnumSet<PossibleAction> possibleActions = EnumSet.of(PossibleAction.PLAY);
         if(context.canRaiseBet()) possibleActions.add(PossibleAction.RAISE);
         context.setPossibleActions(possibleActions);
     }
 
     @Override
-    public void playFirstCard(Player player, Card card) {
+    public void playFirstCard(Hand context, Player player, Card card) {
         throw new IllegalStateException("First card has already been played: " + context.getCardToPlayAgainst());
     }
 
     @Override
-    public void playSecondCard(Player player, Card card) {
-        if(isThrowingClosedCardInFirstRound(card))
+    public void playSecondCard(Hand context, Player player, Card card) {
+        if(isThrowingClosedCardInFirstRound(context, card))
             throw new GameRuleViolationException("Can not throw a closed card in first round");
         context.addOpenCard(card);
         context.playRound(card);
         switch (context.numberOfRoundsPlayed()) {
-            case 1 -> handleFirstRoundPostConditions();
-            case 2 -> handleSecondRoundPostConditions();
-            case 3 -> handleThirdRoundPostConditions();
+            case 1 -> handleFirstRoundPostConditions(context);
+            case 2 -> handleSecondRoundPostConditions(context);
+            case 3 -> handleThirdRoundPostConditions(context);
         }
         context.setCardToPlayAgainst(null);
         context.updateHistory(Event.PLAY);
     }
 
-    private boolean isThrowingClosedCardInFirstRound(Card card) {
+    private boolean isThrowingClosedCardInFirstRound(Hand context, Card card) {
         return context.numberOfRoundsPlayed() == 0 && card.isClosed();
     }
 
-    private void handleFirstRoundPostConditions() {
+    private void handleFirstRoundPostConditions(Hand context) {
         context.defineRoundPlayingOrder();
-        context.setState(new NoCard(context));
+        context.setState(NoCard.INSTANCE);
     }
 
-    private void handleSecondRoundPostConditions() {
+    private void handleSecondRoundPostConditions(Hand context) {
         context.checkForWinnerAfterSecondRound();
-        if (context.hasWinner()) context.setState(new Done(context));
+        if (context.hasWinner()) context.setState(Done.INSTANCE);
         else {
             context.defineRoundPlayingOrder();
             context.setCurrentPlayer(context.getFirstToPlay());
-            context.setState(new NoCard(context));
+            context.setState(NoCard.INSTANCE);
         }
     }
 
-    private void handleThirdRoundPostConditions() {
+    private void handleThirdRoundPostConditions(Hand context) {
         context.checkForWinnerAfterThirdRound();
-        context.setState(new Done(context));
+        context.setState(Done.INSTANCE);
     }
 
     @Override
-    public void accept(Player responder) {
+    public void accept(Hand context, Player responder) {
         throw new IllegalStateException("No raising bet request to be accepted.");
     }
 
     @Override
-    public void quit(Player responder) {
+    public void quit(Hand context, Player responder) {
         throw new IllegalStateException("No raising bet request to quit.");
     }
 
     @Override
-    public void raise(Player requester) {
+    public void raise(Hand context, Player requester) {
         context.addPointsProposal();
         context.setLastBetRaiser(requester);
         context.setCurrentPlayer(context.getFirstToPlay());
-        context.setState(new WaitingRaiseResponse(context));
+        context.setState(WaitingRaiseResponse.INSTANCE);
         context.updateHistory(Event.RAISE);
     }
 }
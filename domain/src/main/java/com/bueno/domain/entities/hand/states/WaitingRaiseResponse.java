@@ -32,59 +32,62 @@ import java.util.EnumSet;
 
 public class WaitingRaiseResponse implements HandState {
 
-    private final Hand context;
+    public static final WaitingRaiseResponse INSTANCE = new WaitingRaiseResponse();
 
-    public WaitingRaiseResponse(Hand context) {
-        this.context = context;
+    private WaitingRaiseResponse() {
+    }
+
+    @Override
+    public void enter(Hand context) {
         final EnumSet<PossibleAction> actions = EnumSet.of(PossibleAction.QUIT, PossibleAction.ACCEPT);
         if(context.canRaiseBet()) actions.add(PossibleAction.RAISE);
-        this.context.setPossibleActions(actions);
+        context.setPossibleActions(actions);
     }
 
     @Override
-    public void playFirstCard(Player player, Card card) {
+    public void playFirstCard(Hand context, Player player, Card card) {
         throw new IllegalStateException("Can not play card until bet is responded.");
     }
 
     @Override
-    public void playSecondCard(Player player, Card card) {
+    public void playSecondCard(Hand context, Player player, Card card) {
         throw new IllegalStateException("Can not play card until bet is responded.");
     }
 
     @Override
-    public void accept(Player responder) {
+    public void accept(Hand context, Player responder) {
         context.setPoints(context.getPointsProposal());
         context.removePointsProposal();
-        context.setCurrentPlayer(defineCurrentPlayer());
-        context.setState(defineNextState());
+        context.setCurrentPlayer(defineCurrentPlayer(context));
+        context.setState(defineNextState(context));
         context.updateHistory(Event.ACCEPT);
     }
 
-    private Player defineCurrentPlayer() {
+    private Player defineCurrentPlayer(Hand context) {
         return context.getCardToPlayAgainst().isEmpty() ? context.getFirstToPlay() : context.getLastToPlay();
     }
 
-    private HandState defineNextState() {
-        return context.getCardToPlayAgainst().isPresent() ? new OneCard(context) : new NoCard(context);
+    private HandState defineNextState(Hand context) {
+        return context.getCardToPlayAgainst().isPresent() ? OneCard.INSTANCE : NoCard.INSTANCE;
     }
 
     @Override
-    public void quit(Player responder) {
+    public void quit(Hand context, Player responder) {
         //context.setLastBetRaiser(null);
         //context.removePointsProposal();
         context.setResult(HandResult.of(context.getOpponentOf(responder), context.getPoints()));
-        context.setState(new Done(context));
+        context.setState(Done.INSTANCE);
         context.updateHistory(Event.QUIT);
     }
 
     @Override
-    public void raise(Player requester) {
+    public void raise(Hand context, Player requester) {
         final HandPoints score = context.getPointsProposal() != null ? context.getPointsProposal() : context.getPoints();
         context.setPoints(score);
         context.addPointsProposal();
         context.setLastBetRaiser(requester);
         context.setCurrentPlayer(context.getOpponentOf(requester));
-        context.setState(new WaitingRaiseResponse(context));
+        context.setState(WaitingRaiseResponse.INSTANCE);
         context.updateHistory(Event.RAISE);
     }
 }
@@ -29,7 +29,6 @@ import com.bueno.domain.entities.player.Player;
 
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class Intel{
 
@@ -57,7 +56,7 @@ public class Intel{
     private String eventPlayerUsername;
     private UUID eventPlayerUuid;
     private String event;
-    private Set<String> possibleActions;
+    private Set<PossibleAction> possibleActions;
 
     private Intel() {
         timestamp = Instant.now();
@@ -66,7 +65,7 @@ public class Intel{
     public Intel(Instant timestamp, boolean gameIsDone, UUID gameWinner, boolean maoDeOnze, Integer handPoints, Integer pointsProposal, List<Optional<String>> roundWinnersUsernames,
                  List<Optional<UUID>> roundWinnersUuid, int roundsPlayed, Card vira, List<Card> openCards, String handWinner, UUID currentPlayerUuid, Integer currentPlayerScore,
                  String currentPlayerUsername, Integer currentOpponentScore, String currentOpponentUsername, Card cardToPlayAgainst,
-                 List<PlayerIntel> playersIntel, String event, UUID eventPlayerUuid, String eventPlayerUsername, Set<String> possibleActions){
+                 List<PlayerIntel> playersIntel, String event, UUID eventPlayerUuid, String eventPlayerUsername, Set<PossibleAction> possibleActions){
         this.timestamp = timestamp;
         this.gameIsDone = gameIsDone;
         this.gameWinner = gameWinner;
@@ -89,7 +88,7 @@ public class Intel{
         this.event = event;
         this.eventPlayerUuid = eventPlayerUuid;
         this.eventPlayerUsername = eventPlayerUsername;
-        this.possibleActions = Set.copyOf(possibleActions);
+        this.possibleActions = Collections.unmodifiableSet(PossibleAction.setOf(possibleActions));
     }
 
     static public Intel ofHand(Hand currentHand, Event event){
@@ -119,7 +118,7 @@ public class Intel{
         handWinner = hand.getResult().flatMap(HandResult::getWinner).map(Player::getUsername).orElse(null);
         openCards = List.copyOf(hand.getOpenCards());
         cardToPlayAgainst = hand.getCardToPlayAgainst().orElse(null);
-        possibleActions = hand.getPossibleActions().stream().map(Objects::toString).collect(Collectors.toSet());
+        possibleActions = Collections.unmodifiableSet(PossibleAction.setOf(hand.getPossibleActions()));
     }
 
     private void setPlayersIntel(Hand hand){
@@ -261,7 +260,7 @@ public class Intel{
         return Optional.ofNullable(cardToPlayAgainst);
     }
 
-    public Set<String> possibleActions() {
+    public Set<PossibleAction> possibleActions() {
         return possibleActions;
     }
 
@@ -20,9 +20,18 @@
 
 package com.bueno.domain.entities.intel;
 
+import java.util.Collection;
+import java.util.EnumSet;
+
 public enum PossibleAction {
     PLAY,
     RAISE,
     ACCEPT,
-    QUIT
+    QUIT;
+
+    public static EnumSet<PossibleAction> setOf(Collection<PossibleAction> actions){
+        final EnumSet<PossibleAction> result = EnumSet.noneOf(PossibleAction.class);
+        if(actions != null) result.addAll(actions);
+        return result;
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Enforces a per-decision time budget on a bot. A decision that does not return within the budget is
+ * abandoned and replaced by a fallback: the weakest card is played, raises are not requested and
+ * raise or mão de onze requests are refused.
+ * <p>
+ * Decisions made during a run that records its {@link DecisionTimeouts}, like the simulated games of bot
+ * evaluations and rankings, are guarded by default: their budget is set by the
+ * {@value #SIMULATION_TIME_BUDGET_PROPERTY} system property, {@value #DEFAULT_SIMULATION_BUDGET_MILLIS}
+ * milliseconds unless set, and 0 turns it off. Other decisions, like the ones of bots playing users in web requests,
+ * are only guarded if the {@value #TIME_BUDGET_PROPERTY} system property is set to a positive number of
+ * milliseconds. Guarded decisions run on a pool of at most {@value #THREADS_PROPERTY} threads (defaults to
+ * four per processor). An abandoned decision cannot be stopped if the bot ignores interruption, so it keeps
+ * its thread until it returns; once every thread is taken, new decisions are rejected and fall back at once.
+ * Timeouts and rejections are counted in the {@link DecisionTimeouts} of the current run and in the
+ * Micrometer counters of {@link GameMetrics}.
+ */
+public final class BotDecisionWatchdog implements BotServiceProvider {
+
+    public static final String TIME_BUDGET_PROPERTY = "ctruco.bot.timeBudgetMillis";
+    public static final String SIMULATION_TIME_BUDGET_PROPERTY = "ctruco.bot.simulationTimeBudgetMillis";
+    public static final String THREADS_PROPERTY = "ctruco.bot.watchdogThreads";
+    static final long DEFAULT_SIMULATION_BUDGET_MILLIS = 1_000;
+
+    private static final class DefaultExecutor {
+        private static final ExecutorService instance = boundedExecutor(
+                Integer.getInteger(THREADS_PROPERTY, 4 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    private final BotServiceProvider botService;
+    private final String botName;
+    private final long budgetMillis;
+    private final ExecutorService executor;
+
+    BotDecisionWatchdog(BotServiceProvider botService, long budgetMillis, ExecutorService executor) {
+        this.botService = Objects.requireNonNull(botService);
+        this.botName = botService.getName();
+        this.budgetMillis = budgetMillis;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    static BotServiceProvider guard(BotServiceProvider botService) {
+        final long budget = DecisionTimeouts.isRecording() ? simulationTimeBudgetMillis() : timeBudgetMillis();
+        return budget > 0 ? new BotDecisionWatchdog(botService, budget, DefaultExecutor.instance) : botService;
+    }
+
+    public static long timeBudgetMillis() {
+        return Long.getLong(TIME_BUDGET_PROPERTY, 0);
+    }
+
+    public static long simulationTimeBudgetMillis() {
+        return Long.getLong(SIMULATION_TIME_BUDGET_PROPERTY, DEFAULT_SIMULATION_BUDGET_MILLIS);
+    }
+
+    static ExecutorService boundedExecutor(int threads) {
+        return new ThreadPoolExecutor(0, Math.max(1, threads), 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "ctruco-bot-decision");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return call("getMaoDeOnzeResponse", () -> botService.getMaoDeOnzeResponse(intel), () -> false);
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return call("decideIfRaises", () -> botService.decideIfRaises(intel), () -> false);
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        return call("chooseCard", () -> botService.chooseCard(intel), () -> weakestCard(intel));
+    }
+
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        return call("getRaiseResponse", () -> botService.getRaiseResponse(intel), () -> -1);
+    }
+
+    @Override
+    public String getName() {
+        return botName;
+    }
+
+    private <T> T call(String method, Supplier<T> decision, Supplier<T> fallback) {
+        final Future<T> future;
+        try {
+            future = executor.submit(decision::get);
+        } catch (RejectedExecutionException e) {
+            DecisionTimeouts.recordFor(botName);
+            GameMetrics.botDecisionRejected(botName, method);
+            return fallback.get();
+        }
+        try {
+            return future.get(budgetMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            DecisionTimeouts.recordFor(botName);
+            GameMetrics.botDecisionTimedOut(botName, method);
+            return fallback.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + botName + " to decide.", e);
+        }
+    }
+
+    private static CardToPlay weakestCard(GameIntel intel) {
+        final TrucoCard vira = intel.getVira();
+        return intel.getCards().stream()
+                .min(Comparator.comparingInt(card -> card.relativeValue(vira)))
+                .map(CardToPlay::of)
+                .orElseThrow(() -> new IllegalStateException("Bot has no card to play."));
+    }
+}
@@ -75,7 +75,8 @@ public class BotUseCase {
 
         if (!isBotTurn(currentPlayer, intel)) return intel;
 
-        initializeNullHandlers(BotServiceManager.load(currentPlayer.getUsername()));
+        initializeNullHandlers(new InstrumentedBotService(
+                BotDecisionWatchdog.guard(BotServiceManager.load(currentPlayer.getUsername()))));
 
         if (maoDeOnzeHandler.shouldHandle(intel))
             return fromDto(maoDeOnzeHandler.handle(intel, currentPlayer));
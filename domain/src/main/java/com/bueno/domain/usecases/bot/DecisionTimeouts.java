@@ -0,0 +1,68 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.bot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Counts, per bot, the decisions replaced by a fallback during one run. A run records into its own instance
+ * through {@link #recordDuring(Supplier)}, which scopes the tally to the calling thread, so runs executing at
+ * the same time do not see each other's timeouts.
+ */
+public final class DecisionTimeouts {
+
+    private static final ThreadLocal<DecisionTimeouts> current = new ThreadLocal<>();
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public <T> T recordDuring(Supplier<T> action) {
+        final DecisionTimeouts previous = current.get();
+        current.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) current.remove();
+            else current.set(previous);
+        }
+    }
+
+    public long of(String botName) {
+        final LongAdder count = counts.get(botName);
+        return count == null ? 0 : count.sum();
+    }
+
+    public Map<String, Long> asMap() {
+        return counts.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    static boolean isRecording() {
+        return current.get() != null;
+    }
+
+    static void recordFor(String botName) {
+        final DecisionTimeouts timeouts = current.get();
+        if (timeouts != null) timeouts.counts.computeIfAbsent(botName, name -> new LongAdder()).increment();
+    }
+}
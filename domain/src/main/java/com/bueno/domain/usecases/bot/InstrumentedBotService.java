@@ -0,0 +1,80 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.domain.diagnostics.BotDecisionEvent;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+class InstrumentedBotService implements BotServiceProvider {
+
+    private final BotServiceProvider botService;
+    private final String botName;
+
+    InstrumentedBotService(BotServiceProvider botService) {
+        this.botService = Objects.requireNonNull(botService);
+        this.botName = botService.getName();
+    }
+
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return call("getMaoDeOnzeResponse", () -> botService.getMaoDeOnzeResponse(intel));
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return call("decideIfRaises", () -> botService.decideIfRaises(intel));
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        return call("chooseCard", () -> botService.chooseCard(intel));
+    }
+
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        return call("getRaiseResponse", () -> botService.getRaiseResponse(intel));
+    }
+
+    @Override
+    public String getName() {
+        return botName;
+    }
+
+    private <T> T call(String method, Supplier<T> decision) {
+        final var event = new BotDecisionEvent();
+        event.begin();
+        try {
+            return GameMetrics.timeBotDecision(botName, method, decision);
+        } finally {
+            if (event.shouldCommit()) {
+                event.bot = botName;
+                event.method = method;
+                event.commit();
+            }
+        }
+    }
+}
@@ -21,8 +21,6 @@
 package com.bueno.domain.usecases.bot.converter;
 
 import com.bueno.domain.entities.deck.Card;
-import com.bueno.domain.entities.deck.Rank;
-import com.bueno.domain.entities.deck.Suit;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.spi.model.CardRank;
@@ -31,26 +29,39 @@ import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.GameIntel.RoundResult;
 import com.bueno.spi.model.TrucoCard;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class SpiModelAdapter {
 
-    public static GameIntel toGameIntel(Player player, Intel intel) {
-        final Function<UUID, RoundResult> toRoundResult = uuid -> uuid == null ? RoundResult.DREW
-                : uuid.equals(player.getUuid()) ? RoundResult.WON : RoundResult.LOST;
+    //Both card models index their cards by the same kind of ordinal, but the tables are built by symbol once so the
+    //mapping stays correct even if one of the models changes its ordinal order.
+    private static final TrucoCard[] trucoCardsByCardOrdinal = new TrucoCard[Card.ORDINALS];
+    private static final Card[] cardsByTrucoCardOrdinal = new Card[TrucoCard.ORDINALS];
 
-        final List<RoundResult> roundResults = intel.roundWinnersUuid().stream()
-                .map(winner -> winner.orElse(null))
-                .map(toRoundResult).collect(Collectors.toList());
+    static {
+        for (int ordinal = 0; ordinal < Card.ORDINALS; ordinal++) {
+            final Card card = Card.ofOrdinal(ordinal);
+            final TrucoCard trucoCard = TrucoCard.of(CardRank.ofSymbol(card.getRank().toString()),
+                    CardSuit.ofSymbol(card.getSuit().toString()));
+            trucoCardsByCardOrdinal[card.ordinal()] = trucoCard;
+            cardsByTrucoCardOrdinal[trucoCard.ordinal()] = card;
+        }
+    }
 
-        final Function<List<Card>, List<TrucoCard>> toTrucoCardList = cardList ->
-                cardList.stream().map(SpiModelAdapter::toTrucoCard).collect(Collectors.toList());
+    public static GameIntel toGameIntel(Player player, Intel intel) {
+        final UUID playerUuid = player.getUuid();
+        final List<Optional<UUID>> roundWinners = intel.roundWinnersUuid();
+        final List<RoundResult> roundResults = new ArrayList<>(roundWinners.size());
+        for (Optional<UUID> winner : roundWinners) {
+            if (winner.isEmpty()) roundResults.add(RoundResult.DREW);
+            else roundResults.add(winner.get().equals(playerUuid) ? RoundResult.WON : RoundResult.LOST);
+        }
 
-        final List<TrucoCard> openCards = toTrucoCardList.apply(intel.openCards());
-        final List<TrucoCard> botCards = toTrucoCardList.apply(player.getCards());
+        final List<TrucoCard> openCards = toTrucoCards(intel.openCards());
+        final List<TrucoCard> botCards = toTrucoCards(player.getCards());
 
         return GameIntel.StepBuilder.with()
                 .gameInfo(roundResults, openCards, toTrucoCard(intel.vira()), intel.handPoints())
@@ -62,15 +73,23 @@ public class SpiModelAdapter {
 
     public static Card toCard(TrucoCard card){
         if(card == null) return null;
-        final String rankName = card.getRank().toString();
-        final String suitName = card.getSuit().toString();
-        return Card.of(Rank.ofSymbol(rankName), Suit.ofSymbol(suitName));
+        return cardsByTrucoCardOrdinal[card.ordinal()];
+    }
+
+    public static List<Card> toCards(List<TrucoCard> cards){
+        final List<Card> result = new ArrayList<>(cards.size());
+        for (TrucoCard card : cards) result.add(toCard(card));
+        return result;
+    }
+
+    public static List<TrucoCard> toTrucoCards(List<Card> cards){
+        final List<TrucoCard> result = new ArrayList<>(cards.size());
+        for (Card card : cards) result.add(toTrucoCard(card));
+        return result;
     }
 
     private static TrucoCard toTrucoCard(Card card){
         if(card == null) return null;
-        final String rankName = card.getRank().toString();
-        final String suitName = card.getSuit().toString();
-        return TrucoCard.of(CardRank.ofSymbol(rankName), CardSuit.ofSymbol(suitName));
+        return trucoCardsByCardOrdinal[card.ordinal()];
     }
 }
@@ -21,7 +21,6 @@
 package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
@@ -56,8 +55,6 @@ public class CardPlayingHandler implements Handler{
 
     @Override
     public boolean shouldHandle(Intel intel) {
-        return intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .anyMatch(action -> action.equals(PLAY));
+        return intel.possibleActions().contains(PLAY);
     }
 }
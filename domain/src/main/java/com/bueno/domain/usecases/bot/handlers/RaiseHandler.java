@@ -21,15 +21,11 @@
 package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceProvider;
 
-import java.util.EnumSet;
-import java.util.stream.Collectors;
-
 import static com.bueno.domain.entities.intel.PossibleAction.QUIT;
 import static com.bueno.domain.entities.intel.PossibleAction.RAISE;
 import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
@@ -52,10 +48,7 @@ public class RaiseHandler implements Handler {
 
     @Override
     public boolean shouldHandle(Intel intel){
-        final var actions = intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PossibleAction.class)));
-
+        final var actions = intel.possibleActions();
         return actions.contains(RAISE) && !actions.contains(QUIT);
     }
 }
@@ -27,8 +27,7 @@ import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceProvider;
 
-import java.util.EnumSet;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
@@ -45,9 +44,7 @@ public class RaiseRequestHandler implements Handler{
     @Override
     public IntelDto handle(Intel intel, Player bot) {
         final var botUuid = bot.getUuid();
-        final var actions = intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PossibleAction.class)));
+        final var actions = intel.possibleActions();
 
         var response = botService.getRaiseResponse(toGameIntel(bot, intel));
         if(isInvalid(response)) throw new IllegalStateException("response must be -1, 0, 1 but was: " + response);
@@ -65,11 +62,11 @@ public class RaiseRequestHandler implements Handler{
         return response < -1 || response > 1;
     }
 
-    private static boolean hasAlreadyReachedHandPointsLimit(EnumSet<PossibleAction> actions, int response) {
+    private static boolean hasAlreadyReachedHandPointsLimit(Set<PossibleAction> actions, int response) {
         return response == 1 && !actions.contains(PossibleAction.RAISE);
     }
 
     public boolean shouldHandle(Intel intel){
-        return !intel.isMaoDeOnze() && !intel.possibleActions().contains("PLAY");
+        return !intel.isMaoDeOnze() && !intel.possibleActions().contains(PossibleAction.PLAY);
     }
 }
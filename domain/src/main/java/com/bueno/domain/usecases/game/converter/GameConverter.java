@@ -20,41 +20,168 @@
 
 package com.bueno.domain.usecases.game.converter;
 
+import com.bueno.domain.diagnostics.GameConversionEvent;
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.hand.converter.HandConverter;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Supplier;
 
 public class GameConverter {
 
+    static final int MAX_CACHED_GAMES = 512;
+
+    //Finished hands never change and are only appended, so each game keeps, by hand position, the last finished Hand
+    //seen there and its HandDto. Converting that same Hand object again reuses the immutable dto, and converting an
+    //equal dto again rebinds a copy of the Hand to the players of the new game, so only the current hand is converted
+    //either way. Hands are never shared between games. Contexts are evicted when their game ends or is removed, and
+    //least recently converted games are evicted first.
+    private static final Map<UUID, ConversionContext> contexts = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, ConversionContext> eldest) {
+                    return size() > MAX_CACHED_GAMES;
+                }
+            });
+    private static final ThreadLocal<Map<UUID, ConversionContext>> scopedContexts = new ThreadLocal<>();
+
     private GameConverter(){}
 
     public static GameDto toDto(Game game){
         if(game == null) return null;
 
-        return new GameDto(
+        final var event = new GameConversionEvent();
+        event.begin();
+        final ConversionContext context = game.isDone() ? new ConversionContext() : contextOf(game.getUuid());
+        final GameDto dto = new GameDto(
                 game.getUuid(),
                 game.getTimestamp(),
                 PlayerConverter.toDto(game.getPlayer1()),
                 PlayerConverter.toDto(game.getPlayer2()),
                 PlayerConverter.toDto(game.getFirstToPlay()),
                 PlayerConverter.toDto(game.getLastToPlay()),
-                game.getHands().stream().map(HandConverter::toDto).toList()
+                context.toDtos(game.getHands()),
+                IntelConverter.toDto(game.getIntel())
         );
+        record(event, "toDto", dto, context);
+        return dto;
     }
 
     public static Game fromDto(GameDto dto){
         if(dto == null) return null;
+        final var event = new GameConversionEvent();
+        event.begin();
         final Player player1 = PlayerConverter.fromDto(dto.player1());
         final Player player2 = PlayerConverter.fromDto(dto.player2());
         final Player firstToPlay = dto.firstToPlay().uuid().equals(player1.getUuid()) ? player1 : player2;
         final Player lastToPlay = dto.lastToPlay().uuid().equals(player1.getUuid()) ? player1 : player2;
-        final List<Hand> hands = dto.hands().stream()
-                .map(handDto -> HandConverter.fromDto(handDto, player1, player2))
-                .toList();
-        return new Game(dto.gameUuid(), dto.timestamp(), player1, player2, firstToPlay, lastToPlay, hands);
+        final ConversionContext context = contextOf(dto.gameUuid());
+        final List<Hand> hands = context.fromDtos(dto.hands(), player1, player2);
+        final Game game = new Game(dto.gameUuid(), dto.timestamp(), player1, player2, firstToPlay, lastToPlay, hands);
+        record(event, "fromDto", dto, context);
+        return game;
+    }
+
+    public static void evict(UUID gameUuid) {
+        contexts.remove(gameUuid);
+    }
+
+    //Disposable games, like simulated ones, end without being removed from a repository and are converted by many
+    //workers at once. Their conversions use contexts private to the calling thread, dropped once they return, instead
+    //of filling and contending on the shared ones.
+    public static <T> T withScopedCache(Supplier<T> conversions) {
+        final Map<UUID, ConversionContext> previous = scopedContexts.get();
+        scopedContexts.set(new HashMap<>());
+        try {
+            return conversions.get();
+        } finally {
+            if (previous == null) scopedContexts.remove();
+            else scopedContexts.set(previous);
+        }
+    }
+
+    static int cachedHandsOf(UUID gameUuid) {
+        final ConversionContext context = contexts.get(gameUuid);
+        return context == null ? 0 : context.size();
+    }
+
+    private static ConversionContext contextOf(UUID gameUuid) {
+        final Map<UUID, ConversionContext> scoped = scopedContexts.get();
+        if (scoped != null) return scoped.computeIfAbsent(gameUuid, unused -> new ConversionContext());
+        return contexts.computeIfAbsent(gameUuid, unused -> new ConversionContext());
+    }
+
+    private static void record(GameConversionEvent event, String direction, GameDto dto, ConversionContext context) {
+        if (!event.shouldCommit()) return;
+        event.direction = direction;
+        event.gameUuid = String.valueOf(dto.gameUuid());
+        event.hands = dto.hands().size();
+        event.cachedHands = context.size();
+        event.commit();
+    }
+
+    private static class ConversionContext {
+        private record Entry(Hand hand, HandDto dto) {
+        }
+
+        private final List<Entry> finished = new ArrayList<>();
+
+        synchronized List<HandDto> toDtos(List<Hand> hands) {
+            final List<HandDto> dtos = new ArrayList<>(hands.size());
+            for (int position = 0; position < hands.size(); position++) {
+                final Hand hand = hands.get(position);
+                final Entry entry = entryAt(position);
+                if (entry != null && entry.hand() == hand) {
+                    dtos.add(entry.dto());
+                    continue;
+                }
+                final HandDto dto = HandConverter.toDto(hand);
+                if (hand.isDone()) put(position, hand, dto);
+                dtos.add(dto);
+            }
+            trim(hands.size());
+            return Collections.unmodifiableList(dtos);
+        }
+
+        synchronized List<Hand> fromDtos(List<HandDto> dtos, Player player1, Player player2) {
+            final List<Hand> hands = new ArrayList<>(dtos.size());
+            for (int position = 0; position < dtos.size(); position++) {
+                final HandDto dto = dtos.get(position);
+                final Entry entry = entryAt(position);
+                if (entry != null && (entry.dto() == dto || entry.dto().equals(dto))) {
+                    final Hand hand = entry.hand().rebind(player1, player2);
+                    put(position, hand, entry.dto());
+                    hands.add(hand);
+                    continue;
+                }
+                final Hand hand = HandConverter.fromDto(dto, player1, player2);
+                if (hand.isDone()) put(position, hand, dto);
+                hands.add(hand);
+            }
+            trim(dtos.size());
+            return Collections.unmodifiableList(hands);
+        }
+
+        private Entry entryAt(int position) {
+            return position < finished.size() ? finished.get(position) : null;
+        }
+
+        private void put(int position, Hand hand, HandDto dto) {
+            while (finished.size() <= position) finished.add(null);
+            finished.set(position, new Entry(hand, dto));
+        }
+
+        private void trim(int hands) {
+            while (finished.size() > hands) finished.remove(finished.size() - 1);
+        }
+
+        synchronized int size() {
+            return (int) finished.stream().filter(Objects::nonNull).count();
+        }
     }
 }
@@ -1,4 +1,4 @@
 package com.bueno.domain.usecases.game.dtos;
 
-public record EvaluateResultsDto(long computingTime, long numberOfGames, long evaluatedBotWins, double winRate, double percentile,long matchWins) {
+public record EvaluateResultsDto(long computingTime, long numberOfGames, long evaluatedBotWins, double winRate, double percentile,long matchWins, long timeouts) {
 }
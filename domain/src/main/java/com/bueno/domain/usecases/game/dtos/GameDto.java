@@ -21,11 +21,12 @@
 package com.bueno.domain.usecases.game.dtos;
 
 import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public record GameDto(UUID gameUuid, LocalDateTime timestamp, PlayerDto player1, PlayerDto player2,
-                      PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands) {
+                      PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands, IntelDto lastIntel) {
 }
\ No newline at end of file
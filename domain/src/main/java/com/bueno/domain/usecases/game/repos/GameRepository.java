@@ -20,9 +20,17 @@
 
 package com.bueno.domain.usecases.game.repos;
 
+import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.intel.dtos.PlayerTurnDto;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,4 +42,36 @@ public interface GameRepository {
 
     Collection<GameDto> findAllInactiveAfter(int minutes);
 
+    //The queries below only need a small part of the game. The default implementations load the whole game and
+    //should be overridden by repositories able to fetch just the requested fields.
+    default Optional<PlayerTurnDto> findPlayerTurnByPlayerUuid(UUID playerUuid) {
+        return findLastIntelByPlayerUuid(playerUuid)
+                .map(intel -> new PlayerTurnDto(playerUuid.equals(intel.currentPlayerUuid())));
+    }
+
+    default Optional<IntelDto> findLastIntelByPlayerUuid(UUID playerUuid) {
+        return findByPlayerUuid(playerUuid).map(GameRepository::lastIntelOf);
+    }
+
+    default Optional<List<IntelDto>> findIntelSinceByPlayerUuid(UUID playerUuid, Instant lastIntelTimestamp) {
+        return findByPlayerUuid(playerUuid).map(GameConverter::fromDto)
+                .map(game -> game.getIntelSince(lastIntelTimestamp).stream().map(IntelConverter::toDto).toList());
+    }
+
+    //Repositories that keep the intel history apart from the game return it with the live state only.
+    default GameDto completeHistoryOf(GameDto game) {
+        return game;
+    }
+
+    //Games loaded from older storage layouts may not carry their last intel, which is then rebuilt from the game.
+    static IntelDto lastIntelOf(GameDto game) {
+        return game.lastIntel() != null ? game.lastIntel() : IntelConverter.toDto(GameConverter.fromDto(game).getIntel());
+    }
+
+    default Optional<List<CardDto>> findOwnedCardsByPlayerUuid(UUID playerUuid) {
+        return findByPlayerUuid(playerUuid)
+                .map(game -> game.player1().uuid().equals(playerUuid) ? game.player1() : game.player2())
+                .map(PlayerDto::cards);
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.bueno.domain.usecases.game.service;
 
 import com.bueno.domain.usecases.bot.BotUseCase;
+import com.bueno.domain.usecases.bot.DecisionTimeouts;
 import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
@@ -20,12 +21,19 @@ public class SimulationService {
    private final String bot1Name;
    private final UUID uuidBot2;
    private final String bot2Name;
+   private final DecisionTimeouts timeouts;
 
     public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName) {
+        this(uuidBotToEvaluate, botToEvaluateName, challengedBotName, new DecisionTimeouts());
+    }
+
+    public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName,
+                             DecisionTimeouts timeouts) {
         this.uuidBot1 = uuidBotToEvaluate;
         this.bot1Name = botToEvaluateName;
         this.uuidBot2 = UUID.randomUUID();;
         this.bot2Name = challengedBotName;
+        this.timeouts = Objects.requireNonNull(timeouts);
     }
 
     public List<PlayWithBotsDto> runInParallel(int times) {
@@ -39,6 +47,10 @@ public class SimulationService {
     }
 
     private PlayWithBotsDto simulate(){
+        return timeouts.recordDuring(() -> GameConverter.withScopedCache(this::play));
+    }
+
+    private PlayWithBotsDto play(){
         GameRepository gameRepository = new GameRepoDisposableImpl();
         final var requestModel = new CreateForBotsDto(uuidBot1, bot1Name, uuidBot2, bot2Name);
         final CreateGameUseCase createGameUseCase = new CreateGameUseCase(gameRepository);
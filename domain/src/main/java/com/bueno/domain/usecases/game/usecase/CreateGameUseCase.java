@@ -33,6 +33,7 @@ import com.bueno.domain.usecases.user.UserRepository;
 import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
 import com.bueno.domain.usecases.utils.exceptions.IllegalGameEnrolmentException;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 import com.bueno.spi.service.BotServiceManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -106,8 +107,11 @@ public class CreateGameUseCase {
     }
 
     private IntelDto create(Player p1, Player p2) {
-        final Game game = new Game(p1, p2);
-        gameRepo.save(GameConverter.toDto(game));
-        return IntelConverter.toDto(game.getIntel());
+        return GameMetrics.timeUseCase("CreateGameUseCase", "create", () -> {
+            final Game game = new Game(p1, p2);
+            gameRepo.save(GameConverter.toDto(game));
+            GameMetrics.gameCreated(game.getUuid());
+            return IntelConverter.toDto(game.getIntel());
+        });
     }
 }
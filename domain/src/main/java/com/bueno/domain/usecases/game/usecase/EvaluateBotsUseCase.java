@@ -1,5 +1,6 @@
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.bot.DecisionTimeouts;
 import com.bueno.domain.usecases.game.dtos.EvaluateResultsDto;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
 import com.bueno.domain.usecases.game.service.SimulationService;
@@ -22,9 +23,14 @@ public class EvaluateBotsUseCase {
     public EvaluateResultsDto getResults(List<String> botNames) {
         final int numberOfGames = (botNames.size() - 1) * TIMES;
 
+        final DecisionTimeouts decisionTimeouts = new DecisionTimeouts();
         final long start = System.currentTimeMillis();
-        var results = botNames.stream().filter(this::isNotEvaluatedBot).map(this::runSimulations).toList();
+        var results = botNames.stream()
+                .filter(this::isNotEvaluatedBot)
+                .map(challengedBotName -> runSimulations(challengedBotName, decisionTimeouts))
+                .toList();
         final long end = System.currentTimeMillis();
+        final long timeouts = decisionTimeouts.of(botToEvaluateName);
 
         final long evaluatedBotWins = results.stream().mapToLong(this::resultAccumulator).sum();
         final long gameWins = results.stream().mapToLong(match -> WinsAccumulatorService.getWins(match, botToEvaluateName, TIMES)).sum();
@@ -32,15 +38,15 @@ public class EvaluateBotsUseCase {
         double winRate = ((double) evaluatedBotWins / numberOfGames) * 100;
         double percentile = (((double) gameWins / (botNames.size() - 1)) * 100);
 
-        return new EvaluateResultsDto((end - start), numberOfGames, evaluatedBotWins, winRate, percentile, gameWins);
+        return new EvaluateResultsDto((end - start), numberOfGames, evaluatedBotWins, winRate, percentile, gameWins, timeouts);
     }
 
     private boolean isNotEvaluatedBot(String opponentName) {
         return !opponentName.equals(botToEvaluateName);
     }
 
-    private List<PlayWithBotsDto> runSimulations(String challengedBotName) {
-        final var playManyService = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
+    private List<PlayWithBotsDto> runSimulations(String challengedBotName, DecisionTimeouts timeouts) {
+        final var playManyService = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName, timeouts);
         return playManyService.runInParallel(TIMES);
     }
 
@@ -1,5 +1,6 @@
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.bot.DecisionTimeouts;
 import com.bueno.domain.usecases.bot.providers.BotProviders;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
 import com.bueno.domain.usecases.game.service.SimulationService;
@@ -13,6 +14,7 @@ import java.util.UUID;
 public class RankBotsUseCase {
     private final int TIMES = 7;
     private final Map<String, Long> rankMap = new HashMap<>();
+    private final DecisionTimeouts decisionTimeouts = new DecisionTimeouts();
     private final List<String> botNames = BotProviders.availableBots();
 
     public Map<String, Long> rankAll() {
@@ -20,6 +22,10 @@ public class RankBotsUseCase {
         return rankMap;
     }
 
+    public Map<String, Long> timeouts() {
+        return decisionTimeouts.asMap();
+    }
+
     private void playAgainstAll(String botName) {
         UUID uuidBotToEvaluate = UUID.randomUUID();
         var results = botNames.stream()
@@ -38,7 +44,8 @@ public class RankBotsUseCase {
     }
 
     private List<PlayWithBotsDto> runSimulations(String challengedBotName, String botToEvaluateName, UUID uuidBotToEvaluate) {
-        final var simulator = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
+        final var simulator = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName,
+                decisionTimeouts);
         return simulator.runInParallel(TIMES);
     }
 
@@ -20,38 +20,63 @@
 
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.repos.GameArchive;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 
 @Service
 public class RemoveGameUseCase {
 
+    private static final Logger LOGGER = Logger.getLogger(RemoveGameUseCase.class.getName());
+
     private final GameRepository gameRepo;
     private final GameResultRepository gameResultRepo;
+    private final GameArchive gameArchive;
 
     public RemoveGameUseCase(GameRepository gameRepo, GameResultRepository gameResultRepo) {
+        this(gameRepo, gameResultRepo, null);
+    }
+
+    @Autowired
+    public RemoveGameUseCase(GameRepository gameRepo, GameResultRepository gameResultRepo, GameArchive gameArchive) {
         this.gameRepo = gameRepo;
         this.gameResultRepo = gameResultRepo;
+        this.gameArchive = gameArchive;
     }
 
+    //A game that can not be removed is logged and left for the next run, so it does not keep the others around.
     public List<UUID> byInactivityAfter(int minutes){
         final List<UUID> gamesToRemove = gameRepo.findAllInactiveAfter(minutes)
                 .stream()
                 .map(this::inactivePlayerUuid)
                 .toList();
-        gamesToRemove.forEach(this::byUserUuid);
-        return gamesToRemove;
+        final List<UUID> removed = new ArrayList<>(gamesToRemove.size());
+        for (UUID userUuid : gamesToRemove) {
+            try {
+                byUserUuid(userUuid);
+                removed.add(userUuid);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Could not remove inactive game of user " + userUuid, e);
+            }
+        }
+        return removed;
     }
 
     public UUID inactivePlayerUuid(GameDto game){
@@ -63,10 +88,24 @@ public class RemoveGameUseCase {
         final UUID uuid = Objects.requireNonNull(userUuid, "User UUID must not be null.");
         final GameDto game = gameRepo.findByPlayerUuid(Objects.requireNonNull(uuid))
                 .orElseThrow(() -> new NoSuchElementException("The is no active game for user UUID: " + userUuid));
+        archive(game);
         gameRepo.delete(game.gameUuid());
+        GameMetrics.gameEnded(game.gameUuid());
+        GameConverter.evict(game.gameUuid());
         gameResultRepo.save(createGameResultFrom(game, userUuid));
     }
 
+    //Every removed game is archived with its whole history, whether it was played to the end or abandoned by one of
+    //its players. Failing to archive one must not keep it active, so the game is still removed and its history is lost.
+    private void archive(GameDto game) {
+        if (gameArchive == null) return;
+        try {
+            gameArchive.archive(gameRepo.completeHistoryOf(game));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not archive game " + game.gameUuid() + ", removing it anyway.", e);
+        }
+    }
+
     private GameResultDto createGameResultFrom(GameDto game, UUID quitterUuid){
         final UUID player1uuid = game.player1().uuid().equals(quitterUuid)
                 ? game.player1().uuid() : game.player2().uuid();
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.hand;
+
+import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class ExportHandResultsUseCase {
+
+    static final String HEADER = "id,created_at,hand_type,game_uuid,hand_winner,points,points_proposal," +
+            "rounds_played,r1_winner,r2_winner,r3_winner,vira,r1_c1,r1_c2,r2_c1,r2_c2,r3_c1,r3_c2";
+
+    private final HandResultRepository repo;
+
+    public ExportHandResultsUseCase(HandResultRepository repo) {
+        this.repo = Objects.requireNonNull(repo);
+    }
+
+    public long exportAsCsv(YearMonth first, YearMonth last, Appendable output) {
+        Objects.requireNonNull(first, "First month must not be null.");
+        Objects.requireNonNull(last, "Last month must not be null.");
+        Objects.requireNonNull(output, "Output must not be null.");
+        if (first.isAfter(last)) throw new IllegalArgumentException("First month must not be after the last month.");
+
+        return GameMetrics.timeUseCase("ExportHandResultsUseCase", "exportAsCsv", () -> {
+            try {
+                output.append(HEADER).append('\n');
+                return repo.exportCreatedBetween(first, last, result -> append(output, result));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public long removeCreatedBefore(YearMonth month) {
+        Objects.requireNonNull(month, "Month must not be null.");
+        return GameMetrics.timeUseCase("ExportHandResultsUseCase", "removeCreatedBefore",
+                () -> repo.deleteCreatedBefore(month));
+    }
+
+    private static void append(Appendable output, HandResultDto result) {
+        try {
+            output.append(String.valueOf(result.id())).append(',')
+                    .append(valueOf(result.createdAt())).append(',')
+                    .append(valueOf(result.handType())).append(',')
+                    .append(valueOf(result.gameUuid())).append(',')
+                    .append(valueOf(result.handWinner())).append(',')
+                    .append(String.valueOf(result.points())).append(',')
+                    .append(String.valueOf(result.pointsProposal())).append(',')
+                    .append(String.valueOf(result.roundWinners().size()));
+            appendColumns(output, result.roundWinners(), 3);
+            appendColumns(output, result.openCards(), 7);
+            output.append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void appendColumns(Appendable output, List<?> values, int columns) throws IOException {
+        for (int i = 0; i < columns; i++) output.append(',').append(i < values.size() ? valueOf(values.get(i)) : "");
+    }
+
+    private static String valueOf(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -22,6 +22,13 @@ package com.bueno.domain.usecases.hand;
 
 import com.bueno.domain.usecases.hand.dtos.HandResultDto;
 
+import java.time.YearMonth;
+import java.util.function.Consumer;
+
 public interface HandResultRepository {
     void save(HandResultDto handResultDto);
+
+    //Hand results are kept in monthly buckets of their creation time. Both operations work on whole months.
+    long deleteCreatedBefore(YearMonth month);
+    long exportCreatedBetween(YearMonth first, YearMonth last, Consumer<HandResultDto> consumer);
 }
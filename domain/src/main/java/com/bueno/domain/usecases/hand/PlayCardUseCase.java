@@ -35,6 +35,7 @@ import com.bueno.domain.usecases.intel.converters.CardConverter;
 import com.bueno.domain.usecases.intel.converters.IntelConverter;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.domain.usecases.utils.exceptions.UnsupportedGameRequestException;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -61,11 +62,11 @@ public class PlayCardUseCase {
     }
 
     public IntelDto playCard(PlayCardDto request) {
-        return playCard(request, false);
+        return GameMetrics.timeUseCase("PlayCardUseCase", "playCard", () -> playCard(request, false));
     }
 
     public IntelDto discard(PlayCardDto request) {
-        return playCard(request, true);
+        return GameMetrics.timeUseCase("PlayCardUseCase", "discard", () -> playCard(request, true));
     }
 
     private IntelDto playCard(PlayCardDto request, boolean discard) {
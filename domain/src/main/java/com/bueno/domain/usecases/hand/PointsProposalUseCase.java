@@ -32,6 +32,7 @@ import com.bueno.domain.usecases.hand.validator.ActionValidator;
 import com.bueno.domain.usecases.intel.converters.IntelConverter;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.domain.usecases.utils.exceptions.UnsupportedGameRequestException;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 import com.bueno.domain.usecases.utils.validation.Notification;
 import com.bueno.domain.usecases.utils.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -63,6 +64,10 @@ public class PointsProposalUseCase {
     }
 
     public IntelDto raise(UUID playerUuid){
+        return GameMetrics.timeUseCase("PointsProposalUseCase", "raise", () -> doRaise(playerUuid));
+    }
+
+    private IntelDto doRaise(UUID playerUuid){
         validateInput(playerUuid, PossibleAction.RAISE);
 
         Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
@@ -78,6 +83,10 @@ public class PointsProposalUseCase {
     }
 
     public IntelDto accept(UUID playerUuid){
+        return GameMetrics.timeUseCase("PointsProposalUseCase", "accept", () -> doAccept(playerUuid));
+    }
+
+    private IntelDto doAccept(UUID playerUuid){
         validateInput(playerUuid, PossibleAction.ACCEPT);
 
         Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
@@ -93,6 +102,10 @@ public class PointsProposalUseCase {
     }
 
     public IntelDto quit(UUID playerUuid){
+        return GameMetrics.timeUseCase("PointsProposalUseCase", "quit", () -> doQuit(playerUuid));
+    }
+
+    private IntelDto doQuit(UUID playerUuid){
         validateInput(playerUuid, PossibleAction.QUIT);
 
         Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
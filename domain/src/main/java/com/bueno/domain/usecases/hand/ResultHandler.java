@@ -21,11 +21,13 @@
 package com.bueno.domain.usecases.hand;
 
 import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.converter.GameResultConverter;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.converter.HandResultConverter;
 import com.bueno.domain.usecases.intel.converters.IntelConverter;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 
 class ResultHandler {
 
@@ -44,6 +46,8 @@ class ResultHandler {
         });
 
         if (game.isDone()) {
+            GameMetrics.gameEnded(game.getUuid());
+            GameConverter.evict(game.getUuid());
             if (gameResultRepository != null)
                 gameResultRepository.save(GameResultConverter.toDto(game));
             return IntelConverter.toDto(game.getIntel());
@@ -36,7 +36,6 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class HandConverter {
 
@@ -50,7 +49,7 @@ public class HandConverter {
                 hand.getOpenCards().stream().map(CardConverter::toDto).toList(),
                 hand.getRoundsPlayed().stream().map(RoundConverter::toDto).toList(),
                 hand.getIntelHistory().stream().map(IntelConverter::toDto).toList(),
-                hand.getPossibleActions().stream().map(PossibleAction::toString).collect(Collectors.toSet()),
+                PossibleAction.setOf(hand.getPossibleActions()),
                 PlayerConverter.toDto(hand.getFirstToPlay()),
                 PlayerConverter.toDto(hand.getLastToPlay()),
                 PlayerConverter.toDto(hand.getCurrentPlayer()),
@@ -69,12 +68,7 @@ public class HandConverter {
 
         final Map<UUID, Player> players = Map.of(player1.getUuid(), player1, player2.getUuid(), player2);
 
-        final var actions = dto.possibleActions().stream()
-                .map(PossibleAction::valueOf).collect(Collectors.toSet());
-
-        final var possibleActions = actions.isEmpty()
-                ? EnumSet.noneOf(PossibleAction.class)
-                : EnumSet.copyOf(actions);
+        final EnumSet<PossibleAction> possibleActions = PossibleAction.setOf(dto.possibleActions());
 
         final List<Round> rounds = dto.roundsPlayed().stream()
                 .map(roundDto -> RoundConverter.fromDto(roundDto, player1, player2))
@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.hand.dtos;
 
+import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.intel.dtos.CardDto;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
@@ -28,7 +29,7 @@ import java.util.List;
 import java.util.Set;
 
 public record HandDto(CardDto vira, List<CardDto> dealtCards, List<CardDto> openCards,
-                      List<RoundDto> roundsPlayed, List<IntelDto> history, Set<String> possibleActions,
+                      List<RoundDto> roundsPlayed, List<IntelDto> history, Set<PossibleAction> possibleActions,
                       PlayerDto firstToPlay, PlayerDto lastToPlay, PlayerDto currentPlayer, PlayerDto lastBetRaiser, PlayerDto eventPlayer,
                       CardDto cartToPlayAgainst, int points, int pointsProposal, PlayerDto winner, String state) {
 }
\ No newline at end of file
@@ -20,14 +20,15 @@
 
 package com.bueno.domain.usecases.hand.dtos;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public record HandResultDto(long id, String handType, UUID gameUuid, UUID handWinner, int points, int pointsProposal,
-                            List<UUID> roundWinners, List<String> openCards){
+                            List<UUID> roundWinners, List<String> openCards, Instant createdAt){
 
     public HandResultDto(String handType, UUID gameUuid, UUID handWinner, int points,
                          int pointsProposal, List<UUID> roundWinners, List<String> openCards) {
-        this(0, handType, gameUuid, handWinner, points, pointsProposal, roundWinners, openCards);
+        this(0, handType, gameUuid, handWinner, points, pointsProposal, roundWinners, openCards, Instant.now());
     }
 }
@@ -20,22 +20,18 @@
 
 package com.bueno.domain.usecases.intel;
 
-import com.bueno.domain.entities.game.Game;
-import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
-import com.bueno.domain.usecases.intel.converters.CardConverter;
-import com.bueno.domain.usecases.intel.converters.IntelConverter;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.domain.usecases.intel.dtos.IntelSinceDto;
 import com.bueno.domain.usecases.intel.dtos.OwnedCardsDto;
 import com.bueno.domain.usecases.intel.dtos.PlayerTurnDto;
 import com.bueno.domain.usecases.utils.exceptions.GameNotFoundException;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class HandleIntelUseCase {
@@ -47,33 +43,37 @@ public class HandleIntelUseCase {
     }
 
     public IntelSinceDto findIntelSince(UUID uuid, Instant lastIntelTimestamp){
-        final var game = getGameOrThrow(uuid);
-        final var intelSince = game.getIntelSince(lastIntelTimestamp).stream()
-                .map(IntelConverter::toDto)
-                .collect(Collectors.toList());
-        return new IntelSinceDto(lastIntelTimestamp, intelSince);
+        return GameMetrics.timeUseCase("HandleIntelUseCase", "findIntelSince", () -> {
+            final var intelSince = repo.findIntelSinceByPlayerUuid(requireUuid(uuid), lastIntelTimestamp)
+                    .orElseThrow(() -> notInGame(uuid));
+            return new IntelSinceDto(lastIntelTimestamp, intelSince);
+        });
     }
 
     public IntelDto findLastIntel(UUID uuid){
-        final var game = getGameOrThrow(uuid);
-        return IntelConverter.toDto(game.getIntel());
+        return GameMetrics.timeUseCase("HandleIntelUseCase", "findLastIntel", () -> {
+            return repo.findLastIntelByPlayerUuid(requireUuid(uuid)).orElseThrow(() -> notInGame(uuid));
+        });
     }
 
     public OwnedCardsDto ownedCards(UUID uuid){
-        final var game = getGameOrThrow(uuid);
-        final var player = game.getPlayer1().getUuid().equals(uuid) ? game.getPlayer1() : game.getPlayer2();
-        return new OwnedCardsDto(player.getCards().stream().map(CardConverter::toDto).collect(Collectors.toList()));
+        return GameMetrics.timeUseCase("HandleIntelUseCase", "ownedCards", () -> {
+            final var cards = repo.findOwnedCardsByPlayerUuid(requireUuid(uuid)).orElseThrow(() -> notInGame(uuid));
+            return new OwnedCardsDto(cards);
+        });
     }
 
     public PlayerTurnDto isPlayerTurn(UUID uuid) {
-        final var game = getGameOrThrow(uuid);
-        final var playerTurn = uuid.equals(game.getIntel().currentPlayerUuid().orElse(null));
-        return new PlayerTurnDto(playerTurn);
+        return GameMetrics.timeUseCase("HandleIntelUseCase", "isPlayerTurn", () -> {
+            return repo.findPlayerTurnByPlayerUuid(requireUuid(uuid)).orElseThrow(() -> notInGame(uuid));
+        });
     }
 
-    private Game getGameOrThrow(UUID uuid) {
-        Objects.requireNonNull(uuid, "UUID must not be null.");
-        return repo.findByPlayerUuid(uuid).map(GameConverter::fromDto).orElseThrow(
-                () -> new GameNotFoundException("User with UUID " + uuid + " is not in an active game."));
+    private static UUID requireUuid(UUID uuid) {
+        return Objects.requireNonNull(uuid, "UUID must not be null.");
+    }
+
+    private static GameNotFoundException notInGame(UUID uuid) {
+        return new GameNotFoundException("User with UUID " + uuid + " is not in an active game.");
     }
 }
@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.intel.dtos;
 
+import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 
 import java.time.Instant;
@@ -37,7 +38,7 @@ public record IntelDto(Instant timestamp, boolean isGameDone, UUID gameWinner, b
                        CardDto cardToPlayAgainst,
                        List<PlayerDto> players,
                        String event, UUID eventPlayerUuid, String eventPlayerUsername,
-                       Set<String> possibleActions) {
+                       Set<PossibleAction> possibleActions) {
 
     @Override
     public boolean equals(Object o) {
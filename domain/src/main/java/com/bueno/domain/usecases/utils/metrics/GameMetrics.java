@@ -0,0 +1,115 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.utils.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public final class GameMetrics {
+
+    public static final String USE_CASE_TIMER = "ctruco.usecase";
+    public static final String BOT_DECISION_TIMER = "ctruco.bot.decision";
+    public static final String REPOSITORY_TIMER = "ctruco.repository";
+    public static final String ACTIVE_GAMES_GAUGE = "ctruco.games.active";
+    public static final String BOT_TIMEOUT_COUNTER = "ctruco.bot.timeouts";
+    public static final String BOT_REJECTED_COUNTER = "ctruco.bot.rejected";
+
+    private static final MeterRegistry registry = Metrics.globalRegistry;
+    private static final Set<UUID> activeGames = ConcurrentHashMap.newKeySet();
+    private static final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<List<String>, Counter> counters = new ConcurrentHashMap<>();
+
+    static {
+        Gauge.builder(ACTIVE_GAMES_GAUGE, activeGames, Set::size)
+                .description("Games created and not yet finished or removed")
+                .register(registry);
+    }
+
+    private GameMetrics() {
+    }
+
+    public static <T> T timeUseCase(String useCase, String operation, Supplier<T> action) {
+        return timer(USE_CASE_TIMER, "usecase", useCase, "operation", operation).record(action);
+    }
+
+    public static <T> T timeBotDecision(String botName, String decision, Supplier<T> action) {
+        return timer(BOT_DECISION_TIMER, "bot", botName, "decision", decision).record(action);
+    }
+
+    public static <T> T timeRepository(String repository, String operation, Supplier<T> action) {
+        return timer(REPOSITORY_TIMER, "repository", repository, "operation", operation).record(action);
+    }
+
+    public static void timeRepository(String repository, String operation, Runnable action) {
+        timer(REPOSITORY_TIMER, "repository", repository, "operation", operation).record(action);
+    }
+
+    public static void botDecisionTimedOut(String botName, String decision) {
+        counter(BOT_TIMEOUT_COUNTER, "bot", botName, "decision", decision).increment();
+    }
+
+    public static void botDecisionRejected(String botName, String decision) {
+        counter(BOT_REJECTED_COUNTER, "bot", botName, "decision", decision).increment();
+    }
+
+    public static void gameCreated(UUID gameUuid) {
+        activeGames.add(gameUuid);
+    }
+
+    public static void gameEnded(UUID gameUuid) {
+        activeGames.remove(gameUuid);
+    }
+
+    public static int activeGames() {
+        return activeGames.size();
+    }
+
+    private static Timer timer(String name, String... tags) {
+        final List<String> key = key(name, tags);
+        return timers.computeIfAbsent(key, unused -> Timer.builder(name).tags(tagsOf(key)).register(registry));
+    }
+
+    private static Counter counter(String name, String... tags) {
+        final List<String> key = key(name, tags);
+        return counters.computeIfAbsent(key, unused -> Counter.builder(name).tags(tagsOf(key)).register(registry));
+    }
+
+    private static List<String> key(String name, String... tags) {
+        final String[] key = new String[tags.length + 1];
+        key[0] = name;
+        for (int i = 0; i < tags.length; i++) key[i + 1] = tags[i] == null ? "unknown" : tags[i];
+        return List.of(key);
+    }
+
+    private static String[] tagsOf(List<String> key) {
+        return key.subList(1, key.size()).toArray(String[]::new);
+    }
+}
@@ -4,7 +4,10 @@ module domain {
     requires bot.impl;
     requires spring.context;
     requires spring.beans;
+    requires micrometer.core;
+    requires jdk.jfr;
 
+    exports com.bueno.domain.entities.intel;
     exports com.bueno.domain.usecases.game.usecase;
     exports com.bueno.domain.usecases.game.dtos;
     exports com.bueno.domain.usecases.user;
@@ -16,4 +19,6 @@ module domain {
     exports com.bueno.domain.usecases.utils.exceptions;
     exports com.bueno.domain.usecases.hand.dtos;
     exports com.bueno.domain.usecases.game.repos;
+    exports com.bueno.domain.usecases.utils.metrics;
+    exports com.bueno.domain.diagnostics;
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.diagnostics;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiagnosticEventsTest {
+
+    @Test
+    @DisplayName("Should have all events disabled by default")
+    void shouldHaveAllEventsDisabledByDefault() {
+        assertThat(List.of(HandStartEvent.class, HandEndEvent.class, HandActionEvent.class,
+                        BotDecisionEvent.class, GameConversionEvent.class))
+                .allSatisfy(type -> assertThat(EventType.getEventType(type).isEnabled()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should record hand and conversion events when enabled")
+    void shouldRecordHandAndConversionEventsWhenEnabled() throws IOException {
+        final Path file = Files.createTempFile("ctruco", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("ctruco.HandStart");
+            recording.enable("ctruco.HandAction");
+            recording.enable("ctruco.HandEnd");
+            recording.enable("ctruco.GameConversion");
+            recording.start();
+
+            final Game game = new Game(Player.of(UUID.randomUUID(), "User"), Player.ofBot("DummyBot"));
+            final Hand hand = game.currentHand();
+            hand.raise(hand.getCurrentPlayer());
+            hand.quit(hand.getCurrentPlayer());
+            GameConverter.fromDto(GameConverter.toDto(game));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<String> names = RecordingFile.readAllEvents(file).stream()
+                .map(RecordedEvent::getEventType)
+                .map(EventType::getName)
+                .toList();
+        Files.deleteIfExists(file);
+
+        assertThat(names).contains("ctruco.HandStart", "ctruco.HandEnd", "ctruco.GameConversion");
+        assertThat(names.stream().filter("ctruco.HandAction"::equals).count()).isEqualTo(2);
+    }
+}
@@ -197,4 +197,25 @@ class CardTest {
         final Card zap = Card.of(Rank.THREE, Suit.CLUBS);
         assertThat(zap.compareValueTo(copas, vira)).isPositive();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should round trip every card through its ordinal")
+    void shouldRoundTripEveryCardThroughItsOrdinal() {
+        for (int ordinal = 0; ordinal < Card.ORDINALS; ordinal++)
+            assertThat(Card.ofOrdinal(ordinal).ordinal()).isEqualTo(ordinal);
+        assertThat(Card.of(Rank.FOUR, Suit.DIAMONDS).ordinal()).isZero();
+        assertThat(Card.closed().ordinal()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Should manilhas be the cards right after the vira rank")
+    void shouldManilhasBeTheCardsRightAfterTheViraRank() {
+        for (int cardOrdinal = 0; cardOrdinal < 40; cardOrdinal++) {
+            for (int viraOrdinal = 0; viraOrdinal < 40; viraOrdinal++) {
+                final Card card = Card.ofOrdinal(cardOrdinal);
+                final Card vira = Card.ofOrdinal(viraOrdinal);
+                assertThat(card.isManilha(vira)).isEqualTo(card.getRank() == vira.getRank().next());
+            }
+        }
+    }
+}
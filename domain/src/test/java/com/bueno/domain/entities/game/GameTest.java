@@ -162,6 +162,25 @@ class GameTest {
         assertThat(sut.getIntelSince(firstHandIntel.timestamp()).size()).isEqualTo(6);
     }
 
+    @Test
+    @DisplayName("Should fork game without changing the original")
+    void shouldForkGameWithoutChangingTheOriginal() {
+        final Game game = new Game(Player.ofBot("Bot1"), Player.ofBot("Bot2"));
+        final Game fork = game.fork();
+        final Hand forkedHand = fork.currentHand();
+        final Player forkedPlayer = forkedHand.getCurrentPlayer();
+        forkedHand.playFirstCard(forkedPlayer, forkedPlayer.play(forkedPlayer.getCards().get(0)));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(fork).isEqualTo(game);
+        softly.assertThat(fork.getPlayer1()).isEqualTo(game.getPlayer1()).isNotSameAs(game.getPlayer1());
+        softly.assertThat(fork.getFirstToPlay()).isSameAs(forkedHand.getFirstToPlay());
+        softly.assertThat(game.currentHand().getCardToPlayAgainst()).isEmpty();
+        softly.assertThat(game.getFirstToPlay().getCards()).hasSize(3);
+        softly.assertThat(forkedPlayer.getCards()).hasSize(2);
+        softly.assertAll();
+    }
+
     @Test
     @DisplayName("Should games with same uuid be equal")
     void shouldGamesWithSameUuidBeEqual() {
@@ -736,6 +736,71 @@ class HandTest {
         }
     }
 
+    @Nested
+    @DisplayName("When forking")
+    class ForkTest {
+
+        private Player first;
+        private Player last;
+        private Hand hand;
+
+        @BeforeEach
+        void setUp() {
+            first = Player.ofBot("First");
+            last = Player.ofBot("Last");
+            first.setCards(List.of(Card.of(Rank.THREE, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.FOUR, Suit.CLUBS)));
+            last.setCards(List.of(Card.of(Rank.TWO, Suit.SPADES), Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.FIVE, Suit.CLUBS)));
+            hand = new Hand(first, last, Card.of(Rank.SEVEN, Suit.CLUBS));
+        }
+
+        @Test
+        @DisplayName("Should fork with the same state")
+        void shouldForkWithTheSameState() {
+            hand.playFirstCard(first, first.play(Card.of(Rank.FOUR, Suit.CLUBS)));
+            final Hand fork = hand.fork();
+            SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(fork.getOpenCards()).isEqualTo(hand.getOpenCards());
+            softly.assertThat(fork.getCardToPlayAgainst()).isEqualTo(hand.getCardToPlayAgainst());
+            softly.assertThat(fork.getCurrentPlayer()).isEqualTo(last);
+            softly.assertThat(fork.getPossibleActions()).isEqualTo(hand.getPossibleActions());
+            softly.assertThat(fork.getState().className()).isEqualTo(hand.getState().className());
+            softly.assertThat(fork.getLastIntel()).isEqualTo(hand.getLastIntel());
+            softly.assertThat(fork.getIntelHistory()).hasSize(1);
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should not change the original hand when playing the fork")
+        void shouldNotChangeTheOriginalHandWhenPlayingTheFork() {
+            final Hand fork = hand.fork();
+            final Player forkedFirst = fork.getFirstToPlay();
+            final Player forkedLast = fork.getLastToPlay();
+            fork.playFirstCard(forkedFirst, forkedFirst.play(Card.of(Rank.THREE, Suit.SPADES)));
+            fork.playSecondCard(forkedLast, forkedLast.play(Card.of(Rank.TWO, Suit.SPADES)));
+            fork.raise(forkedFirst);
+            SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(hand.getOpenCards()).containsExactly(Card.of(Rank.SEVEN, Suit.CLUBS));
+            softly.assertThat(hand.numberOfRoundsPlayed()).isZero();
+            softly.assertThat(hand.getPointsProposal()).isNull();
+            softly.assertThat(hand.getLastBetRaiser()).isNull();
+            softly.assertThat(first.getCards()).hasSize(3);
+            softly.assertThat(last.getCards()).hasSize(3);
+            softly.assertThat(fork.numberOfRoundsPlayed()).isOne();
+            softly.assertThat(fork.getLastBetRaiser()).isSameAs(forkedFirst);
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should fork a finished hand with its result")
+        void shouldForkAFinishedHandWithItsResult() {
+            hand.raise(first);
+            hand.quit(last);
+            final Hand fork = hand.fork();
+            assertThat(fork.getResult()).isEqualTo(hand.getResult());
+            assertThat(fork.isDone()).isTrue();
+        }
+    }
+
     private Player getPossibleWinner() {
         return sut.getResult().flatMap(HandResult::getWinner).orElse(null);
     }
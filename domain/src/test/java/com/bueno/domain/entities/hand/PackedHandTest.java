@@ -0,0 +1,143 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.hand;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import com.bueno.domain.entities.player.Player;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.bueno.domain.entities.intel.PossibleAction.*;
+import static org.assertj.core.api.Assertions.*;
+
+class PackedHandTest {
+
+    private Player player1;
+    private Player player2;
+    private Hand hand;
+
+    @BeforeEach
+    void setUp() {
+        player1 = new Player(List.of(), "Player1", UUID.randomUUID(), 4, false);
+        player2 = Player.ofBot("Bot");
+        player1.setCards(List.of(Card.of(Rank.THREE, Suit.SPADES), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.FOUR, Suit.CLUBS)));
+        player2.setCards(List.of(Card.of(Rank.TWO, Suit.SPADES), Card.of(Rank.ACE, Suit.HEARTS), Card.of(Rank.FIVE, Suit.CLUBS)));
+        hand = new Hand(player1, player2, Card.of(Rank.SEVEN, Suit.CLUBS));
+    }
+
+    @Test
+    @DisplayName("Should restore the state of a new hand")
+    void shouldRestoreTheStateOfANewHand() {
+        final Hand unpacked = PackedHand.of(hand, player1, player2).toHand(player1, player2);
+        assertSameState(unpacked);
+    }
+
+    @Test
+    @DisplayName("Should restore the state of a hand after every card played")
+    void shouldRestoreTheStateOfAHandAfterEveryCardPlayed() {
+        play(player1, Card.of(Rank.FOUR, Suit.CLUBS));
+        assertSameState(PackedHand.of(hand, player1, player2).toHand(player1, player2));
+        play(player2, Card.of(Rank.TWO, Suit.SPADES));
+        assertSameState(PackedHand.of(hand, player1, player2).toHand(player1, player2));
+        discard(player2, Card.of(Rank.FIVE, Suit.CLUBS));
+        assertSameState(PackedHand.of(hand, player1, player2).toHand(player1, player2));
+        play(player1, Card.of(Rank.THREE, Suit.SPADES));
+        assertSameState(PackedHand.of(hand, player1, player2).toHand(player1, player2));
+    }
+
+    @Test
+    @DisplayName("Should restore points proposal and last bet raiser")
+    void shouldRestorePointsProposalAndLastBetRaiser() {
+        hand.raise(player1);
+        final Hand unpacked = PackedHand.of(hand, player1, player2).toHand(player1, player2);
+        assertSameState(unpacked);
+        assertThat(unpacked.getPossibleActions()).containsExactlyInAnyOrder(ACCEPT, QUIT, RAISE);
+    }
+
+    @Test
+    @DisplayName("Should restore the result of a finished hand")
+    void shouldRestoreTheResultOfAFinishedHand() {
+        hand.raise(player1);
+        hand.quit(player2);
+        final Hand unpacked = PackedHand.of(hand, player1, player2).toHand(player1, player2);
+        assertSameState(unpacked);
+        assertThat(unpacked.getResult()).isEqualTo(hand.getResult());
+    }
+
+    @Test
+    @DisplayName("Should be usable as a key of equal hand states")
+    void shouldBeUsableAsAKeyOfEqualHandStates() {
+        play(player1, Card.of(Rank.FOUR, Suit.CLUBS));
+        final PackedHand packed = PackedHand.of(hand, player1, player2);
+        final PackedHand repacked = PackedHand.of(packed.toHand(player1, player2), player1, player2);
+        assertThat(repacked).isEqualTo(packed).hasSameHashCodeAs(packed);
+    }
+
+    @Test
+    @DisplayName("Should not pack hand without all cards dealt")
+    void shouldNotPackHandWithoutAllCardsDealt() {
+        player1.setCards(List.of(Card.of(Rank.THREE, Suit.SPADES)));
+        player2.setCards(List.of(Card.of(Rank.TWO, Suit.SPADES)));
+        final Hand partial = new Hand(player1, player2, Card.of(Rank.SEVEN, Suit.CLUBS));
+        assertThatIllegalArgumentException().isThrownBy(() -> PackedHand.of(partial, player1, player2));
+    }
+
+    private void play(Player player, Card card) {
+        final Card playedCard = player.play(card);
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, playedCard);
+        else hand.playSecondCard(player, playedCard);
+    }
+
+    private void discard(Player player, Card card) {
+        final Card playedCard = player.discard(card);
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, playedCard);
+        else hand.playSecondCard(player, playedCard);
+    }
+
+    private void assertSameState(Hand unpacked) {
+        final SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(unpacked.getVira()).isEqualTo(hand.getVira());
+        softly.assertThat(unpacked.getDealtCards()).isEqualTo(hand.getDealtCards());
+        softly.assertThat(unpacked.getOpenCards()).isEqualTo(hand.getOpenCards());
+        softly.assertThat(unpacked.getRoundsPlayed()).extracting(round -> round.getWinner().map(Player::getUuid))
+                .isEqualTo(hand.getRoundsPlayed().stream().map(round -> round.getWinner().map(Player::getUuid)).toList());
+        softly.assertThat(unpacked.getCardToPlayAgainst()).isEqualTo(hand.getCardToPlayAgainst());
+        softly.assertThat(unpacked.getFirstToPlay()).isEqualTo(hand.getFirstToPlay());
+        softly.assertThat(unpacked.getCurrentPlayer()).isEqualTo(hand.getCurrentPlayer());
+        softly.assertThat(unpacked.getLastBetRaiser()).isEqualTo(hand.getLastBetRaiser());
+        softly.assertThat(unpacked.getPoints()).isEqualTo(hand.getPoints());
+        softly.assertThat(unpacked.getPointsProposal()).isEqualTo(hand.getPointsProposal());
+        softly.assertThat(unpacked.getPossibleActions()).isEqualTo(hand.getPossibleActions());
+        softly.assertThat(unpacked.getState().className()).isEqualTo(hand.getState().className());
+        softly.assertThat(unpacked.getLastIntel().event()).isEqualTo(hand.getLastIntel().event());
+        softly.assertThat(unpacked.getFirstToPlay().getCards()).isEqualTo(hand.getFirstToPlay().getCards());
+        softly.assertThat(unpacked.getLastToPlay().getCards()).isEqualTo(hand.getLastToPlay().getCards());
+        softly.assertThat(unpacked.getFirstToPlay().getScore()).isEqualTo(hand.getFirstToPlay().getScore());
+        softly.assertAll();
+    }
+}
@@ -21,51 +21,63 @@
 package com.bueno.domain.entities.hand.states;
 
 import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.PossibleAction;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.EnumSet;
+
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class DoneTest {
 
     @Mock Hand hand;
 
+    @Test
+    @DisplayName("Should clear current player and possible actions when entering done state")
+    void shouldClearCurrentPlayerAndPossibleActionsWhenEnteringDoneState() {
+        Done.INSTANCE.enter(hand);
+        verify(hand).setCurrentPlayer(null);
+        verify(hand).setPossibleActions(EnumSet.noneOf(PossibleAction.class));
+    }
+
     @Test
     @DisplayName("Should throw if plays first card in done state")
     void shouldThrowIfPlaysFirstCardInDoneState() {
-        Done sut = new Done(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.playFirstCard(null, null));
+        Done sut = Done.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.playFirstCard(hand, null, null));
     }
 
     @Test
     @DisplayName("Should throw if plays second card in done state")
     void shouldThrowIfPlaysSecondCardInDoneState() {
-        Done sut = new Done(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.playSecondCard(null, null));
+        Done sut = Done.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.playSecondCard(hand, null, null));
     }
 
     @Test
     @DisplayName("Should throw if accepts request or mao de onze in done state")
     void shouldThrowIfAcceptsRequestOrMaoDeOnzeInDoneState() {
-        Done sut = new Done(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.accept(null));
+        Done sut = Done.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.accept(hand, null));
     }
 
     @Test
     @DisplayName("Should throw if quits request or mao de onze in done state")
     void shouldThrowIfQuitsRequestOrMaoDeOnzeInDoneState() {
-        Done sut = new Done(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.quit(null));
+        Done sut = Done.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.quit(hand, null));
     }
 
     @Test
     @DisplayName("Should throw if raises in done state")
     void shouldThrowIfRaisesInDoneState() {
-        Done sut = new Done(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.raise(null));
+        Done sut = Done.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.raise(hand, null));
     }
 }
\ No newline at end of file
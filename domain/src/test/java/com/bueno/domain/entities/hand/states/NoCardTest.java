@@ -37,21 +37,21 @@ class NoCardTest {
     @Test
     @DisplayName("Should throw if plays second card in no card state")
     void shouldThrowIfPlaysSecondCardInNoCardState() {
-        NoCard sut = new NoCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.playSecondCard(null, null));
+        NoCard sut = NoCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.playSecondCard(hand, null, null));
     }
 
     @Test
     @DisplayName("Should throw if accepts request or mao de onze in no card state")
     void shouldThrowIfAcceptsRequestOrMaoDeOnzeInNoCardState() {
-        NoCard sut = new NoCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.accept(null));
+        NoCard sut = NoCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.accept(hand, null));
     }
 
     @Test
     @DisplayName("Should throw if quits request or mao de onze in no card state")
     void shouldThrowIfQuitsRequestOrMaoDeOnzeInNoCardState() {
-        NoCard sut = new NoCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.quit(null));
+        NoCard sut = NoCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.quit(hand, null));
     }
 }
\ No newline at end of file
@@ -158,7 +158,7 @@ class IntelTest {
         softly.assertThat(sut.eventPlayerUuid().orElseThrow()).isEqualTo(p1.getUuid());
         softly.assertThat(sut.event().orElseThrow()).isEqualTo("PLAY");
         softly.assertThat(sut.players()).isEqualTo(List.of(new PlayerIntel (p1), new PlayerIntel(p2)));
-        softly.assertThat(sut.possibleActions()).hasSameElementsAs(List.of("PLAY", "RAISE"));
+        softly.assertThat(sut.possibleActions()).hasSameElementsAs(List.of(PossibleAction.PLAY, PossibleAction.RAISE));
         softly.assertAll();
     }
 
@@ -142,6 +142,22 @@ class PlayerTest {
         assertThat(sut.getScore()).isEqualTo(HandPoints.NINE.get());
     }
 
+    @Test
+    @DisplayName("Should copy player with independent cards")
+    void shouldCopyPlayerWithIndependentCards() {
+        final Player sut = Player.ofBot("Bot test");
+        sut.setCards(List.of(Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.ACE, Suit.SPADES)));
+        sut.addScore(HandPoints.THREE);
+        final Player copy = sut.copy();
+        copy.play(Card.of(Rank.KING, Suit.HEARTS));
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(copy).isEqualTo(sut);
+        softly.assertThat(copy.getScore()).isEqualTo(3);
+        softly.assertThat(copy.isBot()).isTrue();
+        softly.assertThat(sut.getCards()).hasSize(2);
+        softly.assertAll();
+    }
+
     @Test
     @DisplayName("Should limit player score to 12")
     void shouldLimitPlayerScoreTo12() {
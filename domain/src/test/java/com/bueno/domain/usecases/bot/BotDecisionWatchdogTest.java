@@ -0,0 +1,173 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BotServiceProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BotDecisionWatchdogTest {
+
+    @Mock BotServiceProvider botService;
+    String botName;
+    GameIntel intel;
+    DecisionTimeouts timeouts;
+    BotDecisionWatchdog sut;
+
+    @BeforeEach
+    void setUp() {
+        botName = "SlowBot-" + UUID.randomUUID();
+        when(botService.getName()).thenReturn(botName);
+        intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(), TrucoCard.of(CardRank.SEVEN, CardSuit.CLUBS), 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.THREE, CardSuit.HEARTS),
+                        TrucoCard.of(CardRank.FOUR, CardSuit.SPADES),
+                        TrucoCard.of(CardRank.ACE, CardSuit.DIAMONDS)), 0)
+                .opponentScore(0)
+                .build();
+        timeouts = new DecisionTimeouts();
+        sut = new BotDecisionWatchdog(botService, 50, BotDecisionWatchdog.boundedExecutor(4));
+    }
+
+    @Test
+    @DisplayName("Should return bot decision if made within the time budget")
+    void shouldReturnBotDecisionIfMadeWithinTheTimeBudget() {
+        when(botService.getRaiseResponse(any())).thenReturn(1);
+        assertThat(timeouts.recordDuring(() -> sut.getRaiseResponse(intel))).isEqualTo(1);
+        assertThat(timeouts.of(botName)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should play weakest card if card choice exceeds the time budget")
+    void shouldPlayWeakestCardIfCardChoiceExceedsTheTimeBudget() {
+        when(botService.chooseCard(any())).thenAnswer(invocation -> sleepAndReturn(CardToPlay.of(TrucoCard.of(CardRank.THREE, CardSuit.HEARTS))));
+        assertThat(timeouts.recordDuring(() -> sut.chooseCard(intel)))
+                .isEqualTo(CardToPlay.of(TrucoCard.of(CardRank.FOUR, CardSuit.SPADES)));
+        assertThat(timeouts.of(botName)).isOne();
+    }
+
+    @Test
+    @DisplayName("Should quit if raise response exceeds the time budget")
+    void shouldQuitIfRaiseResponseExceedsTheTimeBudget() {
+        when(botService.getRaiseResponse(any())).thenAnswer(invocation -> sleepAndReturn(1));
+        assertThat(sut.getRaiseResponse(intel)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should refuse mao de onze and not raise if decisions exceed the time budget")
+    void shouldRefuseMaoDeOnzeAndNotRaiseIfDecisionsExceedTheTimeBudget() {
+        when(botService.getMaoDeOnzeResponse(any())).thenAnswer(invocation -> sleepAndReturn(true));
+        when(botService.decideIfRaises(any())).thenAnswer(invocation -> sleepAndReturn(true));
+        assertThat(timeouts.recordDuring(() -> sut.getMaoDeOnzeResponse(intel))).isFalse();
+        assertThat(timeouts.recordDuring(() -> sut.decideIfRaises(intel))).isFalse();
+        assertThat(timeouts.of(botName)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count timeouts only in the run that recorded them")
+    void shouldCountTimeoutsOnlyInTheRunThatRecordedThem() {
+        when(botService.decideIfRaises(any())).thenAnswer(invocation -> sleepAndReturn(true));
+        when(botService.getRaiseResponse(any())).thenReturn(1);
+        final DecisionTimeouts otherRun = new DecisionTimeouts();
+        timeouts.recordDuring(() -> sut.decideIfRaises(intel));
+        otherRun.recordDuring(() -> sut.getRaiseResponse(intel));
+        sut.decideIfRaises(intel);
+        assertThat(timeouts.of(botName)).isOne();
+        assertThat(otherRun.of(botName)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fall back at once if every decision thread is still busy")
+    void shouldFallBackAtOnceIfEveryDecisionThreadIsStillBusy() {
+        final CountDownLatch release = new CountDownLatch(1);
+        sut = new BotDecisionWatchdog(botService, 50, BotDecisionWatchdog.boundedExecutor(1));
+        when(botService.decideIfRaises(any())).thenAnswer(invocation -> awaitIgnoringInterrupts(release, true));
+        try {
+            timeouts.recordDuring(() -> sut.decideIfRaises(intel));
+            final long start = System.nanoTime();
+            assertThat(timeouts.recordDuring(() -> sut.getRaiseResponse(intel))).isEqualTo(-1);
+            assertThat(System.nanoTime() - start).isLessThan(50_000_000L);
+            assertThat(timeouts.of(botName)).isEqualTo(2);
+            verify(botService, never()).getRaiseResponse(any());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should propagate exception thrown by bot")
+    void shouldPropagateExceptionThrownByBot() {
+        when(botService.decideIfRaises(any())).thenThrow(new IllegalArgumentException("bot failure"));
+        assertThatThrownBy(() -> sut.decideIfRaises(intel)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should guard decisions of recorded runs by default and others only when configured")
+    void shouldGuardDecisionsOfRecordedRunsByDefaultAndOthersOnlyWhenConfigured() {
+        assertThat(BotDecisionWatchdog.guard(botService)).isSameAs(botService);
+        assertThat(timeouts.recordDuring(() -> BotDecisionWatchdog.guard(botService)))
+                .isInstanceOf(BotDecisionWatchdog.class);
+
+        System.setProperty(BotDecisionWatchdog.SIMULATION_TIME_BUDGET_PROPERTY, "0");
+        System.setProperty(BotDecisionWatchdog.TIME_BUDGET_PROPERTY, "100");
+        try {
+            assertThat(timeouts.recordDuring(() -> BotDecisionWatchdog.guard(botService))).isSameAs(botService);
+            assertThat(BotDecisionWatchdog.guard(botService)).isInstanceOf(BotDecisionWatchdog.class);
+        } finally {
+            System.clearProperty(BotDecisionWatchdog.SIMULATION_TIME_BUDGET_PROPERTY);
+            System.clearProperty(BotDecisionWatchdog.TIME_BUDGET_PROPERTY);
+        }
+    }
+
+    private static <T> T sleepAndReturn(T value) throws InterruptedException {
+        Thread.sleep(5_000);
+        return value;
+    }
+
+    private static <T> T awaitIgnoringInterrupts(CountDownLatch latch, T value) {
+        while (latch.getCount() > 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException ignored) {
+            }
+        }
+        return value;
+    }
+}
@@ -40,6 +40,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Set;
 import java.util.UUID;
 
+import static com.bueno.domain.entities.intel.PossibleAction.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -67,7 +68,7 @@ class CardPlayingHandlerTest {
     @Test
     @DisplayName("Should not handle if can not play")
     void shouldNotHandleIfCanNotPlay() {
-        when(intel.possibleActions()).thenReturn(Set.of("RAISE"));
+        when(intel.possibleActions()).thenReturn(Set.of(RAISE));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
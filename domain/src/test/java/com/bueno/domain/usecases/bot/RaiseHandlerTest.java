@@ -36,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Set;
 import java.util.UUID;
 
+import static com.bueno.domain.entities.intel.PossibleAction.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -63,14 +64,14 @@ class RaiseHandlerTest {
     @Test
     @DisplayName("Should not handle if can not raise")
     void shouldNotHandleIfCanNotRaise() {
-        when(intel.possibleActions()).thenReturn(Set.of("PLAY"));
+        when(intel.possibleActions()).thenReturn(Set.of(PLAY));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
     @Test
     @DisplayName("Should not handle if is answering a raise request")
     void shouldNotHandleIfIsAnsweringARaiseRequest() {
-        when(intel.possibleActions()).thenReturn(Set.of("PLAY", "ACCEPT", "QUIT"));
+        when(intel.possibleActions()).thenReturn(Set.of(PLAY, ACCEPT, QUIT));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
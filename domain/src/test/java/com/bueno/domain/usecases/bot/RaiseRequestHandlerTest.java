@@ -36,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Set;
 import java.util.UUID;
 
+import static com.bueno.domain.entities.intel.PossibleAction.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -63,7 +64,7 @@ class RaiseRequestHandlerTest {
     @Test
     @DisplayName("Should quit if bot service implementation is answering to quit and quit is allowed")
     void shouldQuitIfBotServiceImplementationIsAnsweringToQuitAndQuitIsAllowed() {
-        when(intel.possibleActions()).thenReturn(Set.of("QUIT"));
+        when(intel.possibleActions()).thenReturn(Set.of(QUIT));
         when(botService.getRaiseResponse(any())).thenReturn(-1);
         sut.handle(intel, bot);
         verify(scoreUseCase, times(1)).quit(bot.getUuid());
@@ -74,7 +75,7 @@ class RaiseRequestHandlerTest {
     @Test
     @DisplayName("Should accept if bot service implementation is answering to accept and accept is allowed")
     void shouldAcceptIfBotServiceImplementationIsAnsweringToAcceptAndAcceptIsAllowed() {
-        when(intel.possibleActions()).thenReturn(Set.of("ACCEPT"));
+        when(intel.possibleActions()).thenReturn(Set.of(ACCEPT));
         when(botService.getRaiseResponse(any())).thenReturn(0);
         sut.handle(intel, bot);
         verify(scoreUseCase, times(0)).quit(bot.getUuid());
@@ -85,7 +86,7 @@ class RaiseRequestHandlerTest {
     @Test
     @DisplayName("Should raise if bot service implementation is answering to raise and raise is allowed")
     void shouldRaiseIfBotServiceImplementationIsAnsweringToRaiseAndRaiseIsAllowed() {
-        when(intel.possibleActions()).thenReturn(Set.of("RAISE"));
+        when(intel.possibleActions()).thenReturn(Set.of(RAISE));
         when(botService.getRaiseResponse(any())).thenReturn(1);
         sut.handle(intel, bot);
         verify(scoreUseCase, times(0)).quit(bot.getUuid());
@@ -104,7 +105,7 @@ class RaiseRequestHandlerTest {
     @Test
     @DisplayName("Should not handle if should play")
     void shouldNotHandleIfShouldPlay() {
-        when(intel.possibleActions()).thenReturn(Set.of("PLAY"));
+        when(intel.possibleActions()).thenReturn(Set.of(PLAY));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
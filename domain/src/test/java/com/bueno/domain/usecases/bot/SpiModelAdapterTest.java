@@ -31,6 +31,7 @@ import com.bueno.spi.model.CardSuit;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.GameIntel.RoundResult;
 import com.bueno.spi.model.TrucoCard;
+import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static com.bueno.spi.model.GameIntel.RoundResult.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -92,4 +94,18 @@ class SpiModelAdapterTest {
         TrucoCard trucoCard = TrucoCard.of(CardRank.ACE, CardSuit.CLUBS);
         assertThat(SpiModelAdapter.toCard(trucoCard)).isEqualTo(Card.of(Rank.ACE, Suit.CLUBS));
     }
+
+    @Test
+    @DisplayName("Should convert every card to the truco card of same rank and suit and back")
+    void shouldConvertEveryCardToTheTrucoCardOfSameRankAndSuitAndBack() {
+        final List<Card> cards = IntStream.range(0, Card.ORDINALS).mapToObj(Card::ofOrdinal).toList();
+        final List<TrucoCard> trucoCards = SpiModelAdapter.toTrucoCards(cards);
+        final SoftAssertions softly = new SoftAssertions();
+        for (int i = 0; i < cards.size(); i++) {
+            softly.assertThat(trucoCards.get(i).getRank().toString()).isEqualTo(cards.get(i).getRank().toString());
+            softly.assertThat(trucoCards.get(i).getSuit().toString()).isEqualTo(cards.get(i).getSuit().toString());
+        }
+        softly.assertThat(SpiModelAdapter.toCards(trucoCards)).isEqualTo(cards);
+        softly.assertAll();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.repos.GameArchive;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.usecase.RemoveGameUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RemoveGameUseCaseTest {
+
+    @Mock private GameRepository gameRepo;
+    @Mock private GameResultRepository gameResultRepo;
+    @Mock private GameArchive gameArchive;
+
+    private UUID userUuid;
+    private GameDto game;
+
+    @BeforeEach
+    void setUp() {
+        userUuid = UUID.randomUUID();
+        game = GameConverter.toDto(new Game(Player.of(userUuid, "User"), Player.ofBot("DummyBot")));
+        when(gameRepo.findByPlayerUuid(userUuid)).thenReturn(Optional.of(game));
+    }
+
+    @Test
+    @DisplayName("Should archive the game with its complete history before removing it")
+    void shouldArchiveTheGameWithItsCompleteHistoryBeforeRemovingIt() {
+        when(gameRepo.completeHistoryOf(game)).thenReturn(game);
+        final var sut = new RemoveGameUseCase(gameRepo, gameResultRepo, gameArchive);
+
+        sut.byUserUuid(userUuid);
+
+        final InOrder inOrder = inOrder(gameRepo, gameArchive);
+        inOrder.verify(gameRepo).completeHistoryOf(game);
+        inOrder.verify(gameArchive).archive(game);
+        inOrder.verify(gameRepo).delete(game.gameUuid());
+        verify(gameResultRepo).save(any());
+    }
+
+    @Test
+    @DisplayName("Should remove the game if no archive is available")
+    void shouldRemoveTheGameIfNoArchiveIsAvailable() {
+        final var sut = new RemoveGameUseCase(gameRepo, gameResultRepo);
+
+        assertThatNoException().isThrownBy(() -> sut.byUserUuid(userUuid));
+        verify(gameRepo).delete(game.gameUuid());
+        verifyNoInteractions(gameArchive);
+    }
+
+    @Test
+    @DisplayName("Should remove the game even if archiving it fails")
+    void shouldRemoveTheGameEvenIfArchivingItFails() {
+        when(gameRepo.completeHistoryOf(game)).thenReturn(game);
+        doThrow(new UncheckedIOException(new IOException("Disk full"))).when(gameArchive).archive(game);
+        final var sut = new RemoveGameUseCase(gameRepo, gameResultRepo, gameArchive);
+
+        assertThatNoException().isThrownBy(() -> sut.byUserUuid(userUuid));
+        verify(gameRepo).delete(game.gameUuid());
+        verify(gameResultRepo).save(any());
+    }
+
+    @Test
+    @DisplayName("Should keep removing inactive games after one of them fails")
+    void shouldKeepRemovingInactiveGamesAfterOneOfThemFails() {
+        final UUID otherUserUuid = UUID.randomUUID();
+        final GameDto other = GameConverter.toDto(new Game(Player.of(otherUserUuid, "Other"), Player.ofBot("DummyBot")));
+        final UUID inactiveUser = game.hands().get(0).currentPlayer().uuid();
+        final UUID otherInactiveUser = other.hands().get(0).currentPlayer().uuid();
+        when(gameRepo.findAllInactiveAfter(5)).thenReturn(List.of(game, other));
+        lenient().when(gameRepo.findByPlayerUuid(inactiveUser)).thenReturn(Optional.of(game));
+        lenient().when(gameRepo.findByPlayerUuid(otherInactiveUser)).thenReturn(Optional.of(other));
+        doThrow(new IllegalStateException("Delete failed")).when(gameRepo).delete(game.gameUuid());
+        final var sut = new RemoveGameUseCase(gameRepo, gameResultRepo);
+
+        assertThat(sut.byInactivityAfter(5)).containsExactly(otherInactiveUser);
+        verify(gameRepo).delete(other.gameUuid());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.converter;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.converter.HandConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameConverterTest {
+
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game(Player.ofBot("Bot1"), Player.ofBot("Bot2"));
+        finishCurrentHand();
+        finishCurrentHand();
+    }
+
+    private void finishCurrentHand() {
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        hand.raise(player);
+        hand.quit(hand.getOpponentOf(player));
+        game.updateScores();
+        game.prepareNewHand();
+    }
+
+    @Test
+    @DisplayName("Should reuse dtos of finished hands")
+    void shouldReuseDtosOfFinishedHands() {
+        final GameDto first = GameConverter.toDto(game);
+        final GameDto second = GameConverter.toDto(game);
+        assertThat(second.hands().get(0)).isSameAs(first.hands().get(0));
+        assertThat(second.hands().get(1)).isSameAs(first.hands().get(1));
+        assertThat(second.hands().get(2)).isNotSameAs(first.hands().get(2)).isEqualTo(first.hands().get(2));
+        assertThat(GameConverter.cachedHandsOf(game.getUuid())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not share finished hands between converted games")
+    void shouldNotShareFinishedHandsBetweenConvertedGames() {
+        final GameDto dto = GameConverter.toDto(game);
+        final Game restored = GameConverter.fromDto(dto);
+        assertThat(restored.getHands().get(0)).isNotSameAs(game.getHands().get(0));
+        assertThat(restored.getHands().get(2)).isNotSameAs(game.currentHand());
+        assertThat(restored.getPlayer1().getScore()).isEqualTo(game.getPlayer1().getScore());
+    }
+
+    @Test
+    @DisplayName("Should reuse dtos of finished hands of a game loaded from dto")
+    void shouldReuseDtosOfFinishedHandsOfAGameLoadedFromDto() {
+        final GameDto dto = GameConverter.toDto(game);
+        final Game restored = GameConverter.fromDto(dto);
+        final GameDto saved = GameConverter.toDto(restored);
+        assertThat(saved.hands().get(0)).isSameAs(dto.hands().get(0));
+        assertThat(saved.hands().get(1)).isSameAs(dto.hands().get(1));
+    }
+
+    @Test
+    @DisplayName("Should keep the cache bounded when reloading equal dtos")
+    void shouldKeepTheCacheBoundedWhenReloadingEqualDtos() {
+        final GameDto dto = GameConverter.toDto(game);
+        for (int i = 0; i < 100; i++) {
+            final GameDto copy = new GameDto(dto.gameUuid(), dto.timestamp(), dto.player1(), dto.player2(),
+                    dto.firstToPlay(), dto.lastToPlay(), game.getHands().stream().map(HandConverter::toDto).toList(),
+                    dto.lastIntel());
+            GameConverter.toDto(GameConverter.fromDto(copy));
+        }
+        assertThat(GameConverter.cachedHandsOf(game.getUuid())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should convert the current hand on every round-trip")
+    void shouldConvertTheCurrentHandOnEveryRoundTrip() {
+        final Game restored = GameConverter.fromDto(GameConverter.toDto(game));
+        final Hand hand = restored.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        hand.playFirstCard(player, player.play(player.getCards().get(0)));
+
+        final GameDto dto = GameConverter.toDto(restored);
+        assertThat(dto.hands()).hasSize(3);
+        assertThat(dto.hands().get(2).cartToPlayAgainst()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should rebind finished hands to the players of a game loaded again")
+    void shouldRebindFinishedHandsToThePlayersOfAGameLoadedAgain() {
+        final GameDto dto = GameConverter.toDto(game);
+        final Game loaded = GameConverter.fromDto(dto);
+        final Game reloaded = GameConverter.fromDto(dto);
+        final Hand hand = reloaded.getHands().get(0);
+
+        assertThat(hand).isNotSameAs(loaded.getHands().get(0));
+        assertThat(hand.getLastIntel()).isSameAs(loaded.getHands().get(0).getLastIntel());
+        assertThat(List.of(hand.getFirstToPlay(), hand.getLastToPlay()))
+                .anyMatch(player -> player == reloaded.getPlayer1())
+                .anyMatch(player -> player == reloaded.getPlayer2());
+        assertThat(GameConverter.toDto(reloaded).hands().get(0)).isSameAs(dto.hands().get(0));
+    }
+
+    @Test
+    @DisplayName("Should drop the cached hands of an evicted game")
+    void shouldDropTheCachedHandsOfAnEvictedGame() {
+        GameConverter.toDto(game);
+        GameConverter.evict(game.getUuid());
+        assertThat(GameConverter.cachedHandsOf(game.getUuid())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not cache the hands of a finished game")
+    void shouldNotCacheTheHandsOfAFinishedGame() {
+        game.getPlayer1().addScore(HandPoints.TWELVE);
+        GameConverter.toDto(game);
+        assertThat(GameConverter.cachedHandsOf(game.getUuid())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the hands of games converted with a scoped cache out of the shared one")
+    void shouldKeepTheHandsOfGamesConvertedWithAScopedCacheOutOfTheSharedOne() {
+        final GameDto[] dtos = GameConverter.withScopedCache(() ->
+                new GameDto[]{GameConverter.toDto(game), GameConverter.toDto(game)});
+        assertThat(dtos[1].hands().get(0)).isSameAs(dtos[0].hands().get(0));
+        assertThat(GameConverter.cachedHandsOf(game.getUuid())).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.hand;
+
+import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportHandResultsUseCaseTest {
+
+    @Mock HandResultRepository repo;
+    @InjectMocks ExportHandResultsUseCase sut;
+
+    @Test
+    @DisplayName("Should throw if injected repository is null")
+    void shouldThrowIfInjectedRepositoryIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> new ExportHandResultsUseCase(null));
+    }
+
+    @Test
+    @DisplayName("Should throw if first month is after the last month")
+    void shouldThrowIfFirstMonthIsAfterTheLastMonth() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                sut.exportAsCsv(YearMonth.of(2023, 2), YearMonth.of(2023, 1), new StringBuilder()));
+    }
+
+    @Test
+    @DisplayName("Should export one csv line per hand result after the header")
+    @SuppressWarnings("unchecked")
+    void shouldExportOneCsvLinePerHandResultAfterTheHeader() {
+        final UUID game = UUID.randomUUID();
+        final UUID winner = UUID.randomUUID();
+        final Instant createdAt = Instant.parse("2023-01-10T10:15:30Z");
+        final var result = new HandResultDto(7, "USER_BOT", game, winner, 3, 0,
+                List.of(winner, winner), List.of("4C", "AS", "3H", "KD", "2C"), createdAt);
+        final YearMonth month = YearMonth.of(2023, 1);
+        when(repo.exportCreatedBetween(eq(month), eq(month), any())).thenAnswer(invocation -> {
+            invocation.getArgument(2, Consumer.class).accept(result);
+            return 1L;
+        });
+
+        final StringBuilder output = new StringBuilder();
+        assertThat(sut.exportAsCsv(month, month, output)).isEqualTo(1);
+        assertThat(output.toString().split("\n")).containsExactly(ExportHandResultsUseCase.HEADER,
+                "7,2023-01-10T10:15:30Z,USER_BOT," + game + "," + winner + ",3,0,2," + winner + "," + winner + ",,4C,AS,3H,KD,2C,,");
+    }
+
+    @Test
+    @DisplayName("Should keep round winners in place when a round is drawn")
+    @SuppressWarnings("unchecked")
+    void shouldKeepRoundWinnersInPlaceWhenARoundIsDrawn() {
+        final UUID winner = UUID.randomUUID();
+        final var result = new HandResultDto(8, "USER_BOT", UUID.randomUUID(), winner, 1, 0,
+                Arrays.asList(null, winner), List.of("4C", "AS", "AH", "KD", "2C"), Instant.parse("2023-01-10T10:15:30Z"));
+        final YearMonth month = YearMonth.of(2023, 1);
+        when(repo.exportCreatedBetween(eq(month), eq(month), any())).thenAnswer(invocation -> {
+            invocation.getArgument(2, Consumer.class).accept(result);
+            return 1L;
+        });
+
+        final StringBuilder output = new StringBuilder();
+        sut.exportAsCsv(month, month, output);
+        assertThat(output.toString().split("\n")[1]).contains(",1,0,2,," + winner + ",,4C,");
+    }
+
+    @Test
+    @DisplayName("Should remove hand results created before the given month")
+    void shouldRemoveHandResultsCreatedBeforeTheGivenMonth() {
+        final YearMonth month = YearMonth.of(2023, 1);
+        when(repo.deleteCreatedBefore(month)).thenReturn(5L);
+        assertThat(sut.removeCreatedBefore(month)).isEqualTo(5);
+        verify(repo).deleteCreatedBefore(month);
+    }
+}
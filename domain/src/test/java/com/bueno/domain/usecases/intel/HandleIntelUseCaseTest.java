@@ -122,6 +122,30 @@ class HandleIntelUseCaseTest {
         assertThat(ownedCards).isEqualTo(cards);
     }
 
+    @Test
+    @DisplayName("Should get the last intel of the game the player is in")
+    void shouldGetTheLastIntelOfTheGameThePlayerIsIn() {
+        repo.save(GameConverter.toDto(game));
+        assertThat(sut.findLastIntel(p1Uuid)).isEqualTo(IntelConverter.toDto(game.getIntel()));
+    }
+
+    @Test
+    @DisplayName("Should throw if player requesting turn is not playing a game")
+    void shouldThrowIfPlayerRequestingTurnIsNotPlayingAGame() {
+        assertThatExceptionOfType(GameNotFoundException.class)
+                .isThrownBy(() -> sut.isPlayerTurn(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Should only be the turn of the current player")
+    void shouldOnlyBeTheTurnOfTheCurrentPlayer() {
+        repo.save(GameConverter.toDto(game));
+        final UUID currentPlayer = game.getIntel().currentPlayerUuid().orElseThrow();
+        final UUID otherPlayer = currentPlayer.equals(p1Uuid) ? player2.getUuid() : p1Uuid;
+        assertThat(sut.isPlayerTurn(currentPlayer).isPlayerTurn()).isTrue();
+        assertThat(sut.isPlayerTurn(otherPlayer).isPlayerTurn()).isFalse();
+    }
+
     @Test
     @DisplayName("Should correctly get intel history if invariants are met")
     void shouldCorrectlyGetIntelHistoryIfInvariantsAreMet() {
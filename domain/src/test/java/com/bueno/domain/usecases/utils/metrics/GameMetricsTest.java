@@ -0,0 +1,124 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.utils.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    @DisplayName("Should record use case timer tagged by use case and operation")
+    void shouldRecordUseCaseTimerTaggedByUseCaseAndOperation() {
+        final String result = GameMetrics.timeUseCase("PlayCardUseCase", "playCard", () -> "done");
+        final var timer = registry.find(GameMetrics.USE_CASE_TIMER)
+                .tags("usecase", "PlayCardUseCase", "operation", "playCard").timer();
+        assertThat(result).isEqualTo("done");
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record bot decision timer tagged by bot name and decision")
+    void shouldRecordBotDecisionTimerTaggedByBotNameAndDecision() {
+        GameMetrics.timeBotDecision("DummyBot", "chooseCard", () -> 1);
+        GameMetrics.timeBotDecision("DummyBot", "chooseCard", () -> 2);
+        final var timer = registry.find(GameMetrics.BOT_DECISION_TIMER)
+                .tags("bot", "DummyBot", "decision", "chooseCard").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should tag unknown when bot name is not available")
+    void shouldTagUnknownWhenBotNameIsNotAvailable() {
+        GameMetrics.timeBotDecision(null, "decideIfRaises", () -> false);
+        assertThat(registry.find(GameMetrics.BOT_DECISION_TIMER).tags("bot", "unknown").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should record repository operations")
+    void shouldRecordRepositoryOperations() {
+        GameMetrics.timeRepository("GameRepository", "delete", () -> {});
+        final var timer = registry.find(GameMetrics.REPOSITORY_TIMER)
+                .tags("repository", "GameRepository", "operation", "delete").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should expose active games gauge")
+    void shouldExposeActiveGamesGauge() {
+        final UUID gameUuid = UUID.randomUUID();
+        final int before = GameMetrics.activeGames();
+        GameMetrics.gameCreated(gameUuid);
+        assertThat(registry.find(GameMetrics.ACTIVE_GAMES_GAUGE).gauge().value()).isEqualTo(before + 1);
+        GameMetrics.gameEnded(gameUuid);
+        assertThat(registry.find(GameMetrics.ACTIVE_GAMES_GAUGE).gauge().value()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should count a game as ended only once")
+    void shouldCountAGameAsEndedOnlyOnce() {
+        final UUID gameUuid = UUID.randomUUID();
+        final UUID otherUuid = UUID.randomUUID();
+        GameMetrics.gameCreated(gameUuid);
+        GameMetrics.gameCreated(otherUuid);
+        final int before = GameMetrics.activeGames();
+        GameMetrics.gameEnded(gameUuid);
+        GameMetrics.gameEnded(gameUuid);
+        GameMetrics.gameEnded(UUID.randomUUID());
+        assertThat(GameMetrics.activeGames()).isEqualTo(before - 1);
+        GameMetrics.gameEnded(otherUuid);
+    }
+
+    @Test
+    @DisplayName("Should reuse registered timers")
+    void shouldReuseRegisteredTimers() {
+        GameMetrics.timeRepository("UserRepository", "save", () -> {});
+        final int meters = registry.getMeters().size();
+        GameMetrics.timeRepository("UserRepository", "save", () -> {});
+        assertThat(registry.getMeters()).hasSize(meters);
+        assertThat(registry.find(GameMetrics.REPOSITORY_TIMER)
+                .tags("repository", "UserRepository", "operation", "save").timer().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.codec;
+
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.RoundDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * <p>Compact binary encoding of games. {@link #encodeHands} encodes the hands of an active game, used instead of the
+ * {@code HandEntity} layout when binary state is enabled; like that layout, only the last intel of each hand history
+ * is kept. {@link #encodeGame} encodes a whole game, including the complete hand histories.</p>
+ *
+ * <p>Cards are encoded as single bytes, players of the game as 0 or 1, integers as varints and strings (usernames,
+ * events and states) as indexes of a string table written before the hands. Player UUIDs that are not from the game
+ * players are written in full, so decoding an encoded hand always restores the original values.</p>
+ */
+public final class GameStateCodec {
+
+    private static final int VERSION = 1;
+    private static final String RANKS = "A234567QJKX";
+    private static final String SUITS = "DCHSX";
+    private static final PossibleAction[] ACTIONS = PossibleAction.values();
+
+    private static final int NULL_REF = 2;
+    private static final int UUID_REF = 3;
+
+    private GameStateCodec() {
+    }
+
+    public static byte[] encodeHands(List<HandDto> hands, PlayerDto player1, PlayerDto player2) {
+        final Writer writer = new Writer(player1.uuid(), player2.uuid(), false);
+        writer.hands(hands);
+        return writer.toByteArray();
+    }
+
+    public static List<HandDto> decodeHands(byte[] data, PlayerDto player1, PlayerDto player2) {
+        final Reader reader = new Reader(data);
+        reader.player1 = player1;
+        reader.player2 = player2;
+        return reader.hands();
+    }
+
+    public static byte[] encodeGame(GameDto game) {
+        final Writer writer = new Writer(game.player1().uuid(), game.player2().uuid(), true);
+        writer.fixedUuid(game.gameUuid());
+        writer.varint(game.timestamp().toEpochSecond(ZoneOffset.UTC));
+        writer.varint(game.timestamp().getNano());
+        writer.playerState(game.player1());
+        writer.playerState(game.player2());
+        writer.player(game.firstToPlay());
+        writer.player(game.lastToPlay());
+        writer.hands(game.hands());
+        writer.varint(game.lastIntel() == null ? 0 : 1);
+        if (game.lastIntel() != null) writer.intel(game.lastIntel());
+        return writer.toByteArray();
+    }
+
+    public static GameDto decodeGame(byte[] data) {
+        final Reader reader = new Reader(data);
+        final UUID gameUuid = reader.fixedUuid();
+        final LocalDateTime timestamp = LocalDateTime.ofEpochSecond(reader.varlong(), reader.varint(), ZoneOffset.UTC);
+        reader.player1 = reader.playerState();
+        reader.player2 = reader.playerState();
+        final PlayerDto firstToPlay = reader.player();
+        final PlayerDto lastToPlay = reader.player();
+        final List<HandDto> hands = reader.hands();
+        final IntelDto lastIntel = reader.varint() == 0 ? null : reader.intel();
+        return new GameDto(gameUuid, timestamp, reader.player1, reader.player2, firstToPlay, lastToPlay, hands, lastIntel);
+    }
+
+    private static final class Writer {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+        private final Map<String, Integer> stringTable = new LinkedHashMap<>();
+        private final UUID player1;
+        private final UUID player2;
+        private final boolean fullHistory;
+
+        private Writer(UUID player1, UUID player2, boolean fullHistory) {
+            this.player1 = player1;
+            this.player2 = player2;
+            this.fullHistory = fullHistory;
+        }
+
+        private void hands(List<HandDto> hands) {
+            varint(hands.size());
+            for (HandDto hand : hands) hand(hand);
+        }
+
+        private void hand(HandDto hand) {
+            card(hand.vira());
+            cards(hand.dealtCards());
+            cards(hand.openCards());
+            varint(hand.roundsPlayed().size());
+            for (RoundDto round : hand.roundsPlayed()) {
+                player(round.firstToPlay());
+                player(round.lastToPlay());
+                player(round.winner());
+                card(round.vira());
+                card(round.firstCard());
+                card(round.lastCard());
+            }
+            final List<IntelDto> history = hand.history();
+            final int first = fullHistory ? 0 : Math.max(0, history.size() - 1);
+            varint(history.size() - first);
+            for (int i = first; i < history.size(); i++) intel(history.get(i));
+            actions(hand.possibleActions());
+            player(hand.firstToPlay());
+            player(hand.lastToPlay());
+            player(hand.currentPlayer());
+            player(hand.lastBetRaiser());
+            player(hand.eventPlayer());
+            card(hand.cartToPlayAgainst());
+            varint(zigZag(hand.points()));
+            varint(zigZag(hand.pointsProposal()));
+            player(hand.winner());
+            string(hand.state());
+        }
+
+        private void intel(IntelDto intel) {
+            varint(intel.timestamp().getEpochSecond());
+            varint(intel.timestamp().getNano());
+            body.write((intel.isGameDone() ? 1 : 0) | (intel.isMaoDeOnze() ? 2 : 0));
+            uuid(intel.gameWinner());
+            nullableInt(intel.handPoints());
+            nullableInt(intel.handPointsProposal());
+            varint(intel.roundWinnersUsernames().size());
+            intel.roundWinnersUsernames().forEach(username -> string(username.orElse(null)));
+            varint(intel.roundWinnersUuid().size());
+            intel.roundWinnersUuid().forEach(uuid -> uuid(uuid.orElse(null)));
+            varint(intel.roundsPlayed());
+            card(intel.vira());
+            cards(intel.openCards());
+            string(intel.handWinner());
+            uuid(intel.currentPlayerUuid());
+            varint(zigZag(intel.currentPlayerScore()));
+            string(intel.currentPlayerUsername());
+            varint(zigZag(intel.currentOpponentScore()));
+            string(intel.currentOpponentUsername());
+            card(intel.cardToPlayAgainst());
+            varint(intel.players().size());
+            for (PlayerDto player : intel.players()) {
+                string(player.username());
+                uuid(player.uuid());
+                playerScoreAndCards(player);
+            }
+            string(intel.event());
+            uuid(intel.eventPlayerUuid());
+            string(intel.eventPlayerUsername());
+            actions(intel.possibleActions());
+        }
+
+        private void playerState(PlayerDto player) {
+            string(player.username());
+            fixedUuid(player.uuid());
+            playerScoreAndCards(player);
+        }
+
+        private void playerScoreAndCards(PlayerDto player) {
+            varint(zigZag(player.score()));
+            body.write(player.isBot() ? 1 : 0);
+            cards(player.cards());
+        }
+
+        private void player(PlayerDto player) {
+            if (player == null) body.write(NULL_REF);
+            else if (player.uuid().equals(player1)) body.write(0);
+            else if (player.uuid().equals(player2)) body.write(1);
+            else throw new IllegalArgumentException("Player is not part of the game: " + player.uuid());
+        }
+
+        private void uuid(UUID uuid) {
+            if (uuid == null) body.write(NULL_REF);
+            else if (uuid.equals(player1)) body.write(0);
+            else if (uuid.equals(player2)) body.write(1);
+            else {
+                body.write(UUID_REF);
+                fixedUuid(uuid);
+            }
+        }
+
+        private void fixedUuid(UUID uuid) {
+            fixedLong(uuid.getMostSignificantBits());
+            fixedLong(uuid.getLeastSignificantBits());
+        }
+
+        private void cards(List<CardDto> cards) {
+            varint(cards.size());
+            for (CardDto card : cards) card(card);
+        }
+
+        private void card(CardDto card) {
+            body.write(card == null ? 0 : 1 + indexOf(RANKS, card.rank()) * SUITS.length() + indexOf(SUITS, card.suit()));
+        }
+
+        private static int indexOf(String symbols, String symbol) {
+            final int index = symbol == null || symbol.length() != 1 ? -1 : symbols.indexOf(symbol);
+            if (index < 0) throw new IllegalArgumentException("Can not encode card symbol: " + symbol);
+            return index;
+        }
+
+        private void actions(Set<PossibleAction> actions) {
+            if (actions == null) {
+                varint(0);
+                return;
+            }
+            int mask = 0;
+            for (PossibleAction action : actions) mask |= 1 << action.ordinal();
+            varint(mask + 1L);
+        }
+
+        private void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            varint(stringTable.computeIfAbsent(value, unused -> stringTable.size()) + 1L);
+        }
+
+        private void nullableInt(Integer value) {
+            varint(value == null ? 0 : zigZag(value) + 1L);
+        }
+
+        private void fixedLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) body.write((int) (value >>> shift));
+        }
+
+        private void varint(long value) {
+            varint(body, value);
+        }
+
+        private byte[] toByteArray() {
+            final ByteArrayOutputStream result = new ByteArrayOutputStream(body.size() + 16 * stringTable.size() + 4);
+            result.write(VERSION);
+            varint(result, stringTable.size());
+            for (String value : stringTable.keySet()) {
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                varint(result, bytes.length);
+                result.writeBytes(bytes);
+            }
+            result.writeBytes(body.toByteArray());
+            return result.toByteArray();
+        }
+
+        private static void varint(ByteArrayOutputStream out, long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private static long zigZag(int value) {
+            return (value << 1 ^ value >> 31) & 0xFFFFFFFFL;
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private final String[] stringTable;
+        private PlayerDto player1;
+        private PlayerDto player2;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+            final int version = data[position++];
+            if (version != VERSION) throw new IllegalArgumentException("Unsupported game state version: " + version);
+            stringTable = new String[varint()];
+            for (int i = 0; i < stringTable.length; i++) {
+                final int length = varint();
+                stringTable[i] = new String(data, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+        }
+
+        private List<HandDto> hands() {
+            final int size = varint();
+            final List<HandDto> hands = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) hands.add(hand());
+            return hands;
+        }
+
+        private HandDto hand() {
+            final CardDto vira = card();
+            final List<CardDto> dealtCards = cards();
+            final List<CardDto> openCards = cards();
+            final int roundCount = varint();
+            final List<RoundDto> rounds = new ArrayList<>(roundCount);
+            for (int i = 0; i < roundCount; i++)
+                rounds.add(new RoundDto(player(), player(), player(), card(), card(), card()));
+            final int historySize = varint();
+            final List<IntelDto> history = new ArrayList<>(historySize);
+            for (int i = 0; i < historySize; i++) history.add(intel());
+            return new HandDto(vira, dealtCards, openCards, rounds, history, actions(),
+                    player(), player(), player(), player(), player(),
+                    card(), unZigZag(varint()), unZigZag(varint()), player(), string());
+        }
+
+        private IntelDto intel() {
+            final Instant timestamp = Instant.ofEpochSecond(varlong(), varint());
+            final int flags = data[position++];
+            final UUID gameWinner = uuid();
+            final Integer handPoints = nullableInt();
+            final Integer handPointsProposal = nullableInt();
+            final int usernameCount = varint();
+            final List<Optional<String>> roundWinnersUsernames = new ArrayList<>(usernameCount);
+            for (int i = 0; i < usernameCount; i++) roundWinnersUsernames.add(Optional.ofNullable(string()));
+            final int uuidCount = varint();
+            final List<Optional<UUID>> roundWinnersUuid = new ArrayList<>(uuidCount);
+            for (int i = 0; i < uuidCount; i++) roundWinnersUuid.add(Optional.ofNullable(uuid()));
+            final int roundsPlayed = varint();
+            final CardDto vira = card();
+            final List<CardDto> openCards = cards();
+            final String handWinner = string();
+            final UUID currentPlayerUuid = uuid();
+            final int currentPlayerScore = unZigZag(varint());
+            final String currentPlayerUsername = string();
+            final int currentOpponentScore = unZigZag(varint());
+            final String currentOpponentUsername = string();
+            final CardDto cardToPlayAgainst = card();
+            final int playerCount = varint();
+            final List<PlayerDto> players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++)
+                players.add(new PlayerDto(string(), uuid(), unZigZag(varint()), data[position++] == 1, cards()));
+            return new IntelDto(timestamp, (flags & 1) != 0, gameWinner, (flags & 2) != 0, handPoints,
+                    handPointsProposal, roundWinnersUsernames, roundWinnersUuid, roundsPlayed, vira, openCards,
+                    handWinner, currentPlayerUuid, currentPlayerScore, currentPlayerUsername, currentOpponentScore,
+                    currentOpponentUsername, cardToPlayAgainst, players, string(), uuid(), string(), actions());
+        }
+
+        private PlayerDto playerState() {
+            return new PlayerDto(string(), fixedUuid(), unZigZag(varint()), data[position++] == 1, cards());
+        }
+
+        private PlayerDto player() {
+            final int ref = data[position++];
+            if (ref == NULL_REF) return null;
+            if (ref == 0) return player1;
+            if (ref == 1) return player2;
+            throw new IllegalArgumentException("Invalid player reference: " + ref);
+        }
+
+        private UUID uuid() {
+            final int ref = data[position++];
+            if (ref == NULL_REF) return null;
+            if (ref == 0) return player1.uuid();
+            if (ref == 1) return player2.uuid();
+            if (ref == UUID_REF) return fixedUuid();
+            throw new IllegalArgumentException("Invalid UUID reference: " + ref);
+        }
+
+        private UUID fixedUuid() {
+            return new UUID(fixedLong(), fixedLong());
+        }
+
+        private List<CardDto> cards() {
+            final int size = varint();
+            final List<CardDto> cards = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) cards.add(card());
+            return cards;
+        }
+
+        private CardDto card() {
+            final int code = (data[position++] & 0xFF) - 1;
+            if (code < 0) return null;
+            if (code >= RANKS.length() * SUITS.length()) throw new IllegalArgumentException("Invalid card code: " + code);
+            final int rank = code / SUITS.length();
+            final int suit = code % SUITS.length();
+            return new CardDto(RANKS.substring(rank, rank + 1), SUITS.substring(suit, suit + 1));
+        }
+
+        private Set<PossibleAction> actions() {
+            final int code = varint();
+            if (code == 0) return null;
+            final EnumSet<PossibleAction> actions = EnumSet.noneOf(PossibleAction.class);
+            for (PossibleAction action : ACTIONS)
+                if (((code - 1) & 1 << action.ordinal()) != 0) actions.add(action);
+            return actions;
+        }
+
+        private String string() {
+            final int index = varint();
+            return index == 0 ? null : stringTable[index - 1];
+        }
+
+        private Integer nullableInt() {
+            final long code = varlong();
+            return code == 0 ? null : unZigZag(code - 1);
+        }
+
+        private long fixedLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) value = value << 8 | data[position++] & 0xFF;
+            return value;
+        }
+
+        private int varint() {
+            return (int) varlong();
+        }
+
+        private long varlong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                final byte current = data[position++];
+                value |= (long) (current & 0x7F) << shift;
+                if (current >= 0) return value;
+            }
+        }
+
+        private static int unZigZag(long value) {
+            final int bits = (int) value;
+            return bits >>> 1 ^ -(bits & 1);
+        }
+    }
+}
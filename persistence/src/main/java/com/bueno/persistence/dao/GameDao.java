@@ -22,10 +22,24 @@ package com.bueno.persistence.dao;
 
 import com.bueno.persistence.dto.GameEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface GameDao extends MongoRepository<GameEntity, UUID> {
     Optional<GameEntity> findByPlayer1OrPlayer2(UUID player1, UUID player2);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'schemaVersion': 1, 'historyTimestamp': 1, 'eventSequence': 1 }")
+    Optional<GameEntity> findHistoryTimestampById(UUID id);
+
+    @Query(value = "{ $or: [ { 'player1': ?0 }, { 'player2': ?0 } ] }", fields = "{ 'schemaVersion': 1, 'currentPlayer': 1 }")
+    Optional<GameEntity> findCurrentPlayerByPlayer(UUID player);
+
+    @Query(value = "{ $or: [ { 'player1': ?0 }, { 'player2': ?0 } ] }", fields = "{ 'schemaVersion': 1, 'lastIntel': 1 }")
+    Optional<GameEntity> findLastIntelByPlayer(UUID player);
+
+    @Query(value = "{ $or: [ { 'player1': ?0 }, { 'player2': ?0 } ] }",
+            fields = "{ 'schemaVersion': 1, 'player1': 1, 'player1State.cards': 1, 'player2State.cards': 1 }")
+    Optional<GameEntity> findOwnedCardsByPlayer(UUID player);
 }
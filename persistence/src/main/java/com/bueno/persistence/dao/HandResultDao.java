@@ -22,9 +22,20 @@ package com.bueno.persistence.dao;
 
 import com.bueno.persistence.dto.HandResultEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public interface HandResultDao extends JpaRepository<HandResultEntity, Long> {
 
+    List<HandResultEntity> findTop1000ByMonthBucketBetweenAndIdGreaterThanOrderByIdAsc(int firstMonth, int lastMonth, long id);
+
+    @Modifying
+    @Transactional
+    @Query("delete from HandResultEntity result where result.monthBucket < ?1")
+    int deleteByMonthBucketLessThan(int month);
 }
@@ -22,13 +22,18 @@ package com.bueno.persistence.dto;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.persistence.codec.GameStateCodec;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.persistence.Id;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -40,27 +45,87 @@ import java.util.UUID;
 @Builder
 @Document
 public class GameEntity {
+    //Version 1 games (stored without version) keep their players in the PlayerEntity collection. From version 2 on,
+    //players are embedded in the game document, so a game is read and written with a single operation. Version 3
+    //adds the current player and the last intel as top level fields, so turn and intel queries can be projected.
+    //Version 4 moves the intel history to its own collection (see IntelEventEntity): hands only keep their last intel
+    //and historyTimestamp marks the last intel appended to the collection, whose sequence is eventSequence. In any
+    //version from 4 on, hands may be stored as encodedHands (see GameStateCodec) instead of the hands list.
+    public static final int SCHEMA_VERSION = 4;
+
     @Id
     private UUID id;
+    private int schemaVersion;
     private LocalDateTime timestamp;
+    @Indexed
     private UUID player1;
+    @Indexed
     private UUID player2;
+    private PlayerEntity player1State;
+    private PlayerEntity player2State;
+    private UUID currentPlayer;
+    private IntelEntity lastIntel;
+    private Instant historyTimestamp;
+    private long eventSequence;
     private UUID firstToPlay;
     private UUID lastToPlay;
     private List<HandEntity> hands;
+    private byte[] encodedHands;
 
     public static GameEntity from(GameDto dto){
+        return from(dto, false);
+    }
+
+    public static GameEntity from(GameDto dto, boolean encodeHands){
+        return from(dto, encodeHands, 0);
+    }
+
+    public static GameEntity from(GameDto dto, boolean encodeHands, long eventSequence){
+        final IntelDto lastIntel = GameRepository.lastIntelOf(dto);
         return GameEntity.builder()
                 .id(dto.gameUuid())
+                .schemaVersion(SCHEMA_VERSION)
                 .timestamp(dto.timestamp())
                 .player1(dto.player1().uuid())
                 .player2(dto.player2().uuid())
+                .player1State(PlayerEntity.from(dto.player1()))
+                .player2State(PlayerEntity.from(dto.player2()))
+                .currentPlayer(lastIntel.currentPlayerUuid())
+                .lastIntel(IntelEntity.from(lastIntel))
                 .firstToPlay(dto.firstToPlay().uuid())
                 .lastToPlay(dto.lastToPlay().uuid())
-                .hands(dto.hands().stream().map(HandEntity::from).toList())
+                .hands(encodeHands ? null : dto.hands().stream().map(HandEntity::liveStateFrom).toList())
+                .encodedHands(encodeHands ? GameStateCodec.encodeHands(dto.hands(), dto.player1(), dto.player2()) : null)
+                .historyTimestamp(historyTimestampOf(dto))
+                .eventSequence(eventSequence)
                 .build();
     }
 
+    private static Instant historyTimestampOf(GameDto dto){
+        if(dto.hands().isEmpty()) return null;
+        final List<IntelDto> history = dto.hands().get(dto.hands().size() - 1).history();
+        return history.isEmpty() ? null : history.get(history.size() - 1).timestamp();
+    }
+
+    public boolean hasEmbeddedPlayers(){
+        return schemaVersion >= 2 && player1State != null && player2State != null;
+    }
+
+    public boolean hasProjectedFields(){
+        return schemaVersion >= 3;
+    }
+
+    public boolean hasIntelCollection(){
+        return schemaVersion >= 4;
+    }
+
+    public GameDto toDto(){
+        if(!hasEmbeddedPlayers()) throw new IllegalStateException("Game " + id + " does not embed its players.");
+        final PlayerDto firstPlayer = player1State.toDto();
+        final PlayerDto secondPlayer = player2State.toDto();
+        return toDto(Map.of(firstPlayer.uuid(), firstPlayer, secondPlayer.uuid(), secondPlayer));
+    }
+
     public GameDto toDto(Map<UUID, PlayerDto> players){
         return new GameDto(
                 id,
@@ -69,7 +134,10 @@ public class GameEntity {
                 players.get(player2),
                 players.get(firstToPlay),
                 players.get(lastToPlay),
-                hands.stream().map(hand -> hand.toDto(players)).toList()
+                encodedHands != null
+                        ? GameStateCodec.decodeHands(encodedHands, players.get(player1), players.get(player2))
+                        : hands.stream().map(hand -> hand.toDto(players)).toList(),
+                hasProjectedFields() ? lastIntel.toDto() : null
         );
     }
 }
@@ -20,9 +20,11 @@
 
 package com.bueno.persistence.dto;
 
+import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.hand.dtos.HandDto;
 import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -44,7 +46,7 @@ public class HandEntity {
     private List<String> openCards;
     private List<RoundEntity> roundsPlayed;
     private List<IntelEntity> history;
-    private Set<String> possibleActions;
+    private Set<PossibleAction> possibleActions;
     private UUID firstToPlay;
     private UUID lastToPlay;
     private UUID currentPlayer;
@@ -57,10 +59,21 @@ public class HandEntity {
     private String state;
 
     public static HandEntity from(HandDto dto){
+        return from(dto, dto.history());
+    }
+
+    //The whole history is kept apart (see IntelEventEntity), so the game document only needs the intel describing
+    //the current state of the hand.
+    public static HandEntity liveStateFrom(HandDto dto){
+        final List<IntelDto> history = dto.history();
+        return from(dto, history.isEmpty() ? history : history.subList(history.size() - 1, history.size()));
+    }
+
+    private static HandEntity from(HandDto dto, List<IntelDto> intelToKeep){
         final Function<List<CardDto>, List<String>> mapToString = dtos -> dtos.stream().map(CardDto::toString).toList();
         final Function<PlayerDto, UUID> playerUuidOrNull = playerDto -> playerDto != null ? playerDto.uuid() : null;
         final List<RoundEntity> roundEntities = dto.roundsPlayed().stream().map(RoundEntity::from).toList();
-        final List<IntelEntity> history = dto.history().stream().map(IntelEntity::from).toList();
+        final List<IntelEntity> history = intelToKeep.stream().map(IntelEntity::from).toList();
         return HandEntity.builder()
                 .vira(dto.vira().toString())
                 .dealtCard(mapToString.apply(dto.dealtCards()))
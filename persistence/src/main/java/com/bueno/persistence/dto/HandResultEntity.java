@@ -27,6 +27,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,12 +40,18 @@ import java.util.UUID;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "HAND_RESULT")
+@Table(name = "HAND_RESULT", indexes = @Index(name = "IDX_HAND_RESULT_MONTH", columnList = "MONTH_BUCKET, id"))
 public class HandResultEntity {
 
     @Id @GeneratedValue(strategy= GenerationType.IDENTITY)
     private long id;
 
+    //Month of creation as yyyymm. Retention and export select whole months through this indexed column.
+    @Column(name = "MONTH_BUCKET")
+    private int monthBucket;
+    @Column(name = "CREATED_AT")
+    private Instant createdAt;
+
     @Column(name = "HAND_TYPE", length = 9)
     private String handType;
     private UUID gameUuid;
@@ -48,6 +59,10 @@ public class HandResultEntity {
     private int points;
     private int pointsProposal;
 
+    //Round winners are kept by position and a drawn round has no winner, so the number of rounds played tells a draw
+    //apart from a round that was not played. Results stored before this column existed have it null.
+    @Column(name = "ROUNDS_PLAYED")
+    private Integer roundsPlayed;
     @Column(name = "R1_WINNER")
     private UUID round1Winner;
     @Column(name = "R2_WINNER")
@@ -75,6 +90,8 @@ public class HandResultEntity {
         final List<UUID> roundWinners = dto.roundWinners();
 
         return HandResultEntity.builder()
+                .monthBucket(monthBucketOf(YearMonth.from(dto.createdAt().atOffset(ZoneOffset.UTC))))
+                .createdAt(dto.createdAt())
                 .gameUuid(dto.gameUuid())
                 .handType(dto.handType())
                 .handWinner(dto.handWinner())
@@ -87,12 +104,33 @@ public class HandResultEntity {
                 .card2Round2(getIfAvailable(openCards, 4))
                 .card1Round3(getIfAvailable(openCards, 5))
                 .card2Round3(getIfAvailable(openCards, 6))
+                .roundsPlayed(roundWinners.size())
                 .round1Winner(getIfAvailable(roundWinners, 0))
                 .round2Winner(getIfAvailable(roundWinners, 1))
                 .round3Winner(getIfAvailable(roundWinners, 2))
                 .build();
     }
 
+    public static int monthBucketOf(YearMonth month){
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public HandResultDto toDto(){
+        final List<UUID> roundWinners = new ArrayList<>(Arrays.asList(round1Winner, round2Winner, round3Winner)
+                .subList(0, roundsPlayed != null ? roundsPlayed : completedRounds()));
+        final List<String> openCards = new ArrayList<>(7);
+        for (String card : new String[]{vira, card1Round1, card2Round1, card1Round2, card2Round2, card1Round3, card2Round3})
+            if(card != null) openCards.add(card);
+        return new HandResultDto(id, handType, gameUuid, handWinner, points, pointsProposal, roundWinners, openCards, createdAt);
+    }
+
+    //A round is played once both of its cards are open.
+    private int completedRounds(){
+        if(card2Round3 != null) return 3;
+        if(card2Round2 != null) return 2;
+        return card2Round1 != null ? 1 : 0;
+    }
+
     private static <T> T getIfAvailable(List<T> list, int index){
         if(index < list.size()) return list.get(index);
         return null;
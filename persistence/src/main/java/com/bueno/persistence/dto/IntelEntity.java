@@ -20,6 +20,7 @@
 
 package com.bueno.persistence.dto;
 
+import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.usecases.intel.dtos.CardDto;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import lombok.AllArgsConstructor;
@@ -61,7 +62,7 @@ public class IntelEntity {
     private String event;
     private UUID eventPlayerUUID;
     private String eventPlayerUsername;
-    private Set<String> possibleActions;
+    private Set<PossibleAction> possibleActions;
 
     public static IntelEntity from(IntelDto dto){
         final List<String> winnerNames = dto.roundWinnersUsernames().stream()
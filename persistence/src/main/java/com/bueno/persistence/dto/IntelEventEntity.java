@@ -0,0 +1,69 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import javax.persistence.Id;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document
+@CompoundIndexes({
+        @CompoundIndex(name = "game_timestamp", def = "{'gameId': 1, 'timestamp': 1}"),
+        @CompoundIndex(name = "game_sequence", def = "{'gameId': 1, 'sequence': 1}")
+})
+public class IntelEventEntity {
+    @Id
+    private String id;
+    private UUID gameId;
+    //Position of the event in the history of the game, starting at 1. Timestamps are stored in milliseconds and
+    //events of the same request often share one, so events are ordered by sequence. Events appended before the
+    //sequence was introduced have it 0 and keep their timestamp order.
+    private long sequence;
+    private Instant timestamp;
+    private int handIndex;
+    private IntelEntity intel;
+
+    //The id is derived from the game and the sequence, so writing an event again replaces it instead of adding a
+    //duplicate.
+    public static IntelEventEntity from(UUID gameId, int handIndex, long sequence, IntelDto dto){
+        return IntelEventEntity.builder()
+                .id(gameId + "/" + sequence)
+                .gameId(gameId)
+                .sequence(sequence)
+                .timestamp(dto.timestamp())
+                .handIndex(handIndex)
+                .intel(IntelEntity.from(dto))
+                .build();
+    }
+}
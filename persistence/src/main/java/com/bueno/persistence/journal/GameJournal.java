@@ -0,0 +1,323 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.journal;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.persistence.codec.GameStateCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * <p>Durable map of active games backed by a write-ahead journal. Games are kept in memory and every change is
+ * appended to a memory-mapped journal file before the call returns. Every {@code snapshotEvery} records, or once the
+ * journal grows past {@code snapshotBytes}, the whole map is written to a snapshot file and the journal starts over.
+ * Both the snapshot and the new journal are written under temporary names and renamed into place, so the previous
+ * files stay valid until the switch succeeds.</p>
+ *
+ * <p>Records are framed as {@code [length][crc32][type][payload]}, where the payload of a put record is the game
+ * encoded by {@link GameStateCodec#encodeGame} and the one of a delete record is the game UUID. Opening a journal
+ * loads the snapshot and replays the journal up to the first empty or corrupted record, which is where a crash could
+ * have interrupted a write. Since put records hold whole games, replaying records already in the snapshot is
+ * harmless, which also covers a crash between renaming the snapshot and the new journal. A journal whose header was
+ * never written is taken as empty.</p>
+ *
+ * <p>A record is durable once it is appended, so puts and deletes do not fail when the snapshot that follows them
+ * does. The journal keeps growing and the snapshot is tried again after the next append.</p>
+ */
+public final class GameJournal implements Closeable {
+
+    static final String JOURNAL_FILE = "games.journal";
+    static final String SNAPSHOT_FILE = "games.snapshot";
+    static final long DEFAULT_SNAPSHOT_BYTES = 64L << 20;
+
+    private static final int MAGIC = 0x43544a4c;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 9;
+    private static final int INITIAL_JOURNAL_BYTES = 1 << 20;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final Logger LOGGER = Logger.getLogger(GameJournal.class.getName());
+
+    private final Path directory;
+    private final int snapshotEvery;
+    private final long snapshotBytes;
+    private final Map<UUID, GameDto> games = new HashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer journal;
+    private int records;
+
+    private GameJournal(Path directory, int snapshotEvery, long snapshotBytes) {
+        this.directory = directory;
+        this.snapshotEvery = snapshotEvery;
+        this.snapshotBytes = snapshotBytes;
+    }
+
+    public static GameJournal open(Path directory, int snapshotEvery) throws IOException {
+        return open(directory, snapshotEvery, DEFAULT_SNAPSHOT_BYTES);
+    }
+
+    static GameJournal open(Path directory, int snapshotEvery, long snapshotBytes) throws IOException {
+        if (snapshotEvery <= 0) throw new IllegalArgumentException("Snapshot interval must be positive: " + snapshotEvery);
+        if (snapshotBytes <= HEADER_BYTES || snapshotBytes > Integer.MAX_VALUE / 2)
+            throw new IllegalArgumentException("Invalid snapshot size: " + snapshotBytes);
+        Files.createDirectories(directory);
+        final GameJournal gameJournal = new GameJournal(directory, snapshotEvery, snapshotBytes);
+        gameJournal.recover();
+        return gameJournal;
+    }
+
+    public synchronized Collection<GameDto> games() {
+        return List.copyOf(games.values());
+    }
+
+    public synchronized Optional<GameDto> find(UUID gameUuid) {
+        return Optional.ofNullable(games.get(gameUuid));
+    }
+
+    public synchronized void put(GameDto game) {
+        final byte[] payload = GameStateCodec.encodeGame(game);
+        append(PUT, payload);
+        games.put(game.gameUuid(), game);
+        snapshotIfNeeded();
+    }
+
+    public synchronized void delete(UUID gameUuid) {
+        if (!games.containsKey(gameUuid)) return;
+        append(DELETE, ByteBuffer.allocate(16)
+                .putLong(gameUuid.getMostSignificantBits())
+                .putLong(gameUuid.getLeastSignificantBits())
+                .array());
+        games.remove(gameUuid);
+        snapshotIfNeeded();
+    }
+
+    public synchronized void snapshot() {
+        final Path nextJournal = directory.resolve(JOURNAL_FILE + ".next");
+        FileChannel nextChannel = null;
+        try {
+            writeSnapshot();
+            nextChannel = FileChannel.open(nextJournal, CREATE, READ, WRITE, TRUNCATE_EXISTING);
+            final MappedByteBuffer next = nextChannel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_JOURNAL_BYTES);
+            next.put(header());
+            next.force();
+            Files.move(nextJournal, directory.resolve(JOURNAL_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+
+            //Once renamed, the new journal is the one to append to, even if what follows fails.
+            final FileChannel previous = channel;
+            channel = nextChannel;
+            journal = next;
+            records = 0;
+            nextChannel = null;
+            previous.close();
+            syncDirectory();
+        } catch (IOException e) {
+            discard(nextChannel, nextJournal);
+            throw new UncheckedIOException("Could not write game snapshot.", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel == null) return;
+        journal.force();
+        closeJournal();
+    }
+
+    private void recover() throws IOException {
+        Files.deleteIfExists(directory.resolve(SNAPSHOT_FILE + ".tmp"));
+        Files.deleteIfExists(directory.resolve(JOURNAL_FILE + ".next"));
+        final Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) replay(ByteBuffer.wrap(Files.readAllBytes(snapshot)));
+
+        final Path journalFile = directory.resolve(JOURNAL_FILE);
+        final long size = Files.exists(journalFile) ? Files.size(journalFile) : 0;
+        if (size == 0) {
+            startJournal();
+            return;
+        }
+        openJournal(Math.max(size, INITIAL_JOURNAL_BYTES));
+        //A crash right after the journal was created leaves it without header.
+        if (journal.getLong(0) == 0L) journal.put(0, header(), 0, HEADER_BYTES);
+        records = replay(journal);
+        //Clears what is left of an interrupted write, so it can not be taken for a record after later appends.
+        for (int i = journal.position(); i < journal.capacity(); i++) journal.put(i, (byte) 0);
+        journal.force();
+    }
+
+    private int replay(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+            throw new IllegalStateException("Not a game journal: " + directory);
+        int replayed = 0;
+        while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+            final int start = buffer.position();
+            final int length = buffer.getInt();
+            final int checksum = buffer.getInt();
+            final byte type = buffer.get();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            final byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (checksum != checksumOf(type, payload)) {
+                buffer.position(start);
+                break;
+            }
+            apply(type, payload);
+            replayed++;
+        }
+        return replayed;
+    }
+
+    private void apply(byte type, byte[] payload) {
+        if (type == PUT) {
+            final GameDto game = GameStateCodec.decodeGame(payload);
+            games.put(game.gameUuid(), game);
+        } else if (type == DELETE) {
+            final ByteBuffer uuid = ByteBuffer.wrap(payload);
+            games.remove(new UUID(uuid.getLong(), uuid.getLong()));
+        } else throw new IllegalStateException("Unknown journal record type: " + type);
+    }
+
+    private void append(byte type, byte[] payload) {
+        final ByteBuffer record = record(type, payload);
+        try {
+            if (journal.remaining() < record.remaining()) grow(record.remaining());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not grow game journal.", e);
+        }
+        final int start = journal.position();
+        //The length goes last: until it is written, the record reads as the end of the journal.
+        journal.position(start + 4);
+        journal.put(record.position(4));
+        journal.putInt(start, payload.length);
+        journal.force(start, record.limit());
+        records++;
+    }
+
+    private void snapshotIfNeeded() {
+        if (records < snapshotEvery && journal.position() < snapshotBytes) return;
+        try {
+            snapshot();
+        } catch (UncheckedIOException e) {
+            LOGGER.log(Level.WARNING, "Could not snapshot game journal in " + directory
+                    + ", retrying after the next append.", e);
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        final Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel snapshot = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            snapshot.write(header());
+            for (GameDto game : games.values()) snapshot.write(record(PUT, GameStateCodec.encodeGame(game)));
+            snapshot.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+    }
+
+    //Makes renames durable. Platforms that can not open directories as channels make them durable on their own.
+    private void syncDirectory() throws IOException {
+        final FileChannel directoryChannel;
+        try {
+            directoryChannel = FileChannel.open(directory, READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (directoryChannel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    private static void discard(FileChannel channel, Path file) {
+        try {
+            if (channel != null) channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            //A leftover file is deleted on the next recovery.
+        }
+    }
+
+    private void grow(int needed) throws IOException {
+        final int position = journal.position();
+        final long size = Math.max(2L * journal.capacity(), (long) position + needed);
+        if (size > Integer.MAX_VALUE) throw new IOException("Game journal is too large: " + size + " bytes.");
+        journal.force();
+        openJournal(size);
+        journal.position(position);
+    }
+
+    private void startJournal() throws IOException {
+        openJournal(INITIAL_JOURNAL_BYTES);
+        journal.put(header());
+        journal.force(0, HEADER_BYTES);
+        syncDirectory();
+    }
+
+    private void openJournal(long size) throws IOException {
+        if (channel != null) channel.close();
+        channel = FileChannel.open(directory.resolve(JOURNAL_FILE), CREATE, READ, WRITE);
+        journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void closeJournal() throws IOException {
+        channel.close();
+        channel = null;
+        journal = null;
+    }
+
+    private static ByteBuffer header() {
+        return ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+    }
+
+    private static ByteBuffer record(byte type, byte[] payload) {
+        return ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt(checksumOf(type, payload))
+                .put(type)
+                .put(payload)
+                .flip();
+    }
+
+    private static int checksumOf(byte type, byte[] payload) {
+        final CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.repos.GameArchive;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
+import com.bueno.persistence.codec.GameStateCodec;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.nio.file.StandardOpenOption.*;
+
+//Removed games are appended, deflated, to numbered segment files that are never rewritten. Each record starts with
+//the game UUID, so the index from UUID to record offset is rebuilt on startup by reading the record headers only.
+//A record left incomplete by a crash can only be at the end of the last segment, which is then truncated. Records
+//are checked against their checksum when read. The checksum covers the UUID and lengths in the record header as well
+//as the deflated game, so a damaged header can not pass a record off as another game.
+@Repository
+public class GameArchiveSegmentedImpl implements GameArchive, Closeable {
+
+    public static final String DIRECTORY_PROPERTY = "ctruco.persistence.archiveDirectory";
+    static final long MAX_SEGMENT_BYTES = 64L << 20;
+
+    private static final String SEGMENT_PREFIX = "games-";
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final int RECORD_HEADER_BYTES = 28;
+    private static final int CHECKED_HEADER_BYTES = 24;
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final Map<UUID, Location> index = new ConcurrentHashMap<>();
+    private FileChannel segment;
+    private int segmentNumber;
+
+    public GameArchiveSegmentedImpl() throws IOException {
+        this(Path.of(System.getProperty(DIRECTORY_PROPERTY, "ctruco-archive")));
+    }
+
+    public GameArchiveSegmentedImpl(Path directory) throws IOException {
+        this(directory, MAX_SEGMENT_BYTES);
+    }
+
+    GameArchiveSegmentedImpl(Path directory, long maxSegmentBytes) throws IOException {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        Files.createDirectories(directory);
+        final List<Integer> segments = segmentNumbers();
+        for (int i = 0; i < segments.size(); i++) indexSegment(segments.get(i), i == segments.size() - 1);
+        segmentNumber = segments.isEmpty() ? 1 : segments.get(segments.size() - 1);
+        segment = FileChannel.open(segmentPath(segmentNumber), CREATE, WRITE);
+    }
+
+    @Override
+    public void archive(GameDto game) {
+        GameMetrics.timeRepository("GameArchive", "archive", () -> {
+            final byte[] encoded = GameStateCodec.encodeGame(game);
+            final byte[] compressed = deflate(encoded);
+            final int checksum = checksumOf(game.gameUuid(), compressed.length, encoded.length, compressed);
+            final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + compressed.length)
+                    .putLong(game.gameUuid().getMostSignificantBits())
+                    .putLong(game.gameUuid().getLeastSignificantBits())
+                    .putInt(compressed.length)
+                    .putInt(encoded.length)
+                    .putInt(checksum)
+                    .put(compressed)
+                    .flip();
+            try {
+                append(game.gameUuid(), record, compressed.length, encoded.length, checksum);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not archive game " + game.gameUuid(), e);
+            }
+        });
+    }
+
+    @Override
+    public Optional<GameDto> findByGameUuid(UUID gameUuid) {
+        return GameMetrics.timeRepository("GameArchive", "findByGameUuid", () -> {
+            final Location location = index.get(Objects.requireNonNull(gameUuid, "Game UUID must not be null."));
+            if (location == null) return Optional.empty();
+            try (FileChannel channel = FileChannel.open(segmentPath(location.segment()), READ)) {
+                final ByteBuffer compressed = ByteBuffer.allocate(location.length());
+                readFully(channel, compressed, location.offset() + RECORD_HEADER_BYTES);
+                if (checksumOf(gameUuid, location.length(), location.rawLength(), compressed.array()) != location.checksum())
+                    throw new IllegalStateException("Archived game is corrupted: " + gameUuid);
+                return Optional.of(GameStateCodec.decodeGame(inflate(compressed.array(), location.rawLength())));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read archived game " + gameUuid, e);
+            }
+        });
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        segment.close();
+    }
+
+    private synchronized void append(UUID gameUuid, ByteBuffer record, int length, int rawLength, int checksum)
+            throws IOException {
+        if (segment.size() > 0 && segment.size() + record.remaining() > maxSegmentBytes) {
+            segment.close();
+            segment = FileChannel.open(segmentPath(++segmentNumber), CREATE, WRITE);
+        }
+        final long offset = segment.size();
+        while (record.hasRemaining()) segment.write(record, offset + record.position());
+        segment.force(false);
+        index.put(gameUuid, new Location(segmentNumber, offset, length, rawLength, checksum));
+    }
+
+    private void indexSegment(int number, boolean isLast) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(number), READ, WRITE)) {
+            final long size = channel.size();
+            final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+            long offset = 0;
+            while (offset + RECORD_HEADER_BYTES <= size) {
+                header.clear();
+                readFully(channel, header, offset);
+                header.flip();
+                final UUID gameUuid = new UUID(header.getLong(), header.getLong());
+                final int length = header.getInt();
+                final int rawLength = header.getInt();
+                final int checksum = header.getInt();
+                if (length <= 0 || offset + RECORD_HEADER_BYTES + length > size) break;
+                if (isLast && !hasChecksum(channel, offset, gameUuid, length, rawLength, checksum)) break;
+                index.put(gameUuid, new Location(number, offset, length, rawLength, checksum));
+                offset += RECORD_HEADER_BYTES + length;
+            }
+            if (offset < size) {
+                if (!isLast) throw new IOException("Corrupted archive segment: " + segmentPath(number));
+                channel.truncate(offset);
+            }
+        }
+    }
+
+    private static boolean hasChecksum(FileChannel channel, long offset, UUID gameUuid, int length, int rawLength,
+                                       int checksum) throws IOException {
+        final ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(channel, payload, offset + RECORD_HEADER_BYTES);
+        return checksumOf(gameUuid, length, rawLength, payload.array()) == checksum;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new IOException("Unexpected end of archive segment at " + (position + buffer.position()));
+        }
+    }
+
+    private List<Integer> segmentNumbers() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static byte[] deflate(byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            final ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2 + 16);
+            final byte[] buffer = new byte[4096];
+            while (!deflater.finished()) output.write(buffer, 0, deflater.deflate(buffer));
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int rawLength) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            final byte[] result = new byte[rawLength];
+            int inflated = 0;
+            while (inflated < rawLength && !inflater.finished()) inflated += inflater.inflate(result, inflated, rawLength - inflated);
+            if (inflated != rawLength) throw new IllegalStateException("Archived game is truncated.");
+            return result;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Archived game is corrupted.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int checksumOf(UUID gameUuid, int length, int rawLength, byte[] compressed) {
+        final CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(CHECKED_HEADER_BYTES)
+                .putLong(gameUuid.getMostSignificantBits())
+                .putLong(gameUuid.getLeastSignificantBits())
+                .putInt(length)
+                .putInt(rawLength)
+                .flip());
+        crc.update(compressed);
+        return (int) crc.getValue();
+    }
+
+    private record Location(int segment, long offset, int length, int rawLength, int checksum) {}
+}
@@ -23,13 +23,24 @@ package com.bueno.persistence.repositories;
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.intel.dtos.PlayerTurnDto;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 import com.bueno.persistence.dao.GameDao;
+import com.bueno.persistence.dao.IntelEventDao;
 import com.bueno.persistence.dao.PlayerDao;
 import com.bueno.persistence.dto.GameEntity;
 import com.bueno.persistence.dto.HandEntity;
 import com.bueno.persistence.dto.IntelEntity;
+import com.bueno.persistence.dto.IntelEventEntity;
 import com.bueno.persistence.dto.PlayerEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
@@ -37,76 +48,256 @@ import java.time.Instant;
 import java.util.*;
 
 @Repository
+@Profile("!embedded")
 public class GameRepositoryImpl implements GameRepository {
 
+    //Stores the hands of active games with GameStateCodec. Games stored in either layout are always readable.
+    public static final String BINARY_STATE_PROPERTY = "ctruco.persistence.binaryState";
+
     private final GameDao gameDao;
     private final PlayerDao playerDao;
+    private final IntelEventDao intelEventDao;
+    private final MongoOperations mongoOperations;
+    private final boolean binaryState = Boolean.getBoolean(BINARY_STATE_PROPERTY);
 
-    public GameRepositoryImpl(GameDao dao, PlayerDao playerDao) {
+    public GameRepositoryImpl(GameDao dao, PlayerDao playerDao, IntelEventDao intelEventDao,
+                              MongoOperations mongoOperations) {
         this.gameDao = dao;
         this.playerDao = playerDao;
+        this.intelEventDao = intelEventDao;
+        this.mongoOperations = mongoOperations;
     }
 
     @Override
     public void save(GameDto dto) {
-        gameDao.findById(dto.gameUuid())
-                .ifPresent(game -> {throw new EntityNotFoundException("Game already exists: " + game.getId());});
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        GameMetrics.timeRepository("GameRepository", "save", () -> {
+            if(gameDao.existsById(dto.gameUuid()))
+                throw new EntityNotFoundException("Game already exists: " + dto.gameUuid());
+            final long eventSequence = appendIntelAfter(dto, null, 0);
+            gameDao.save(GameEntity.from(dto, binaryState, eventSequence));
+        });
     }
 
     @Override
     public void update(GameDto dto) {
-        gameDao.findById(dto.gameUuid())
-                .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid()));
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        GameMetrics.timeRepository("GameRepository", "update", () -> {
+            final GameEntity storedGame = gameDao.findHistoryTimestampById(dto.gameUuid())
+                    .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid()));
+            final long eventSequence = storedGame.hasIntelCollection()
+                    ? appendIntelAfter(dto, storedGame.getHistoryTimestamp(), storedGame.getEventSequence())
+                    : appendIntelAfter(dto, null, 0);
+            gameDao.save(GameEntity.from(dto, binaryState, eventSequence));
+        });
     }
 
     @Override
     public void delete(UUID uuid) {
-        final GameEntity game = gameDao.findById(uuid)
-                .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + uuid));
-        playerDao.deleteById(game.getPlayer1());
-        playerDao.deleteById(game.getPlayer2());
-        gameDao.delete(game);
+        GameMetrics.timeRepository("GameRepository", "delete", () -> {
+            final GameEntity game = gameDao.findById(uuid)
+                    .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + uuid));
+            if(!game.hasEmbeddedPlayers()) deleteLegacyPlayers(game.getPlayer1(), game.getPlayer2());
+            intelEventDao.deleteByGameId(uuid);
+            gameDao.delete(game);
+        });
     }
 
     @Override
     public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
         final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
-        final Optional<GameEntity> possibleGame = gameDao.findByPlayer1OrPlayer2(uuid, uuid);
-        return getGameDto(possibleGame.orElse(null));
+        return GameMetrics.timeRepository("GameRepository", "findByPlayerUuid", () -> {
+            final Optional<GameEntity> possibleGame = gameDao.findByPlayer1OrPlayer2(uuid, uuid);
+            return getGameDto(possibleGame.orElse(null));
+        });
+    }
+
+    @Override
+    public Optional<PlayerTurnDto> findPlayerTurnByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        return GameMetrics.timeRepository("GameRepository", "findPlayerTurnByPlayerUuid", () -> {
+            final Optional<GameEntity> possibleGame = gameDao.findCurrentPlayerByPlayer(uuid);
+            if(possibleGame.isPresent() && !possibleGame.get().hasProjectedFields())
+                return GameRepository.super.findPlayerTurnByPlayerUuid(uuid);
+            return possibleGame.map(game -> new PlayerTurnDto(uuid.equals(game.getCurrentPlayer())));
+        });
+    }
+
+    @Override
+    public Optional<IntelDto> findLastIntelByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        return GameMetrics.timeRepository("GameRepository", "findLastIntelByPlayerUuid", () -> {
+            final Optional<GameEntity> possibleGame = gameDao.findLastIntelByPlayer(uuid);
+            if(possibleGame.isPresent() && !possibleGame.get().hasProjectedFields())
+                return GameRepository.super.findLastIntelByPlayerUuid(uuid);
+            return possibleGame.map(game -> game.getLastIntel().toDto());
+        });
+    }
+
+    @Override
+    public Optional<List<IntelDto>> findIntelSinceByPlayerUuid(UUID playerUuid, Instant lastIntelTimestamp) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        return GameMetrics.timeRepository("GameRepository", "findIntelSinceByPlayerUuid", () -> {
+            final Optional<GameEntity> possibleGame = gameDao.findLastIntelByPlayer(uuid);
+            if(possibleGame.isEmpty()) return Optional.empty();
+            final GameEntity game = possibleGame.get();
+            if(!game.hasIntelCollection()) return GameRepository.super.findIntelSinceByPlayerUuid(uuid, lastIntelTimestamp);
+
+            final List<IntelEventEntity> events = lastIntelTimestamp == null
+                    ? intelEventDao.findByGameIdOrderBySequenceAscTimestampAsc(game.getId())
+                    : intelEventDao.findByGameIdAndTimestampAfterOrderBySequenceAscTimestampAsc(game.getId(), lastIntelTimestamp);
+            final List<IntelDto> intelSince = new ArrayList<>(events.size() + 1);
+            events.forEach(event -> intelSince.add(event.getIntel().toDto()));
+
+            //The game over intel is not part of any hand history, so it is only kept as the last intel of the game.
+            final IntelEntity lastIntel = game.getLastIntel();
+            final boolean isNew = lastIntelTimestamp == null || lastIntel.getTimestamp().isAfter(lastIntelTimestamp);
+            if(lastIntel.isGameDone() && isNew) intelSince.add(lastIntel.toDto());
+            return Optional.of(intelSince);
+        });
+    }
+
+    @Override
+    public GameDto completeHistoryOf(GameDto game) {
+        return GameMetrics.timeRepository("GameRepository", "completeHistoryOf", () -> {
+            final Map<Integer, List<IntelDto>> historyByHand = new HashMap<>();
+            for (IntelEventEntity event : intelEventDao.findByGameIdOrderBySequenceAscTimestampAsc(game.gameUuid()))
+                historyByHand.computeIfAbsent(event.getHandIndex(), unused -> new ArrayList<>()).add(event.getIntel().toDto());
+            if(historyByHand.isEmpty()) return game;
+
+            final List<HandDto> hands = new ArrayList<>(game.hands().size());
+            for (int i = 0; i < game.hands().size(); i++) {
+                final HandDto hand = game.hands().get(i);
+                final List<IntelDto> history = historyByHand.get(i);
+                hands.add(history == null ? hand : new HandDto(hand.vira(), hand.dealtCards(), hand.openCards(),
+                        hand.roundsPlayed(), history, hand.possibleActions(), hand.firstToPlay(), hand.lastToPlay(),
+                        hand.currentPlayer(), hand.lastBetRaiser(), hand.eventPlayer(), hand.cartToPlayAgainst(),
+                        hand.points(), hand.pointsProposal(), hand.winner(), hand.state()));
+            }
+            return new GameDto(game.gameUuid(), game.timestamp(), game.player1(), game.player2(), game.firstToPlay(),
+                    game.lastToPlay(), hands, game.lastIntel());
+        });
+    }
+
+    @Override
+    public Optional<List<CardDto>> findOwnedCardsByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        return GameMetrics.timeRepository("GameRepository", "findOwnedCardsByPlayerUuid", () -> {
+            final Optional<GameEntity> possibleGame = gameDao.findOwnedCardsByPlayer(uuid);
+            if(possibleGame.isPresent() && !possibleGame.get().hasProjectedFields())
+                return GameRepository.super.findOwnedCardsByPlayerUuid(uuid);
+            return possibleGame
+                    .map(game -> uuid.equals(game.getPlayer1()) ? game.getPlayer1State() : game.getPlayer2State())
+                    .map(player -> player.getCards().stream()
+                            .map(card -> new CardDto(card.substring(0, 1), card.substring(1, 2)))
+                            .toList());
+        });
     }
 
     @Override
     public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return gameDao.findAll().stream()
+        return GameMetrics.timeRepository("GameRepository", "findAllInactiveAfter", () -> gameDao.findAll().stream()
                 .filter(game -> isInactive(game, minutes))
                 .map(this::getGameDto)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
-                .toList();
+                .toList());
     }
 
     public boolean isInactive(GameEntity game, int minutes){
-        if(game.getHands().isEmpty()) return false;
-        final int index = game.getHands().size() - 1;
-        final HandEntity hand = game.getHands().get(index);
-        final IntelEntity intel = hand.getHistory().get(hand.getHistory().size() - 1);
-        final Instant lastInteraction = intel.getTimestamp();
+        final Instant lastInteraction = lastInteractionOf(game);
+        if(lastInteraction == null) return false;
         final Instant now = Instant.now();
         final long inactivityInMinutes = Duration.between(lastInteraction, now).toMinutes();
         System.out.println("Inactive during (minutes): " + inactivityInMinutes);
         return inactivityInMinutes >= minutes;
     }
 
+    private Instant lastInteractionOf(GameEntity game){
+        if(game.hasIntelCollection()) return game.getHistoryTimestamp();
+        if(game.getHands().isEmpty()) return null;
+        final int index = game.getHands().size() - 1;
+        final HandEntity hand = game.getHands().get(index);
+        final IntelEntity intel = hand.getHistory().get(hand.getHistory().size() - 1);
+        return intel.getTimestamp();
+    }
+
     private Optional<GameDto> getGameDto(GameEntity game) {
         if(game == null) return Optional.empty();
-        final PlayerDto player1 = playerDao.findById(game.getPlayer1()).orElseThrow().toDto();
-        final PlayerDto player2 = playerDao.findById(game.getPlayer2()).orElseThrow().toDto();
-        return Optional.of(game.toDto(Map.of(player1.uuid(), player1, player2.uuid(), player2)));
+        if(game.getSchemaVersion() < GameEntity.SCHEMA_VERSION) return Optional.of(migrate(game));
+        return Optional.of(game.toDto());
+    }
+
+    //Games stored in older layouts are rewritten in the current one the first time they are read. Concurrent readers
+    //may migrate the same game: its intel events are upserted by sequence, and only the reader that still finds the
+    //game outdated replaces it. The others, like readers that no longer find the legacy players, read the migrated game.
+    private GameDto migrate(GameEntity outdatedGame) {
+        final UUID uuid = outdatedGame.getId();
+        final Optional<GameDto> possibleDto = outdatedGame.hasEmbeddedPlayers()
+                ? Optional.of(outdatedGame.toDto())
+                : joinLegacyPlayers(outdatedGame);
+        if(possibleDto.isEmpty()) return migratedGameOf(uuid);
+
+        final GameDto dto = possibleDto.get();
+        final List<IntelEventEntity> events = intelEventsOf(dto);
+        intelEventDao.saveAll(events);
+        final Query stillOutdated = Query.query(Criteria.where("_id").is(uuid)
+                .and("schemaVersion").not().gte(GameEntity.SCHEMA_VERSION));
+        if(mongoOperations.findAndReplace(stillOutdated, GameEntity.from(dto, binaryState, events.size())) == null)
+            return migratedGameOf(uuid);
+        if(!outdatedGame.hasEmbeddedPlayers()) deleteLegacyPlayers(outdatedGame.getPlayer1(), outdatedGame.getPlayer2());
+        return dto;
+    }
+
+    private Optional<GameDto> joinLegacyPlayers(GameEntity legacyGame) {
+        final Optional<PlayerEntity> player1 = playerDao.findById(legacyGame.getPlayer1());
+        final Optional<PlayerEntity> player2 = playerDao.findById(legacyGame.getPlayer2());
+        if(player1.isEmpty() || player2.isEmpty()) return Optional.empty();
+        final PlayerDto firstPlayer = player1.get().toDto();
+        final PlayerDto secondPlayer = player2.get().toDto();
+        return Optional.of(legacyGame.toDto(Map.of(firstPlayer.uuid(), firstPlayer, secondPlayer.uuid(), secondPlayer)));
+    }
+
+    private GameDto migratedGameOf(UUID uuid) {
+        return gameDao.findById(uuid)
+                .filter(game -> game.getSchemaVersion() >= GameEntity.SCHEMA_VERSION)
+                .map(GameEntity::toDto)
+                .orElseThrow(() -> new EntityNotFoundException("Game removed while being migrated: " + uuid));
+    }
+
+    //Older layouts store the whole history in each hand, so the position of an intel in it gives its sequence.
+    private List<IntelEventEntity> intelEventsOf(GameDto dto) {
+        final List<IntelEventEntity> events = new ArrayList<>();
+        for (int handIndex = 0; handIndex < dto.hands().size(); handIndex++) {
+            for (IntelDto intel : dto.hands().get(handIndex).history())
+                events.add(IntelEventEntity.from(dto.gameUuid(), handIndex, events.size() + 1L, intel));
+        }
+        return events;
+    }
+
+    //Events are written before the game document that records their last timestamp and sequence. If writing the
+    //game fails, the next update computes the same events and ids again, so they are upserted, never lost or doubled.
+    private long appendIntelAfter(GameDto dto, Instant lastAppended, long lastSequence) {
+        final List<Integer> handIndexes = new ArrayList<>();
+        final List<IntelDto> intel = new ArrayList<>();
+        for (int handIndex = dto.hands().size() - 1; handIndex >= 0; handIndex--) {
+            final List<IntelDto> history = dto.hands().get(handIndex).history();
+            int first = history.size();
+            while (first > 0 && (lastAppended == null || history.get(first - 1).timestamp().isAfter(lastAppended))) first--;
+            for (int i = history.size() - 1; i >= first; i--) {
+                handIndexes.add(handIndex);
+                intel.add(history.get(i));
+            }
+            if (first > 0) break;
+        }
+        if (intel.isEmpty()) return lastSequence;
+        final List<IntelEventEntity> events = new ArrayList<>(intel.size());
+        for (int i = intel.size() - 1; i >= 0; i--)
+            events.add(IntelEventEntity.from(dto.gameUuid(), handIndexes.get(i), lastSequence + events.size() + 1, intel.get(i)));
+        intelEventDao.saveAll(events);
+        return lastSequence + events.size();
+    }
+
+    private void deleteLegacyPlayers(UUID player1, UUID player2) {
+        playerDao.deleteById(player1);
+        playerDao.deleteById(player2);
     }
 }
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
+import com.bueno.persistence.journal.GameJournal;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Embedded alternative to the MongoDB repository for single node deployments. Active games are served from the
+//memory of a local journal (see GameJournal), which writes every change to disk and recovers them on startup.
+//Each save or update appends the whole game rather than what changed since the previous action, so every action
+//costs a record as large as the encoded game. Games are small and bounded, a few KB at most, and in exchange any
+//record restores its game on its own: replay needs no action semantics and snapshots are just the latest records.
+@Repository
+@Profile("embedded")
+public class GameRepositoryJournaledImpl implements GameRepository, Closeable {
+
+    public static final String DIRECTORY_PROPERTY = "ctruco.persistence.journalDirectory";
+    public static final String SNAPSHOT_EVERY_PROPERTY = "ctruco.persistence.snapshotEvery";
+
+    private final GameJournal journal;
+    private final Map<UUID, UUID> gameByPlayer = new ConcurrentHashMap<>();
+
+    public GameRepositoryJournaledImpl() throws IOException {
+        this(Path.of(System.getProperty(DIRECTORY_PROPERTY, "ctruco-data")), Integer.getInteger(SNAPSHOT_EVERY_PROPERTY, 1_000));
+    }
+
+    public GameRepositoryJournaledImpl(Path directory, int snapshotEvery) throws IOException {
+        this.journal = GameJournal.open(directory, snapshotEvery);
+        journal.games().forEach(this::index);
+    }
+
+    @Override
+    public void save(GameDto dto) {
+        GameMetrics.timeRepository("GameRepository", "save", () -> {
+            synchronized (this) {
+                if(journal.find(dto.gameUuid()).isPresent())
+                    throw new EntityNotFoundException("Game already exists: " + dto.gameUuid());
+                journal.put(dto);
+                index(dto);
+            }
+        });
+    }
+
+    @Override
+    public void update(GameDto dto) {
+        GameMetrics.timeRepository("GameRepository", "update", () -> {
+            synchronized (this) {
+                if(journal.find(dto.gameUuid()).isEmpty())
+                    throw new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid());
+                journal.put(dto);
+                index(dto);
+            }
+        });
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        GameMetrics.timeRepository("GameRepository", "delete", () -> {
+            synchronized (this) {
+                final GameDto game = journal.find(uuid)
+                        .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + uuid));
+                journal.delete(uuid);
+                gameByPlayer.remove(game.player1().uuid(), uuid);
+                gameByPlayer.remove(game.player2().uuid(), uuid);
+            }
+        });
+    }
+
+    @Override
+    public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        return GameMetrics.timeRepository("GameRepository", "findByPlayerUuid", () ->
+                Optional.ofNullable(gameByPlayer.get(uuid)).flatMap(journal::find));
+    }
+
+    @Override
+    public Collection<GameDto> findAllInactiveAfter(int minutes) {
+        return GameMetrics.timeRepository("GameRepository", "findAllInactiveAfter", () -> journal.games().stream()
+                .filter(game -> isInactive(game, minutes))
+                .toList());
+    }
+
+    @Override
+    public void close() {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close game journal.", e);
+        }
+    }
+
+    private boolean isInactive(GameDto game, int minutes) {
+        if(game.hands().isEmpty()) return false;
+        final HandDto hand = game.hands().get(game.hands().size() - 1);
+        final List<IntelDto> history = hand.history();
+        if(history.isEmpty()) return false;
+        final Instant lastInteraction = history.get(history.size() - 1).timestamp();
+        return Duration.between(lastInteraction, Instant.now()).toMinutes() >= minutes;
+    }
+
+    private void index(GameDto game) {
+        for (PlayerDto player : List.of(game.player1(), game.player2())) gameByPlayer.put(player.uuid(), game.gameUuid());
+    }
+}
@@ -24,6 +24,7 @@ import com.bueno.domain.usecases.game.dtos.GameResultDto;
 import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
 import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 import com.bueno.persistence.dao.GameResultDao;
 import com.bueno.persistence.dto.GameResultEntity;
 import com.bueno.persistence.dto.GameResultQR;
@@ -44,19 +45,21 @@ public class GameResultRepositoryImpl implements GameResultRepository {
 
     @Override
     public void save(GameResultDto gameResult) {
-        repo.save(GameResultEntity.from(gameResult));
+        GameMetrics.timeRepository("GameResultRepository", "save", () -> repo.save(GameResultEntity.from(gameResult)));
     }
 
     @Override
     public List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers){
-        return repo.findTopWinners(Pageable.ofSize(maxNumberOfUsers)).stream()
-                .map(playerWins -> new PlayerWinsDto(playerWins.getUsername(), playerWins.getWins().intValue()))
-                .toList();
+        return GameMetrics.timeRepository("GameResultRepository", "findTopWinners",
+                () -> repo.findTopWinners(Pageable.ofSize(maxNumberOfUsers)).stream()
+                        .map(playerWins -> new PlayerWinsDto(playerWins.getUsername(), playerWins.getWins().intValue()))
+                        .toList());
     }
 
     @Override
     public List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid) {
-        final List<GameResultQR> result = repo.findAllByPlayerUuid(uuid);
+        final List<GameResultQR> result = GameMetrics.timeRepository("GameResultRepository", "findAllByUserUuid",
+                () -> repo.findAllByPlayerUuid(uuid));
         return result.stream()
                 .map(r -> new GameResultUsernamesDto(r.getEnding(), r.getPlayer1(), r.getPlayer2(), r.getWinner()))
                 .toList();
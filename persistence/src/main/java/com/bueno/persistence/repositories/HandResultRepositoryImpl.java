@@ -22,10 +22,15 @@ package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.hand.HandResultRepository;
 import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 import com.bueno.persistence.dao.HandResultDao;
 import com.bueno.persistence.dto.HandResultEntity;
 import org.springframework.stereotype.Repository;
 
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
 @Repository
 public class HandResultRepositoryImpl implements HandResultRepository {
 
@@ -37,6 +42,33 @@ public class HandResultRepositoryImpl implements HandResultRepository {
 
     @Override
     public void save(HandResultDto handResultDto) {
-        dao.save(HandResultEntity.from(handResultDto));
+        GameMetrics.timeRepository("HandResultRepository", "save",
+                () -> dao.save(HandResultEntity.from(handResultDto)));
+    }
+
+    @Override
+    public long deleteCreatedBefore(YearMonth month) {
+        return GameMetrics.timeRepository("HandResultRepository", "deleteCreatedBefore",
+                () -> (long) dao.deleteByMonthBucketLessThan(HandResultEntity.monthBucketOf(month)));
+    }
+
+    //Results are read in batches ordered by id (keyset pagination), so exports use bounded memory, hold no cursor
+    //open and do not lock the rows being inserted by live games.
+    @Override
+    public long exportCreatedBetween(YearMonth first, YearMonth last, Consumer<HandResultDto> consumer) {
+        return GameMetrics.timeRepository("HandResultRepository", "exportCreatedBetween", () -> {
+            final int firstMonth = HandResultEntity.monthBucketOf(first);
+            final int lastMonth = HandResultEntity.monthBucketOf(last);
+            long exported = 0;
+            long lastId = 0;
+            List<HandResultEntity> batch;
+            do {
+                batch = dao.findTop1000ByMonthBucketBetweenAndIdGreaterThanOrderByIdAsc(firstMonth, lastMonth, lastId);
+                for (HandResultEntity result : batch) consumer.accept(result.toDto());
+                exported += batch.size();
+                if (!batch.isEmpty()) lastId = batch.get(batch.size() - 1).getId();
+            } while (!batch.isEmpty());
+            return exported;
+        });
     }
 }
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.user.UserRepository;
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+//Users are read on every authentication and game creation but almost never change. Found users are kept for a
+//limited time, least recently used first out, and dropped whenever a user is saved through this repository. Misses
+//are not cached, so users registered meanwhile are always found.
+@Repository
+@Primary
+public class UserRepositoryCachedImpl implements UserRepository {
+
+    public static final String TTL_PROPERTY = "ctruco.persistence.userCacheTtlSeconds";
+    static final int MAX_CACHED_USERS = 10_000;
+
+    private final UserRepository delegate;
+    private final long ttlNanos;
+    private final Map<UUID, CachedUser> usersByUuid = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, CachedUser> eldest) {
+            if (size() <= MAX_CACHED_USERS) return false;
+            removeKeysOf(eldest.getValue().user());
+            return true;
+        }
+    };
+    private final Map<String, UUID> uuidsByUsername = new HashMap<>();
+    private final Map<String, UUID> uuidsByEmail = new HashMap<>();
+    private long invalidations;
+
+    public UserRepositoryCachedImpl(UserRepositoryImpl delegate) {
+        this(delegate, Duration.ofSeconds(Long.getLong(TTL_PROPERTY, 300)));
+    }
+
+    UserRepositoryCachedImpl(UserRepository delegate, Duration ttl) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public void save(ApplicationUserDto user) {
+        invalidate(user);
+        delegate.save(user);
+        invalidate(user);
+    }
+
+    @Override
+    public Optional<ApplicationUserDto> findByUsername(String username) {
+        return find(() -> uuidsByUsername.get(username), () -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public Optional<ApplicationUserDto> findByEmail(String email) {
+        return find(() -> uuidsByEmail.get(email), () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public Optional<ApplicationUserDto> findByUuid(UUID uuid) {
+        return find(() -> uuid, () -> delegate.findByUuid(uuid));
+    }
+
+    synchronized int cachedKeys() {
+        return uuidsByUsername.size() + uuidsByEmail.size();
+    }
+
+    private Optional<ApplicationUserDto> find(Supplier<UUID> cachedUuid, Supplier<Optional<ApplicationUserDto>> loader) {
+        final long invalidationsBeforeLoading;
+        synchronized (this) {
+            final UUID uuid = cachedUuid.get();
+            final CachedUser cached = uuid == null ? null : usersByUuid.get(uuid);
+            if (cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos) return Optional.of(cached.user());
+            if (cached != null) remove(cached.user());
+            invalidationsBeforeLoading = invalidations;
+        }
+        final Optional<ApplicationUserDto> user = loader.get();
+        user.ifPresent(found -> put(found, invalidationsBeforeLoading));
+        return user;
+    }
+
+    //A user loaded before a save completes may be outdated, so it is only cached if nothing was saved meanwhile.
+    private synchronized void put(ApplicationUserDto user, long invalidationsBeforeLoading) {
+        if (user.uuid() == null || invalidations != invalidationsBeforeLoading) return;
+        final CachedUser previous = usersByUuid.get(user.uuid());
+        if (previous != null) removeKeysOf(previous.user());
+        usersByUuid.put(user.uuid(), new CachedUser(user, System.nanoTime()));
+        if (user.username() != null) uuidsByUsername.put(user.username(), user.uuid());
+        if (user.email() != null) uuidsByEmail.put(user.email(), user.uuid());
+    }
+
+    private synchronized void invalidate(ApplicationUserDto user) {
+        invalidations++;
+        if (user.uuid() != null) {
+            final CachedUser cached = usersByUuid.get(user.uuid());
+            if (cached != null) remove(cached.user());
+        }
+        for (UUID uuid : new UUID[]{uuidsByUsername.get(user.username()), uuidsByEmail.get(user.email())}) {
+            final CachedUser cached = uuid == null ? null : usersByUuid.get(uuid);
+            if (cached != null) remove(cached.user());
+        }
+    }
+
+    private void remove(ApplicationUserDto user) {
+        usersByUuid.remove(user.uuid());
+        removeKeysOf(user);
+    }
+
+    private void removeKeysOf(ApplicationUserDto user) {
+        if (user.username() != null) uuidsByUsername.remove(user.username(), user.uuid());
+        if (user.email() != null) uuidsByEmail.remove(user.email(), user.uuid());
+    }
+
+    private record CachedUser(ApplicationUserDto user, long loadedAt) {}
+}
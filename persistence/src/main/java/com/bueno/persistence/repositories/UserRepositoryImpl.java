@@ -22,6 +22,7 @@ package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.user.UserRepository;
 import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+import com.bueno.domain.usecases.utils.metrics.GameMetrics;
 import com.bueno.persistence.dao.UserDao;
 import com.bueno.persistence.dto.UserEntity;
 import org.springframework.stereotype.Repository;
@@ -40,24 +41,27 @@ public class UserRepositoryImpl implements UserRepository {
 
     @Override
     public void save(ApplicationUserDto user) {
-        dao.save(UserEntity.from(user));
+        GameMetrics.timeRepository("UserRepository", "save", () -> dao.save(UserEntity.from(user)));
     }
 
     @Override
     public Optional<ApplicationUserDto> findByUsername(String username) {
-        final UserEntity dto = dao.getByUsername(username);
+        final UserEntity dto = GameMetrics.timeRepository("UserRepository", "findByUsername",
+                () -> dao.getByUsername(username));
         return Optional.ofNullable(UserEntity.toApplicationUser(dto));
     }
 
     @Override
     public Optional<ApplicationUserDto> findByEmail(String email) {
-        final UserEntity dto = dao.getByEmail(email);
+        final UserEntity dto = GameMetrics.timeRepository("UserRepository", "findByEmail",
+                () -> dao.getByEmail(email));
         return Optional.ofNullable(UserEntity.toApplicationUser(dto));
     }
 
     @Override
     public Optional<ApplicationUserDto> findByUuid(UUID uuid) {
-        final UserEntity dto = dao.getByUuid(uuid);
+        final UserEntity dto = GameMetrics.timeRepository("UserRepository", "findByUuid",
+                () -> dao.getByUuid(uuid));
         return Optional.ofNullable(UserEntity.toApplicationUser(dto));
     }
 }
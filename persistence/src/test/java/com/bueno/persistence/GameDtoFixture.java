@@ -0,0 +1,121 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence;
+
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.RoundDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+//States of one game between two bots, with hands, rounds, raises and intel history, as stored by the repositories.
+public final class GameDtoFixture {
+
+    public static final CardDto VIRA = new CardDto("7", "D");
+
+    public final UUID gameUuid = UUID.randomUUID();
+    public final PlayerDto player1 = new PlayerDto("Bot1", UUID.randomUUID(), 0, true, List.of(
+            new CardDto("A", "S"), new CardDto("Q", "C"), new CardDto("3", "H")));
+    public final PlayerDto player2 = new PlayerDto("Bot2", UUID.randomUUID(), 0, true, List.of(
+            new CardDto("K", "H"), new CardDto("4", "C"), new CardDto("J", "D")));
+    private final Instant start;
+
+    public GameDtoFixture() {
+        this(Instant.parse("2022-10-18T12:00:00.123456789Z"));
+    }
+
+    public GameDtoFixture(Instant start) {
+        this.start = start;
+    }
+
+    public IntelDto intel(int second, String event, PlayerDto eventPlayer, int handPoints, Integer proposal,
+                          List<RoundDto> rounds, PlayerDto current, boolean gameDone) {
+        final PlayerDto opponent = current == player1 ? player2 : player1;
+        return new IntelDto(start.plusSeconds(second), gameDone, gameDone ? player1.uuid() : null, false,
+                handPoints, proposal,
+                rounds.stream().map(round -> Optional.ofNullable(round.winner()).map(PlayerDto::username)).toList(),
+                rounds.stream().map(round -> Optional.ofNullable(round.winner()).map(PlayerDto::uuid)).toList(),
+                rounds.size(), VIRA, List.of(VIRA), gameDone ? player1.username() : null,
+                current.uuid(), current.score(), current.username(), opponent.score(), opponent.username(),
+                null, List.of(player1, player2), event, eventPlayer == null ? null : eventPlayer.uuid(),
+                eventPlayer == null ? null : eventPlayer.username(), EnumSet.of(PossibleAction.PLAY, PossibleAction.RAISE));
+    }
+
+    public HandDto hand(List<RoundDto> rounds, List<IntelDto> history, int points, int proposal,
+                        PlayerDto raiser, PlayerDto winner, String state) {
+        return new HandDto(VIRA, List.of(VIRA, new CardDto("A", "S"), new CardDto("K", "H")), List.of(VIRA),
+                rounds, history, EnumSet.of(PossibleAction.PLAY), player1, player2, winner == null ? player1 : null,
+                raiser, raiser, null, points, proposal, winner, state);
+    }
+
+    public GameDto game(List<HandDto> hands, IntelDto lastIntel) {
+        return new GameDto(gameUuid, LocalDateTime.of(2022, 10, 18, 12, 0, 0, 123456789),
+                player1, player2, player1, player2, hands, lastIntel);
+    }
+
+    public GameDto newGame() {
+        final IntelDto dealt = intel(0, null, null, 1, null, List.of(), player1, false);
+        return game(List.of(hand(List.of(), List.of(dealt), 1, 0, null, null, "NO_CARD")), dealt);
+    }
+
+    //A first hand won by a raise that was not accepted, and a second hand with a raise and two rounds played, the
+    //second one drawn. Only the first actions of the second hand are kept, at most five.
+    public GameDto midHandGame(int actions) {
+        final RoundDto firstRound = new RoundDto(player1, player2, player2, VIRA, new CardDto("A", "S"), new CardDto("K", "H"));
+        final RoundDto drawnRound = new RoundDto(player2, player1, null, VIRA, new CardDto("4", "C"), new CardDto("4", "S"));
+        final HandDto finishedHand = hand(List.of(), List.of(
+                intel(0, null, null, 1, null, List.of(), player1, false),
+                intel(1, "RAISE", player1, 1, 3, List.of(), player2, false),
+                intel(2, "QUIT", player2, 1, null, List.of(), player1, false)), 1, 0, player1, player1, "DONE");
+        final List<IntelDto> history = List.of(
+                intel(3, null, null, 1, null, List.of(), player2, false),
+                intel(4, "RAISE", player2, 1, 3, List.of(), player1, false),
+                intel(5, "ACCEPT", player1, 3, null, List.of(), player2, false),
+                intel(6, "PLAY", player1, 3, null, List.of(firstRound), player2, false),
+                intel(7, "PLAY", player2, 3, null, List.of(firstRound, drawnRound), player2, false)).subList(0, actions);
+        final List<RoundDto> rounds = List.of(firstRound, drawnRound).subList(0, Math.max(0, actions - 3));
+        return game(List.of(finishedHand, hand(rounds, history, actions > 2 ? 3 : 1, 0, player2, null, "NO_CARD")),
+                history.get(history.size() - 1));
+    }
+
+    public GameDto midHandGame() {
+        return midHandGame(5);
+    }
+
+    public GameDto finishedGame() {
+        final PlayerDto winner = new PlayerDto(player1.username(), player1.uuid(), 12, true, List.of());
+        final RoundDto round = new RoundDto(player1, player2, player1, VIRA, new CardDto("A", "S"), new CardDto("K", "H"));
+        final IntelDto done = intel(9, "QUIT", player2, 12, null, List.of(round), winner, true);
+        final HandDto lastHand = hand(List.of(round), List.of(
+                intel(8, "RAISE", player1, 1, 12, List.of(round), player2, false), done), 12, 0, player1, player1, "DONE");
+        return new GameDto(gameUuid, LocalDateTime.of(2022, 10, 18, 12, 0), winner, player2,
+                player1, player2, List.of(midHandGame().hands().get(0), lastHand), done);
+    }
+}
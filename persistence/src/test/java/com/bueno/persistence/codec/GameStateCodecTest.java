@@ -0,0 +1,114 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.codec;
+
+import com.bueno.persistence.GameDtoFixture;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.RoundDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class GameStateCodecTest {
+
+    private final GameDtoFixture fixture = new GameDtoFixture();
+    private final PlayerDto player1 = fixture.player1;
+    private final PlayerDto player2 = fixture.player2;
+
+    private void assertRoundTrip(GameDto dto) {
+        final GameDto decoded = GameStateCodec.decodeGame(GameStateCodec.encodeGame(dto));
+        assertThat(decoded).isEqualTo(dto);
+        assertPlayerState(decoded.player1(), dto.player1());
+        assertPlayerState(decoded.player2(), dto.player2());
+
+        final byte[] encodedHands = GameStateCodec.encodeHands(dto.hands(), dto.player1(), dto.player2());
+        final List<HandDto> decodedHands = GameStateCodec.decodeHands(encodedHands, dto.player1(), dto.player2());
+        for (int i = 0; i < dto.hands().size(); i++) {
+            final List<IntelDto> history = dto.hands().get(i).history();
+            final HandDto hand = dto.hands().get(i);
+            assertThat(decodedHands.get(i)).isEqualTo(new HandDto(hand.vira(), hand.dealtCards(), hand.openCards(),
+                    hand.roundsPlayed(), history.subList(Math.max(0, history.size() - 1), history.size()),
+                    hand.possibleActions(), hand.firstToPlay(), hand.lastToPlay(), hand.currentPlayer(),
+                    hand.lastBetRaiser(), hand.eventPlayer(), hand.cartToPlayAgainst(), hand.points(),
+                    hand.pointsProposal(), hand.winner(), hand.state()));
+        }
+    }
+
+    private void assertPlayerState(PlayerDto decoded, PlayerDto player) {
+        assertThat(decoded.username()).isEqualTo(player.username());
+        assertThat(decoded.score()).isEqualTo(player.score());
+        assertThat(decoded.isBot()).isEqualTo(player.isBot());
+        assertThat(decoded.cards()).isEqualTo(player.cards());
+    }
+
+    @Test
+    @DisplayName("Should round-trip a new game")
+    void shouldRoundTripANewGame() {
+        assertRoundTrip(fixture.newGame());
+    }
+
+    @Test
+    @DisplayName("Should round-trip a game in the middle of a hand with rounds and raises")
+    void shouldRoundTripAGameInTheMiddleOfAHandWithRoundsAndRaises() {
+        final GameDto dto = fixture.midHandGame();
+        assertThat(dto.hands().get(1).roundsPlayed()).hasSize(2);
+        assertRoundTrip(dto);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a finished game")
+    void shouldRoundTripAFinishedGame() {
+        final GameDto dto = fixture.finishedGame();
+        assertThat(dto.lastIntel().isGameDone()).isTrue();
+        assertRoundTrip(dto);
+    }
+
+    @Test
+    @DisplayName("Should throw if a card code is unknown")
+    void shouldThrowIfACardCodeIsUnknown() {
+        final byte[] data = {1, 0, 1, 99};
+        assertThatIllegalArgumentException().isThrownBy(() -> GameStateCodec.decodeHands(data, player1, player2));
+    }
+
+    @Test
+    @DisplayName("Should throw if a player reference is unknown")
+    void shouldThrowIfAPlayerReferenceIsUnknown() {
+        final byte[] data = {1, 0, 1, 0, 0, 0, 1, 7};
+        assertThatIllegalArgumentException().isThrownBy(() -> GameStateCodec.decodeHands(data, player1, player2));
+    }
+
+    @Test
+    @DisplayName("Should throw if a UUID reference is unknown")
+    void shouldThrowIfAUuidReferenceIsUnknown() {
+        final byte[] data = {1, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 7};
+        assertThatIllegalArgumentException().isThrownBy(() -> GameStateCodec.decodeHands(data, player1, player2));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.journal;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.persistence.GameDtoFixture;
+import com.bueno.persistence.codec.GameStateCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameJournalTest {
+
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 9;
+
+    @TempDir
+    Path directory;
+
+    //Each call is a different game, at the given number of actions into its second hand.
+    private GameDto game(int actions) {
+        return new GameDtoFixture().midHandGame(actions);
+    }
+
+    private static int recordBytes(GameDto game) {
+        return RECORD_HEADER_BYTES + GameStateCodec.encodeGame(game).length;
+    }
+
+    private List<UUID> uuidsOf(GameJournal journal) {
+        return journal.games().stream().map(GameDto::gameUuid).toList();
+    }
+
+    @Test
+    @DisplayName("Should recover games up to a torn tail and keep appending after it")
+    void shouldRecoverGamesUpToATornTailAndKeepAppendingAfterIt() throws IOException {
+        final GameDto first = game(1);
+        final GameDto second = game(2);
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            journal.put(first);
+            journal.put(second);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(GameJournal.JOURNAL_FILE).toFile(), "rw")) {
+            file.setLength(HEADER_BYTES + recordBytes(first) + recordBytes(second) / 2);
+        }
+
+        final GameDto third = game(3);
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            assertThat(uuidsOf(journal)).containsExactly(first.gameUuid());
+            journal.put(third);
+        }
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            assertThat(uuidsOf(journal)).containsExactlyInAnyOrder(first.gameUuid(), third.gameUuid());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop replaying at the first record with a wrong checksum")
+    void shouldStopReplayingAtTheFirstRecordWithAWrongChecksum() throws IOException {
+        final GameDto first = game(1);
+        final GameDto second = game(2);
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            journal.put(first);
+            journal.put(second);
+            journal.put(game(3));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(GameJournal.JOURNAL_FILE).toFile(), "rw")) {
+            final long payloadEnd = HEADER_BYTES + recordBytes(first) + recordBytes(second);
+            file.seek(payloadEnd - 1);
+            final int last = file.read();
+            file.seek(payloadEnd - 1);
+            file.write(last ^ 0xFF);
+        }
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            assertThat(uuidsOf(journal)).containsExactly(first.gameUuid());
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay the journal on top of the snapshot")
+    void shouldReplayTheJournalOnTopOfTheSnapshot() throws IOException {
+        final GameDto first = game(1);
+        final GameDto second = game(2);
+        final GameDto third = game(3);
+        try (GameJournal journal = GameJournal.open(directory, 2)) {
+            journal.put(first);
+            journal.put(second);
+            assertThat(directory.resolve(GameJournal.SNAPSHOT_FILE)).exists();
+            journal.put(third);
+            journal.delete(first.gameUuid());
+        }
+        try (GameJournal journal = GameJournal.open(directory, 2)) {
+            assertThat(uuidsOf(journal)).containsExactlyInAnyOrder(second.gameUuid(), third.gameUuid());
+            assertThat(journal.find(second.gameUuid())).contains(second);
+        }
+    }
+
+    @Test
+    @DisplayName("Should start a new journal when the snapshot is taken")
+    void shouldStartANewJournalWhenTheSnapshotIsTaken() throws IOException {
+        final GameDto first = game(1);
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            journal.put(first);
+            journal.snapshot();
+            final byte[] restarted = Files.readAllBytes(directory.resolve(GameJournal.JOURNAL_FILE));
+            assertThat(restarted[HEADER_BYTES]).isZero();
+            assertThat(directory.resolve(GameJournal.JOURNAL_FILE + ".next")).doesNotExist();
+            assertThat(directory.resolve(GameJournal.SNAPSHOT_FILE + ".tmp")).doesNotExist();
+            journal.put(first);
+        }
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            assertThat(uuidsOf(journal)).containsExactly(first.gameUuid());
+        }
+    }
+
+    @Test
+    @DisplayName("Should take a snapshot once the journal grows past the size threshold")
+    void shouldTakeASnapshotOnceTheJournalGrowsPastTheSizeThreshold() throws IOException {
+        final GameDto first = game(1);
+        try (GameJournal journal = GameJournal.open(directory, 100, HEADER_BYTES + 2L * recordBytes(first))) {
+            journal.put(first);
+            assertThat(directory.resolve(GameJournal.SNAPSHOT_FILE)).doesNotExist();
+            journal.put(first);
+            assertThat(directory.resolve(GameJournal.SNAPSHOT_FILE)).exists();
+        }
+    }
+
+    @Test
+    @DisplayName("Should take a journal without header as empty")
+    void shouldTakeAJournalWithoutHeaderAsEmpty() throws IOException {
+        Files.write(directory.resolve(GameJournal.JOURNAL_FILE), new byte[1 << 10]);
+        final GameDto first = game(1);
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            assertThat(journal.games()).isEmpty();
+            journal.put(first);
+        }
+        try (GameJournal journal = GameJournal.open(directory, 100)) {
+            assertThat(uuidsOf(journal)).containsExactly(first.gameUuid());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep appending records while the snapshot fails and take it once it can")
+    void shouldKeepAppendingRecordsWhileTheSnapshotFailsAndTakeItOnceItCan() throws IOException {
+        final GameDto first = game(1);
+        final GameDto second = game(2);
+        final GameDto third = game(3);
+        final Path blockedSnapshot = directory.resolve(GameJournal.SNAPSHOT_FILE + ".tmp");
+        try (GameJournal journal = GameJournal.open(directory, 2)) {
+            Files.createDirectories(blockedSnapshot.resolve("blocked"));
+            journal.put(first);
+            journal.put(second);
+            assertThat(directory.resolve(GameJournal.SNAPSHOT_FILE)).doesNotExist();
+
+            Files.delete(blockedSnapshot.resolve("blocked"));
+            Files.delete(blockedSnapshot);
+            journal.put(third);
+            assertThat(directory.resolve(GameJournal.SNAPSHOT_FILE)).exists();
+        }
+        try (GameJournal journal = GameJournal.open(directory, 2)) {
+            assertThat(uuidsOf(journal)).containsExactlyInAnyOrder(first.gameUuid(), second.gameUuid(), third.gameUuid());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.persistence.GameDtoFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class GameArchiveSegmentedImplTest {
+
+    private static final Path FIRST_SEGMENT = Path.of("games-000001.segment");
+    private static final int RAW_LENGTH_OFFSET = 20;
+
+    @TempDir
+    Path directory;
+
+    private GameDto game() {
+        return new GameDtoFixture().finishedGame();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(Path::getFileName).sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index from the segments on startup")
+    void shouldRebuildTheIndexFromTheSegmentsOnStartup() throws IOException {
+        final GameDto first = game();
+        final GameDto second = game();
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory)) {
+            archive.archive(first);
+            archive.archive(second);
+        }
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory)) {
+            assertThat(archive.findByGameUuid(first.gameUuid())).contains(first);
+            assertThat(archive.findByGameUuid(second.gameUuid())).contains(second);
+            assertThat(archive.findByGameUuid(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should roll over to a new segment once the current one is full")
+    void shouldRollOverToANewSegmentOnceTheCurrentOneIsFull() throws IOException {
+        final List<GameDto> games = List.of(game(), game(), game());
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory, 1)) {
+            games.forEach(archive::archive);
+        }
+        assertThat(segments()).hasSize(3);
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory, 1)) {
+            for (GameDto game : games) assertThat(archive.findByGameUuid(game.gameUuid())).contains(game);
+            final GameDto fourth = game();
+            archive.archive(fourth);
+            assertThat(archive.findByGameUuid(fourth.gameUuid())).contains(fourth);
+        }
+        assertThat(segments()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should truncate a torn record at the end of the last segment")
+    void shouldTruncateATornRecordAtTheEndOfTheLastSegment() throws IOException {
+        final GameDto first = game();
+        final long firstRecordEnd;
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory)) {
+            archive.archive(first);
+            firstRecordEnd = Files.size(directory.resolve(FIRST_SEGMENT));
+            archive.archive(game());
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(FIRST_SEGMENT).toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        final GameDto third = game();
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory)) {
+            assertThat(Files.size(directory.resolve(FIRST_SEGMENT))).isEqualTo(firstRecordEnd);
+            assertThat(archive.findByGameUuid(first.gameUuid())).contains(first);
+            archive.archive(third);
+        }
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory)) {
+            assertThat(archive.findByGameUuid(third.gameUuid())).contains(third);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not read an archived game that fails its checksum")
+    void shouldNotReadAnArchivedGameThatFailsItsChecksum() throws IOException {
+        final GameDto first = game();
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory)) {
+            archive.archive(first);
+            try (RandomAccessFile file = new RandomAccessFile(directory.resolve(FIRST_SEGMENT).toFile(), "rw")) {
+                file.seek(file.length() - 1);
+                final int last = file.read();
+                file.seek(file.length() - 1);
+                file.write(last ^ 0xFF);
+            }
+            assertThatIllegalStateException().isThrownBy(() -> archive.findByGameUuid(first.gameUuid()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop a last record whose game UUID was damaged instead of indexing it as another game")
+    void shouldDropALastRecordWhoseGameUuidWasDamagedInsteadOfIndexingItAsAnotherGame() throws IOException {
+        final GameDto first = game();
+        final GameDto second = game();
+        final long firstRecordEnd;
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory)) {
+            archive.archive(first);
+            firstRecordEnd = Files.size(directory.resolve(FIRST_SEGMENT));
+            archive.archive(second);
+        }
+        flipByteAt(FIRST_SEGMENT, firstRecordEnd);
+
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory)) {
+            assertThat(Files.size(directory.resolve(FIRST_SEGMENT))).isEqualTo(firstRecordEnd);
+            assertThat(archive.findByGameUuid(first.gameUuid())).contains(first);
+            assertThat(archive.findByGameUuid(second.gameUuid())).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not read a record of a full segment whose lengths were damaged")
+    void shouldNotReadARecordOfAFullSegmentWhoseLengthsWereDamaged() throws IOException {
+        final GameDto first = game();
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory, 1)) {
+            archive.archive(first);
+            archive.archive(game());
+        }
+        flipByteAt(FIRST_SEGMENT, RAW_LENGTH_OFFSET + 3);
+
+        try (GameArchiveSegmentedImpl archive = new GameArchiveSegmentedImpl(directory, 1)) {
+            assertThatIllegalStateException().isThrownBy(() -> archive.findByGameUuid(first.gameUuid()));
+        }
+    }
+
+    private void flipByteAt(Path segment, long position) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(segment).toFile(), "rw")) {
+            file.seek(position);
+            final int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0x01);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.persistence.GameDtoFixture;
+import com.bueno.persistence.dao.GameDao;
+import com.bueno.persistence.dao.IntelEventDao;
+import com.bueno.persistence.dao.PlayerDao;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.IntelEventEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameRepositoryImplTest {
+
+    @Mock private GameDao gameDao;
+    @Mock private PlayerDao playerDao;
+    @Mock private IntelEventDao intelEventDao;
+    @Mock private MongoOperations mongoOperations;
+    @Captor private ArgumentCaptor<List<IntelEventEntity>> events;
+    @Captor private ArgumentCaptor<GameEntity> game;
+
+    private final GameDtoFixture fixture = new GameDtoFixture();
+    private GameRepositoryImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GameRepositoryImpl(gameDao, playerDao, intelEventDao, mongoOperations);
+    }
+
+    private void storeAfter(GameDto dto, long eventSequence) {
+        final GameEntity stored = GameEntity.from(dto, false, eventSequence);
+        when(gameDao.findHistoryTimestampById(dto.gameUuid())).thenReturn(Optional.of(stored));
+    }
+
+    private List<String> idsOf(List<IntelEventEntity> events) {
+        return events.stream().map(IntelEventEntity::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Should write the intel events of a new game before the game itself")
+    void shouldWriteTheIntelEventsOfANewGameBeforeTheGameItself() {
+        final GameDto dto = fixture.midHandGame(2);
+        sut.save(dto);
+
+        final InOrder inOrder = inOrder(intelEventDao, gameDao);
+        inOrder.verify(intelEventDao).saveAll(events.capture());
+        inOrder.verify(gameDao).save(game.capture());
+        assertThat(events.getValue()).extracting(IntelEventEntity::getSequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(events.getValue()).extracting(IntelEventEntity::getHandIndex).containsExactly(0, 0, 0, 1, 1);
+        assertThat(idsOf(events.getValue())).startsWith(dto.gameUuid() + "/1");
+        assertThat(game.getValue().getEventSequence()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should append only the new intel of an updated game after the stored sequence")
+    void shouldAppendOnlyTheNewIntelOfAnUpdatedGameAfterTheStoredSequence() {
+        storeAfter(fixture.midHandGame(3), 6);
+        final GameDto dto = fixture.midHandGame(5);
+        sut.update(dto);
+
+        final InOrder inOrder = inOrder(intelEventDao, gameDao);
+        inOrder.verify(intelEventDao).saveAll(events.capture());
+        inOrder.verify(gameDao).save(game.capture());
+        assertThat(events.getValue()).extracting(event -> event.getIntel().getEvent()).containsExactly("PLAY", "PLAY");
+        assertThat(idsOf(events.getValue())).containsExactly(dto.gameUuid() + "/7", dto.gameUuid() + "/8");
+        assertThat(game.getValue().getEventSequence()).isEqualTo(8);
+        assertThat(game.getValue().getHistoryTimestamp()).isEqualTo(dto.lastIntel().timestamp());
+    }
+
+    @Test
+    @DisplayName("Should write the same events again when an update is retried after the game failed to be saved")
+    void shouldWriteTheSameEventsAgainWhenAnUpdateIsRetriedAfterTheGameFailedToBeSaved() {
+        storeAfter(fixture.midHandGame(3), 6);
+        when(gameDao.save(any())).thenThrow(new IllegalStateException("Write failed")).thenReturn(null);
+        final GameDto dto = fixture.midHandGame(5);
+
+        assertThatIllegalStateException().isThrownBy(() -> sut.update(dto));
+        sut.update(dto);
+
+        verify(intelEventDao, times(2)).saveAll(events.capture());
+        assertThat(idsOf(events.getAllValues().get(1))).isEqualTo(idsOf(events.getAllValues().get(0)));
+    }
+
+    @Test
+    @DisplayName("Should neither write events nor move the sequence when there is no new intel")
+    void shouldNeitherWriteEventsNorMoveTheSequenceWhenThereIsNoNewIntel() {
+        final GameDto dto = fixture.midHandGame(4);
+        storeAfter(dto, 7);
+        sut.update(dto);
+
+        verify(gameDao).save(game.capture());
+        verify(intelEventDao, never()).saveAll(any());
+        assertThat(game.getValue().getEventSequence()).isEqualTo(7);
+    }
+}
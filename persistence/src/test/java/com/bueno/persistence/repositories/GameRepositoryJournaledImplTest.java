@@ -0,0 +1,120 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import com.bueno.persistence.GameDtoFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class GameRepositoryJournaledImplTest {
+
+    @TempDir
+    Path directory;
+
+    private GameRepositoryJournaledImpl sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sut = new GameRepositoryJournaledImpl(directory, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    private void reopen() throws IOException {
+        sut.close();
+        sut = new GameRepositoryJournaledImpl(directory, 2);
+    }
+
+    @Test
+    @DisplayName("Should find saved and updated games by any of their players until they are deleted")
+    void shouldFindSavedAndUpdatedGamesByAnyOfTheirPlayersUntilTheyAreDeleted() {
+        final GameDtoFixture fixture = new GameDtoFixture();
+        sut.save(fixture.midHandGame(2));
+        final GameDto updated = fixture.midHandGame(5);
+        sut.update(updated);
+
+        assertThat(sut.findByPlayerUuid(fixture.player1.uuid())).contains(updated);
+        assertThat(sut.findByPlayerUuid(fixture.player2.uuid())).contains(updated);
+
+        sut.delete(updated.gameUuid());
+        assertThat(sut.findByPlayerUuid(fixture.player1.uuid())).isEmpty();
+        assertThat(sut.findByPlayerUuid(fixture.player2.uuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject saving an existing game and updating or deleting a missing one")
+    void shouldRejectSavingAnExistingGameAndUpdatingOrDeletingAMissingOne() {
+        final GameDtoFixture fixture = new GameDtoFixture();
+        final GameDto game = fixture.newGame();
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> sut.update(game));
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> sut.delete(game.gameUuid()));
+        sut.save(game);
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> sut.save(game));
+    }
+
+    @Test
+    @DisplayName("Should index the players of recovered games")
+    void shouldIndexThePlayersOfRecoveredGames() throws IOException {
+        final GameDtoFixture kept = new GameDtoFixture();
+        final GameDtoFixture deleted = new GameDtoFixture();
+        final GameDtoFixture updated = new GameDtoFixture();
+        sut.save(kept.newGame());
+        sut.save(deleted.newGame());
+        sut.save(updated.newGame());
+        sut.delete(deleted.gameUuid);
+        sut.update(updated.midHandGame());
+
+        reopen();
+        assertThat(sut.findByPlayerUuid(kept.player2.uuid())).contains(kept.newGame());
+        assertThat(sut.findByPlayerUuid(deleted.player1.uuid())).isEmpty();
+        assertThat(sut.findByPlayerUuid(updated.player1.uuid())).contains(updated.midHandGame());
+    }
+
+    @Test
+    @DisplayName("Should find only the games whose last intel is older than the inactivity period")
+    void shouldFindOnlyTheGamesWhoseLastIntelIsOlderThanTheInactivityPeriod() throws IOException {
+        final GameDto inactive = new GameDtoFixture(Instant.now().minus(Duration.ofMinutes(30))).midHandGame();
+        final GameDto active = new GameDtoFixture(Instant.now().minus(Duration.ofMinutes(1))).midHandGame();
+        sut.save(inactive);
+        sut.save(active);
+
+        assertThat(sut.findAllInactiveAfter(10)).containsExactly(inactive);
+        reopen();
+        assertThat(sut.findAllInactiveAfter(10)).containsExactly(inactive);
+        assertThat(sut.findAllInactiveAfter(0)).containsExactlyInAnyOrder(inactive, active);
+    }
+}
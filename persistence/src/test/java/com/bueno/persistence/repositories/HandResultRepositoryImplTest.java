@@ -0,0 +1,92 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+import com.bueno.persistence.dao.HandResultDao;
+import com.bueno.persistence.dto.HandResultEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HandResultRepositoryImplTest {
+
+    private static final int JANUARY = 202301;
+    private static final int MARCH = 202303;
+
+    @Mock private HandResultDao dao;
+    @InjectMocks private HandResultRepositoryImpl sut;
+
+    private HandResultEntity stored(long id, List<UUID> roundWinners) {
+        final HandResultEntity entity = HandResultEntity.from(new HandResultDto(0, "USER_BOT", UUID.randomUUID(),
+                null, 1, 0, roundWinners, List.of("4C", "AS", "AH", "KD", "2C"), Instant.parse("2023-02-10T10:15:30Z")));
+        entity.setId(id);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("Should keep a drawn round in place when reading a stored hand result")
+    void shouldKeepADrawnRoundInPlaceWhenReadingAStoredHandResult() {
+        final UUID winner = UUID.randomUUID();
+        final HandResultDto result = stored(1, Arrays.asList(null, winner)).toDto();
+        assertThat(result.roundWinners()).containsExactly(null, winner);
+    }
+
+    @Test
+    @DisplayName("Should count rounds from open cards for results stored without rounds played")
+    void shouldCountRoundsFromOpenCardsForResultsStoredWithoutRoundsPlayed() {
+        final UUID winner = UUID.randomUUID();
+        final HandResultEntity entity = stored(1, Arrays.asList(null, winner));
+        entity.setRoundsPlayed(null);
+        assertThat(entity.toDto().roundWinners()).containsExactly(null, winner);
+    }
+
+    @Test
+    @DisplayName("Should export every result by reading batches after the last exported id")
+    void shouldExportEveryResultByReadingBatchesAfterTheLastExportedId() {
+        final UUID winner = UUID.randomUUID();
+        when(dao.findTop1000ByMonthBucketBetweenAndIdGreaterThanOrderByIdAsc(JANUARY, MARCH, 0))
+                .thenReturn(List.of(stored(3, List.of(winner)), stored(5, Arrays.asList(null, winner))));
+        when(dao.findTop1000ByMonthBucketBetweenAndIdGreaterThanOrderByIdAsc(JANUARY, MARCH, 5))
+                .thenReturn(List.of(stored(8, List.of(winner))));
+        when(dao.findTop1000ByMonthBucketBetweenAndIdGreaterThanOrderByIdAsc(JANUARY, MARCH, 8))
+                .thenReturn(List.of());
+
+        final List<HandResultDto> exported = new ArrayList<>();
+        assertThat(sut.exportCreatedBetween(YearMonth.of(2023, 1), YearMonth.of(2023, 3), exported::add)).isEqualTo(3);
+        assertThat(exported).extracting(HandResultDto::id).containsExactly(3L, 5L, 8L);
+        assertThat(exported.get(1).roundWinners()).containsExactly(null, winner);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.user.UserRepository;
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRepositoryCachedImplTest {
+
+    @Mock private UserRepository delegate;
+
+    private UserRepositoryCachedImpl sut;
+    private ApplicationUserDto user;
+
+    @BeforeEach
+    void setUp() {
+        sut = new UserRepositoryCachedImpl(delegate, Duration.ofMinutes(5));
+        user = userOf(UUID.randomUUID());
+    }
+
+    private static ApplicationUserDto userOf(UUID uuid) {
+        return new ApplicationUserDto(uuid, "name-" + uuid, "password", uuid + "@email.com");
+    }
+
+    @Test
+    @DisplayName("Should find user in cache after the first load")
+    void shouldFindUserInCacheAfterTheFirstLoad() {
+        when(delegate.findByUsername(user.username())).thenReturn(Optional.of(user));
+
+        assertThat(sut.findByUsername(user.username())).contains(user);
+        assertThat(sut.findByUsername(user.username())).contains(user);
+        assertThat(sut.findByEmail(user.email())).contains(user);
+        assertThat(sut.findByUuid(user.uuid())).contains(user);
+        verify(delegate, times(1)).findByUsername(user.username());
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should load user again after the time to live expires")
+    void shouldLoadUserAgainAfterTheTimeToLiveExpires() {
+        sut = new UserRepositoryCachedImpl(delegate, Duration.ZERO);
+        when(delegate.findByUuid(user.uuid())).thenReturn(Optional.of(user));
+
+        sut.findByUuid(user.uuid());
+        assertThat(sut.findByUuid(user.uuid())).contains(user);
+        verify(delegate, times(2)).findByUuid(user.uuid());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used users with their username and email keys")
+    void shouldEvictLeastRecentlyUsedUsersWithTheirUsernameAndEmailKeys() {
+        when(delegate.findByUuid(any())).thenAnswer(invocation -> Optional.of(userOf(invocation.getArgument(0))));
+        when(delegate.findByUsername(user.username())).thenReturn(Optional.of(user));
+
+        sut.findByUsername(user.username());
+        for (int i = 0; i < UserRepositoryCachedImpl.MAX_CACHED_USERS; i++) sut.findByUuid(UUID.randomUUID());
+
+        assertThat(sut.cachedKeys()).isEqualTo(2 * UserRepositoryCachedImpl.MAX_CACHED_USERS);
+        sut.findByUsername(user.username());
+        verify(delegate, times(2)).findByUsername(user.username());
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached user on save")
+    void shouldInvalidateCachedUserOnSave() {
+        final ApplicationUserDto updated = new ApplicationUserDto(user.uuid(), user.username(), "new", user.email());
+        when(delegate.findByEmail(user.email())).thenReturn(Optional.of(user), Optional.of(updated));
+
+        sut.findByEmail(user.email());
+        sut.save(updated);
+
+        assertThat(sut.findByEmail(user.email())).contains(updated);
+        assertThat(sut.findByEmail(user.email()).orElseThrow().password()).isEqualTo("new");
+        verify(delegate).save(updated);
+        verify(delegate, times(2)).findByEmail(user.email());
+    }
+
+    @Test
+    @DisplayName("Should not cache user loaded while a save was running")
+    void shouldNotCacheUserLoadedWhileASaveWasRunning() {
+        when(delegate.findByUuid(user.uuid())).thenAnswer(invocation -> {
+            sut.save(user);
+            return Optional.of(user);
+        }).thenReturn(Optional.of(user));
+
+        sut.findByUuid(user.uuid());
+        sut.findByUuid(user.uuid());
+        sut.findByUuid(user.uuid());
+        verify(delegate, times(2)).findByUuid(user.uuid());
+    }
+
+    @Test
+    @DisplayName("Should not cache misses")
+    void shouldNotCacheMisses() {
+        when(delegate.findByUsername(user.username())).thenReturn(Optional.empty(), Optional.of(user));
+
+        assertThat(sut.findByUsername(user.username())).isEmpty();
+        assertThat(sut.findByUsername(user.username())).contains(user);
+        assertThat(sut.cachedKeys()).isEqualTo(2);
+    }
+}
@@ -75,6 +75,7 @@ public class ApplicationSecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers("/refresh-token").permitAll()
                 .antMatchers("/h2-console/**").permitAll()
                 .antMatchers("/register").permitAll()
+                .antMatchers("/actuator/health").permitAll()
                 .antMatchers("/api/v1/**").authenticated()
                 .anyRequest()
                 .authenticated();
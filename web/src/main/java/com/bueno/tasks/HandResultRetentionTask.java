@@ -0,0 +1,50 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.tasks;
+
+import com.bueno.domain.usecases.hand.ExportHandResultsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+@Component
+public class HandResultRetentionTask {
+
+    private static final Logger log = LoggerFactory.getLogger(HandResultRetentionTask.class);
+    private static final int RETENTION_MONTHS = 12;
+
+    private final ExportHandResultsUseCase handResultsUseCase;
+
+    public HandResultRetentionTask(ExportHandResultsUseCase handResultsUseCase) {
+        this.handResultsUseCase = handResultsUseCase;
+    }
+
+    @Scheduled(cron = "0 0 4 * * *", zone = "UTC")
+    public void removeExpiredHandResults() {
+        final YearMonth oldestKept = YearMonth.now(ZoneOffset.UTC).minusMonths(RETENTION_MONTHS - 1);
+        final long removed = handResultsUseCase.removeCreatedBefore(oldestKept);
+        log.info("Removed {} hand results created before {}.", removed, oldestKept);
+    }
+}